@@ -177,6 +177,12 @@ public class OperationGenerator {
         classContent.append("        this.httpClient = new AzureHttpClient(credentials, strictMode);\n");
         classContent.append("    }\n\n");
 
+        classContent.append("    public ").append(className).append("(AzureCredentials credentials, AzureSdkRuntime runtime, boolean strictMode) {\n");
+        classContent.append("        this.httpClient = new AzureHttpClient(credentials, runtime, strictMode);\n");
+        classContent.append("    }\n\n");
+
+        generateWarmUpMethod(classContent, getOperations);
+
         // Generate methods for GET operations
         for (Operation operation : getOperations) {
             generateOperationMethod(classContent, operation);
@@ -191,6 +197,31 @@ public class OperationGenerator {
         Files.writeString(filePath, classContent.toString());
     }
 
+    private void generateWarmUpMethod(StringBuilder classContent, List<Operation> operations) {
+        Set<String> responseTypes = new TreeSet<>();
+        for (Operation operation : operations) {
+            String returnType = getReturnType(operation);
+            if (!"Object".equals(returnType)) {
+                responseTypes.add(returnType);
+            }
+        }
+
+        classContent.append("    /**\n");
+        classContent.append("     * Pre-builds the JSON deserializers of every response type of this client so the first\n");
+        classContent.append("     * request does not pay for them.\n");
+        classContent.append("     */\n");
+        classContent.append("    public void warmUp() {\n");
+        if (!responseTypes.isEmpty()) {
+            classContent.append("        httpClient.warmUp(\n");
+            Iterator<String> iterator = responseTypes.iterator();
+            while (iterator.hasNext()) {
+                classContent.append("            ").append(iterator.next()).append(".class");
+                classContent.append(iterator.hasNext() ? ",\n" : ");\n");
+            }
+        }
+        classContent.append("    }\n\n");
+    }
+
     private void generateOperationMethod(StringBuilder classContent, Operation operation) {
         String methodName = convertOperationIdToMethodName(operation.operationId());
         String returnType = getReturnType(operation);
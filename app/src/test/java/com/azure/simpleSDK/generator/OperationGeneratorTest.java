@@ -145,8 +145,10 @@ class OperationGeneratorTest {
         // Verify class declaration
         assertThat(generatedContent).contains("public class AzureSimpleSDKClient");
         
-        // Verify constructor
+        // Verify constructors
         assertThat(generatedContent).contains("public AzureSimpleSDKClient(AzureCredentials credentials)");
+        assertThat(generatedContent).contains("public AzureSimpleSDKClient(AzureCredentials credentials, AzureSdkRuntime runtime, boolean strictMode)");
+        assertThat(generatedContent).contains("this.httpClient = new AzureHttpClient(credentials, runtime, strictMode);");
         
         // Verify HTTP client field
         assertThat(generatedContent).contains("private final AzureHttpClient httpClient;");
@@ -325,11 +327,29 @@ class OperationGeneratorTest {
         long methodCount = generatedContent.lines()
             .filter(line -> line.trim().startsWith("public ") && line.contains("("))
             .filter(line -> !line.contains("AzureSimpleSDKClient(")) // Exclude constructor
+            .filter(line -> !line.contains("warmUp(")) // Exclude warm-up method
             .count();
         
         assertThat(methodCount).isEqualTo(4); // Four GET operations from test data
     }
     
+    @Test
+    @DisplayName("Should generate warm-up method for every response type")
+    void testGenerateWarmUpMethod() throws IOException {
+        Path clientFile = tempDir.resolve("AzureSimpleSDKClient.java");
+        
+        generator.generateAzureClient(tempDir.toString());
+        String generatedContent = Files.readString(clientFile);
+        
+        // Response types are listed once each, in sorted order
+        assertThat(generatedContent).contains("public void warmUp() {");
+        assertThat(generatedContent).contains(
+            "        httpClient.warmUp(\n"
+            + "            User.class,\n"
+            + "            UserListResult.class,\n"
+            + "            UserProfileListResult.class);\n");
+    }
+    
     private String extractMethodContent(String content, String methodName) {
         int start = content.indexOf("public AzureResponse<") + content.substring(content.indexOf("public AzureResponse<")).indexOf(methodName);
         int end = content.indexOf("}", start) + 1;
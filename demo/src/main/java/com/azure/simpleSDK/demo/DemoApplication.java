@@ -19,6 +19,7 @@ import com.azure.simpleSDK.graph.models.GraphAppRoleAssignment;
 import com.azure.simpleSDK.graph.models.GraphServicePrincipal;
 import com.azure.simpleSDK.http.AzureHttpClient;
 import com.azure.simpleSDK.http.AzureResponse;
+import com.azure.simpleSDK.http.AzureSdkRuntime;
 import com.azure.simpleSDK.http.auth.AzureCredentials;
 import com.azure.simpleSDK.http.auth.ServicePrincipalCredentials;
 import com.azure.simpleSDK.http.exceptions.AzureException;
@@ -115,6 +116,8 @@ public class DemoApplication {
         principalObjectId = props.getProperty("azure.principal-object-id");
 
         boolean playbackMode = recorderMode == HttpInteractionRecorder.Mode.PLAYBACK;
+        // One connection pool and set of mappers for Graph, the credentials and all ARM clients
+        AzureSdkRuntime runtime = AzureSdkRuntime.getDefault();
 
         if (subscriptionId == null || subscriptionId.isBlank()) {
             System.err.println("Missing azure.subscription-id in azure.properties.");
@@ -140,7 +143,7 @@ public class DemoApplication {
         }
 
         if (!playbackMode) {
-            graphClient = new MicrosoftGraphClient(clientId, clientSecret, tenantId);
+            graphClient = new MicrosoftGraphClient(clientId, clientSecret, tenantId, runtime);
         } else {
             graphClient = null;
             System.out.println("Playback mode: Microsoft Graph lookups are disabled.");
@@ -160,7 +163,7 @@ public class DemoApplication {
         
         // Create credentials
         if (!playbackMode) {
-            credentials = new ServicePrincipalCredentials(clientId, clientSecret, tenantId);
+            credentials = new ServicePrincipalCredentials(clientId, clientSecret, tenantId, runtime);
         } else {
             credentials = new PlaybackCredentials();
         }
@@ -174,10 +177,10 @@ public class DemoApplication {
         System.out.println();
         
         // Create separate clients for Network, Compute, and Resources services
-        networkClient = new AzureNetworkClient(credentials, strictMode);
-        computeClient = new AzureComputeClient(credentials, strictMode);
-        resourcesClient = new AzureResourcesClient(credentials, strictMode);
-        authorizationClient = new AzureAuthorizationClient(credentials, strictMode);
+        networkClient = new AzureNetworkClient(credentials, runtime, strictMode);
+        computeClient = new AzureComputeClient(credentials, runtime, strictMode);
+        resourcesClient = new AzureResourcesClient(credentials, runtime, strictMode);
+        authorizationClient = new AzureAuthorizationClient(credentials, runtime, strictMode);
     }
 
     private static void parseCommandLine(String[] args) {
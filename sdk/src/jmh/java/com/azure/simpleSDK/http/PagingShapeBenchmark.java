@@ -0,0 +1,81 @@
+package com.azure.simpleSDK.http;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-page paging metadata work done by {@link AzureHttpClient}: the original reflective
+ * lookups (getMethod, getGenericReturnType, getConstructors and Method.invoke on every call) against the
+ * cached {@link PagingShape} method handles.
+ *
+ * <p>Run with {@code ./gradlew :sdk:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagingShapeBenchmark {
+
+    public record Item(String id) {
+    }
+
+    public record ItemListResult(List<Item> value, String nextLink) {
+    }
+
+    private ItemListResult page;
+
+    @Setup
+    public void setUp() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new Item("item" + i));
+        }
+        page = new ItemListResult(items, "https://management.azure.com/items?$skiptoken=next");
+    }
+
+    @Benchmark
+    public Object reflectivePerPage() throws Exception {
+        Class<?> type = page.getClass();
+        // isPaginatedListResult
+        Method valueMethod = type.getMethod("value");
+        type.getMethod("nextLink");
+        Type returnType = valueMethod.getGenericReturnType();
+        if (!(returnType instanceof ParameterizedType paramType)
+            || !List.class.isAssignableFrom((Class<?>) paramType.getRawType())) {
+            return null;
+        }
+        // handlePaginationInline / combinePagedResults
+        Method nextLinkMethod = type.getMethod("nextLink");
+        String nextLink = (String) nextLinkMethod.invoke(page);
+        List<?> items = (List<?>) type.getMethod("value").invoke(page);
+        return type.getConstructors()[0].newInstance(items, nextLink);
+    }
+
+    @Benchmark
+    public Object cachedShapePerPage() throws Exception {
+        PagingShape shape = PagingShape.of(page.getClass());
+        if (!shape.isPaginated()) {
+            return null;
+        }
+        String nextLink = shape.nextLink(page);
+        List<Object> items = shape.value(page);
+        return nextLink == null ? null : shape.combine(page, items);
+    }
+}
@@ -2,6 +2,7 @@ package com.azure.simpleSDK.graph.client;
 
 import com.azure.simpleSDK.graph.models.GraphAppRoleAssignment;
 import com.azure.simpleSDK.graph.models.GraphServicePrincipal;
+import com.azure.simpleSDK.http.AzureSdkRuntime;
 import com.azure.simpleSDK.http.auth.ServicePrincipalCredentials;
 import com.azure.simpleSDK.http.exceptions.AzureAuthenticationException;
 import com.azure.simpleSDK.http.exceptions.AzureException;
@@ -29,17 +30,22 @@ public class MicrosoftGraphClient {
     private final HttpClient httpClient;
     private final ServicePrincipalCredentials credentials;
     private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
 
     public MicrosoftGraphClient(String clientId, String clientSecret, String tenantId) {
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
+        this(clientId, clientSecret, tenantId, AzureSdkRuntime.getDefault());
+    }
+
+    public MicrosoftGraphClient(String clientId, String clientSecret, String tenantId, AzureSdkRuntime runtime) {
+        this.httpClient = runtime.getHttpClient();
         this.credentials = new ServicePrincipalCredentials(
             clientId,
             clientSecret,
             tenantId,
-            "https://graph.microsoft.com/.default");
-        this.objectMapper = new ObjectMapper();
+            "https://graph.microsoft.com/.default",
+            runtime);
+        this.objectMapper = runtime.getObjectMapper(false);
+        this.requestTimeout = runtime.getTransportOptions().getRequestTimeout();
     }
 
     /**
@@ -112,7 +118,7 @@ public class MicrosoftGraphClient {
         try {
             HttpRequest request = HttpRequest.newBuilder()
                 .uri(URI.create(url))
-                .timeout(Duration.ofSeconds(30))
+                .timeout(requestTimeout)
                 .header("Authorization", "Bearer " + acquireToken())
                 .header("Accept", "application/json")
                 .GET()
@@ -0,0 +1,121 @@
+package com.azure.simpleSDK.http;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the parts of Azure Resource Manager URLs that client-side traffic control is keyed by.
+ */
+public final class ArmUrls {
+    private static final String SUBSCRIPTIONS_SEGMENT = "/subscriptions/";
+    private static final String PROVIDERS_SEGMENT = "/providers/";
+    private static final String RESOURCES_PROVIDER = "microsoft.resources";
+    private static final Pattern ID_SEGMENT = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|\\d+");
+
+    private ArmUrls() {
+    }
+
+    /**
+     * @return the lower-cased subscription id from {@code /subscriptions/{id}/...}, or {@code null}.
+     */
+    public static String subscriptionId(URI uri) {
+        String path = uri.getPath();
+        if (path == null) {
+            return null;
+        }
+        int start = path.toLowerCase(Locale.ROOT).indexOf(SUBSCRIPTIONS_SEGMENT);
+        if (start < 0) {
+            return null;
+        }
+        start += SUBSCRIPTIONS_SEGMENT.length();
+        int end = path.indexOf('/', start);
+        String id = end < 0 ? path.substring(start) : path.substring(start, end);
+        return id.isEmpty() ? null : id.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Resource provider namespace of an ARM URL, lower-cased. Extension resources belong to the last
+     * provider in the path; subscription and resource group operations to {@code microsoft.resources}; URLs
+     * outside ARM to their host.
+     */
+    public static String resourceProvider(URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath().toLowerCase(Locale.ROOT);
+        int start = path.lastIndexOf(PROVIDERS_SEGMENT);
+        if (start >= 0) {
+            start += PROVIDERS_SEGMENT.length();
+            int end = path.indexOf('/', start);
+            String namespace = end < 0 ? path.substring(start) : path.substring(start, end);
+            if (!namespace.isEmpty()) {
+                return namespace;
+            }
+        }
+        if (path.startsWith("/subscriptions") || path.startsWith("/tenants")) {
+            return RESOURCES_PROVIDER;
+        }
+        return host(uri);
+    }
+
+    /**
+     * @return the host and resource provider, e.g. {@code management.azure.com/microsoft.network}.
+     */
+    public static String endpoint(URI uri) {
+        return host(uri) + "/" + resourceProvider(uri);
+    }
+
+    /**
+     * Path of an ARM URL with the names of subscriptions, resource groups and resources replaced by
+     * placeholders, lower-cased and without the query, e.g.
+     * {@code /subscriptions/{subscriptionId}/resourcegroups/{resourceGroupName}/providers/microsoft.network/networksecuritygroups/{name}}.
+     * Requests for the same kind of resource share one template, which keeps per-operation metrics bounded.
+     */
+    public static String operation(URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath().toLowerCase(Locale.ROOT);
+        StringBuilder template = new StringBuilder(path.length());
+        String placeholder = null;
+        boolean inProvider = false;
+        boolean namespaceNext = false;
+        boolean resourceName = false;
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/');
+            if (placeholder != null) {
+                template.append(placeholder);
+                placeholder = null;
+            } else if (namespaceNext) {
+                template.append(segment);
+                namespaceNext = false;
+                inProvider = true;
+                resourceName = false;
+            } else if (segment.equals("providers")) {
+                template.append(segment);
+                namespaceNext = true;
+            } else if (inProvider && resourceName) {
+                template.append("{name}");
+                resourceName = false;
+            } else if (ID_SEGMENT.matcher(segment).matches()) {
+                template.append("{id}");
+            } else {
+                template.append(segment);
+                resourceName = inProvider;
+                placeholder = switch (segment) {
+                    case "subscriptions" -> "{subscriptionId}";
+                    case "resourcegroups" -> "{resourceGroupName}";
+                    case "managementgroups" -> "{groupId}";
+                    case "tenants" -> "{tenantId}";
+                    default -> null;
+                };
+                if (placeholder != null) {
+                    resourceName = false;
+                }
+            }
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    private static String host(URI uri) {
+        return uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+    }
+}
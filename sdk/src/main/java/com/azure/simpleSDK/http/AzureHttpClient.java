@@ -1,42 +1,90 @@
 package com.azure.simpleSDK.http;
 
 import com.azure.simpleSDK.http.auth.AzureCredentials;
+import com.azure.simpleSDK.http.cache.ResponseCache;
 import com.azure.simpleSDK.http.exceptions.*;
-import com.azure.simpleSDK.http.retry.ExponentialBackoffStrategy;
+import com.azure.simpleSDK.http.diagnostics.NPlusOneDetector;
+import com.azure.simpleSDK.http.jfr.DeserializationEvent;
+import com.azure.simpleSDK.http.jfr.HttpAttemptEvent;
+import com.azure.simpleSDK.http.jfr.PageEvent;
+import com.azure.simpleSDK.http.jfr.RetryDelayEvent;
+import com.azure.simpleSDK.http.metrics.SdkMetrics;
+import com.azure.simpleSDK.http.retry.HedgingPolicy;
+import com.azure.simpleSDK.http.retry.RetryBudget;
 import com.azure.simpleSDK.http.retry.RetryPolicy;
 import com.azure.simpleSDK.http.recording.HttpInteractionRecorder;
+import com.azure.simpleSDK.http.throttling.AdaptiveConcurrencyLimiter;
+import com.azure.simpleSDK.http.throttling.ArmRateLimiter;
+import com.azure.simpleSDK.http.throttling.CircuitBreaker;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class AzureHttpClient {
     private static final String AZURE_MANAGEMENT_BASE_URL = "https://management.azure.com";
+    private static final int MAX_INLINE_PAGES = 50;
+    // Retry reasons recorded for failures without a status code
+    private static final String TIMEOUT = "timeout";
+    private static final String NETWORK_ERROR = "network_error";
+    // Polls of an accepted (202) batch before giving up and sending its requests individually
+    private static final int MAX_BATCH_POLLS = 30;
     private static volatile HttpInteractionRecorder globalRecorder;
     
     private final HttpClient httpClient;
     private final AzureCredentials credentials;
     private final ObjectMapper objectMapper;
     private final RetryPolicy retryPolicy;
-    private final ExponentialBackoffStrategy backoffStrategy;
+    private final RetryBudget retryBudget;
     private final boolean failOnUnknownProperties;
     private final HttpInteractionRecorder recorder;
+    private final Executor executor;
+    private final AzureSdkRuntime runtime;
+    private final boolean responseCompression;
+    private final ResponseCache responseCache;
+    private final InFlightRequests inFlightRequests;
+    private final ArmRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final HedgingPolicy hedgingPolicy;
+    private final RequestBatcher requestBatcher;
+    private final boolean automaticBatching;
+    private final SdkMetrics metrics;
+    private final NPlusOneDetector nPlusOneDetector;
 
     public static void setGlobalRecorder(HttpInteractionRecorder recorder) {
         globalRecorder = recorder;
@@ -71,24 +119,90 @@ public class AzureHttpClient {
     }
 
     public AzureHttpClient(AzureCredentials credentials, RetryPolicy retryPolicy, boolean failOnUnknownProperties, HttpInteractionRecorder recorder) {
+        this(credentials, AzureSdkRuntime.getDefault(), retryPolicy, failOnUnknownProperties, recorder);
+    }
+
+    public AzureHttpClient(AzureCredentials credentials, AzureSdkRuntime runtime) {
+        this(credentials, runtime, RetryPolicy.DEFAULT, false, null);
+    }
+
+    public AzureHttpClient(AzureCredentials credentials, AzureSdkRuntime runtime, boolean failOnUnknownProperties) {
+        this(credentials, runtime, RetryPolicy.DEFAULT, failOnUnknownProperties, null);
+    }
+
+    /**
+     * Creates a client on top of the connection pool, mappers and executor of {@code runtime}; the
+     * constructors without a runtime use {@link AzureSdkRuntime#getDefault()}.
+     */
+    public AzureHttpClient(AzureCredentials credentials, AzureSdkRuntime runtime, RetryPolicy retryPolicy,
+                           boolean failOnUnknownProperties, HttpInteractionRecorder recorder) {
         this.credentials = credentials;
         this.retryPolicy = retryPolicy;
         this.failOnUnknownProperties = failOnUnknownProperties;
         this.recorder = recorder != null ? recorder : globalRecorder;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, failOnUnknownProperties);
-        this.backoffStrategy = new ExponentialBackoffStrategy();
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
+        this.objectMapper = runtime.getObjectMapper(failOnUnknownProperties);
+        this.retryBudget = runtime.getRetryBudget();
+        this.httpClient = runtime.getHttpClient();
+        this.executor = runtime.getExecutor();
+        this.runtime = runtime;
+        this.responseCompression = runtime.isResponseCompressionEnabled();
+        this.responseCache = runtime.getResponseCache();
+        this.inFlightRequests = runtime.getInFlightRequests();
+        this.rateLimiter = runtime.getRateLimiter();
+        this.concurrencyLimiter = runtime.getConcurrencyLimiter();
+        this.circuitBreaker = runtime.getCircuitBreaker();
+        this.hedgingPolicy = runtime.getHedgingPolicy();
+        this.metrics = runtime.getMetrics();
+        this.nPlusOneDetector = runtime.getNPlusOneDetector();
+        BatchOptions batchOptions = runtime.getBatchOptions();
+        this.automaticBatching = batchOptions != null;
+        this.requestBatcher = new RequestBatcher(this, batchOptions != null ? batchOptions : BatchOptions.DEFAULT, executor);
+    }
+
+    /**
+     * Builds and caches the deserializers of the given response types ahead of the first request. For
+     * list results the item type read by {@link #stream} is prepared as well.
+     */
+    public void warmUp(Class<?>... responseTypes) {
+        for (Class<?> responseType : responseTypes) {
+            readerFor(responseType);
+            PagingShape shape = PagingShape.of(responseType);
+            if (shape.isPaginated()) {
+                readerFor(shape.itemType());
+            }
+        }
     }
 
     public AzureRequest get(String url) {
-        return new AzureRequest("GET", buildFullUrl(url), credentials, objectMapper);
+        return newRequest("GET", url);
     }
 
     public AzureRequest post(String url) {
-        return new AzureRequest("POST", buildFullUrl(url), credentials, objectMapper);
+        return newRequest("POST", url);
+    }
+
+    /**
+     * Starts collecting GET requests to send through ARM's {@code /batch} endpoint, which answers many of
+     * them in one round trip.
+     */
+    public RequestBatch newBatch() {
+        return new RequestBatch(requestBatcher);
+    }
+
+    /**
+     * @return the runtime whose connection pool, mappers and executor this client uses.
+     */
+    public AzureSdkRuntime getRuntime() {
+        return runtime;
+    }
+
+    private AzureRequest newRequest(String method, String url) {
+        AzureRequest request = new AzureRequest(method, buildFullUrl(url), credentials, objectMapper,
+            runtime.getTransportOptions().getRequestTimeout());
+        if (responseCompression) {
+            request.header("Accept-Encoding", ContentDecoding.ACCEPT_ENCODING);
+        }
+        return request;
     }
 
     private String buildFullUrl(String url) {
@@ -99,57 +213,277 @@ public class AzureHttpClient {
     }
 
     public <T> AzureResponse<T> execute(AzureRequest azureRequest, Class<T> responseType) throws AzureException {
-        HttpRequest request = azureRequest.build();
+        return executeInline(azureRequest, responseType, MAX_INLINE_PAGES, retryPolicy);
+    }
+
+    /**
+     * Same as {@link #execute(AzureRequest, Class)} but with an explicit page limit for list results,
+     * which are otherwise combined from at most 50 pages.
+     */
+    public <T> AzureResponse<T> execute(AzureRequest azureRequest, Class<T> responseType, PagingOptions pagingOptions) throws AzureException {
+        return executeInline(azureRequest, responseType, pagingOptions.getMaxPages(), retryPolicy);
+    }
+
+    /**
+     * Same as {@link #execute(AzureRequest, Class)} but retries the request according to
+     * {@code customRetryPolicy} instead of the client's policy.
+     */
+    public <T> AzureResponse<T> execute(AzureRequest azureRequest, Class<T> responseType, RetryPolicy customRetryPolicy) throws AzureException {
+        return executeInline(azureRequest, responseType, MAX_INLINE_PAGES, customRetryPolicy);
+    }
+
+    private <T> AzureResponse<T> executeInline(AzureRequest azureRequest, Class<T> responseType, int maxPages, RetryPolicy policy) throws AzureException {
+        RequestTimings timings = new RequestTimings();
+        try {
+            HttpRequest request = azureRequest.build(timings);
+            recordCall(request);
+            String serializedBody = azureRequest.getSerializedBody();
+            CancellationToken cancellation = azureRequest.getCancellation();
+            // A call with its own deadline is not coalesced: cancelling it would fail every caller sharing the send
+            if (inFlightRequests != null && cancellation == null && "GET".equals(request.method())) {
+                InFlightRequests.Key key = InFlightRequests.key(credentials, responseType, maxPages, policy, azureRequest.getHeaders(),
+                    request.uri());
+                return inFlightRequests.execute(key, () -> executeBuilt(request, serializedBody, responseType, maxPages, policy, null, timings));
+            }
+            return executeBuilt(request, serializedBody, responseType, maxPages, policy, cancellation, timings);
+        } finally {
+            timings.finish();
+        }
+    }
+
+    private <T> AzureResponse<T> executeBuilt(HttpRequest request, String serializedBody, Class<T> responseType, int maxPages,
+                                              RetryPolicy policy, CancellationToken cancellation, RequestTimings timings) throws AzureException {
+        if (isBatchable(request, responseType, maxPages, policy, cancellation)) {
+            return RequestBatcher.await(requestBatcher.submit(request, responseType));
+        }
+        if (!isCacheable(request, responseType)) {
+            HttpCallResult result = sendWithRetries(request, serializedBody, policy, cancellation, timings);
+            return toResponse(request, result, responseType, maxPages, cancellation, timings);
+        }
+        return executeWithCache(request, serializedBody, responseType, policy, cancellation, timings);
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute(AzureRequest, Class)}. The request is sent with
+     * {@link HttpClient#sendAsync}, retries are scheduled on a timer instead of sleeping and follow-up
+     * pages are chained onto the returned future, so no thread is held while waiting on Azure. Like the
+     * blocking variant it uses the runtime's response cache, request coalescing and batching when enabled.
+     *
+     * <p>The future completes exceptionally with the same {@link AzureException} subtypes the blocking
+     * variant throws (wrapped in a {@link CompletionException} when observed through {@code join}).
+     */
+    public <T> CompletableFuture<AzureResponse<T>> executeAsync(AzureRequest azureRequest, Class<T> responseType) {
+        RequestTimings timings = new RequestTimings();
+        HttpRequest request;
+        try {
+            request = azureRequest.build(timings);
+        } catch (AzureException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        recordCall(request);
+
+        String serializedBody = azureRequest.getSerializedBody();
+        CancellationToken cancellation = azureRequest.getCancellation();
+        CompletableFuture<AzureResponse<T>> response;
+        if (inFlightRequests != null && cancellation == null && "GET".equals(request.method())) {
+            InFlightRequests.Key key = InFlightRequests.key(credentials, responseType, MAX_INLINE_PAGES, retryPolicy,
+                azureRequest.getHeaders(), request.uri());
+            response = inFlightRequests.executeAsync(key, () -> executeBuiltAsync(request, serializedBody, responseType, null, timings));
+        } else {
+            response = executeBuiltAsync(request, serializedBody, responseType, cancellation, timings);
+        }
+        return response.whenComplete((result, error) -> timings.finish());
+    }
+
+    private <T> CompletableFuture<AzureResponse<T>> executeBuiltAsync(HttpRequest request, String serializedBody, Class<T> responseType,
+                                                                      CancellationToken cancellation, RequestTimings timings) {
+        if (isBatchable(request, responseType, MAX_INLINE_PAGES, retryPolicy, cancellation)) {
+            return requestBatcher.submit(request, responseType);
+        }
+        if (isCacheable(request, responseType)) {
+            return executeWithCacheAsync(request, serializedBody, responseType, cancellation, timings);
+        }
+        return sendWithRetriesAsync(request, serializedBody, retryPolicy, cancellation, timings, 1, Duration.ZERO)
+            .thenCompose(result -> toResponseAsync(request, result, responseType, cancellation, timings));
+    }
+
+    /**
+     * Non-blocking {@link #toResponse}: the following pages of a list result are chained onto the returned future.
+     */
+    private <T> CompletableFuture<AzureResponse<T>> toResponseAsync(HttpRequest request, HttpCallResult result, Class<T> responseType,
+                                                                    CancellationToken cancellation, RequestTimings timings) {
+        try {
+            T responseBody = deserializeBody(request, result, responseType, timings);
+            if (responseBody != null && isPaginatedListResult(responseType)) {
+                return handlePaginationAsync(responseBody, responseType, result.statusCode(), result.headers(), result.body(),
+                    cancellation, timings);
+            }
+            return CompletableFuture.completedFuture(
+                new AzureResponse<>(result.statusCode(), result.headers(), responseBody, result.body(), timings));
+        } catch (AzureException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Lazily streams the pages of a list result. The first page is requested when the stream is first
+     * consumed and each following {@code nextLink} page only once the previous one has been handed out,
+     * so pages can be garbage collected as soon as the caller is done with them.
+     *
+     * <p>With {@link PagingOptions#isPrefetchEnabled() read-ahead} enabled the following pages are fetched
+     * on a worker while the caller consumes the current one; close the stream when abandoning it early.
+     * Failures surface as {@link UncheckedAzureException} from the stream's terminal operation.
+     */
+    public <T> Stream<T> streamPages(AzureRequest azureRequest, Class<T> listResultType) {
+        return streamPages(azureRequest, listResultType, PagingOptions.DEFAULT);
+    }
+
+    public <T> Stream<T> streamPages(AzureRequest azureRequest, Class<T> listResultType, PagingOptions pagingOptions) {
+        PagingShape shape = requirePagingShape(listResultType);
+        PagedIterator.PageLoader<T> firstPageLoader = ignored -> fetchPage(azureRequest, listResultType);
+        PagedIterator.PageLoader<T> nextPageLoader =
+            nextLink -> fetchPage(nextPageRequest(nextLink, azureRequest.getCancellation()), listResultType);
+        PagedIterator.NextLinkAccessor<T> nextLinkAccessor = shape::nextLink;
+
+        if (pagingOptions.isPrefetchEnabled()) {
+            PrefetchingPagedIterator<T> pages =
+                new PrefetchingPagedIterator<>(firstPageLoader, nextPageLoader, nextLinkAccessor, pagingOptions,
+                    runtime.getPrefetchExecutor());
+            return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::close);
+        }
+
+        PagedIterator<T> pages = new PagedIterator<>(firstPageLoader, nextPageLoader, nextLinkAccessor, pagingOptions);
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Lazily streams the items of a list result across all of its pages, e.g.
+     * {@code Stream<NetworkInterface> nics = client.stream(request, NetworkInterfaceListResult.class)}.
+     *
+     * <p>Without read-ahead, items are parsed one at a time straight from the response byte stream, so a
+     * page is never buffered as a whole; close the stream when abandoning it early to release the
+     * connection. With read-ahead enabled whole pages are fetched in the background instead.
+     *
+     * @see #streamPages(AzureRequest, Class)
+     */
+    public <T, I> Stream<I> stream(AzureRequest azureRequest, Class<T> listResultType) {
+        return stream(azureRequest, listResultType, PagingOptions.DEFAULT);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T, I> Stream<I> stream(AzureRequest azureRequest, Class<T> listResultType, PagingOptions pagingOptions) {
+        PagingShape shape = requirePagingShape(listResultType);
+
+        if (!pagingOptions.isPrefetchEnabled()) {
+            ObjectReader itemReader = readerFor(shape.itemType());
+            StreamingListIterator<I> items = new StreamingListIterator<>(
+                nextLink -> openStreamingPage(
+                    nextLink == null ? azureRequest : nextPageRequest(nextLink, azureRequest.getCancellation()), itemReader),
+                pagingOptions);
+            return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(items, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(items::close);
+        }
+
+        return streamPages(azureRequest, listResultType, pagingOptions).flatMap(page -> {
+            try {
+                List<I> items = (List<I>) (List<?>) shape.value(page);
+                return items == null ? Stream.empty() : items.stream();
+            } catch (AzureException e) {
+                throw new UncheckedAzureException(e);
+            }
+        });
+    }
+
+    private <T> PagedIterator.LoadedPage<T> fetchPage(AzureRequest azureRequest, Class<T> listResultType) throws AzureException {
+        PageEvent event = PageEvent.start();
+        RequestTimings timings = new RequestTimings();
+        HttpRequest request = azureRequest.build(timings);
+        recordCall(request);
+        HttpCallResult result = sendWithRetries(request, azureRequest.getSerializedBody(), retryPolicy, azureRequest.getCancellation(), timings);
+        T page = deserializeBody(request, result, listResultType, timings);
+        long length = utf8Length(result.body());
+        recordPage();
+        event.complete(request.uri().toString(), 0, length);
+        return new PagedIterator.LoadedPage<>(page, length);
+    }
+
+    private <I> StreamingListPage<I> openStreamingPage(AzureRequest azureRequest, ObjectReader itemReader) throws AzureException {
+        PageEvent event = PageEvent.start();
+        RequestTimings timings = new RequestTimings();
+        HttpRequest request = azureRequest.build(timings);
+        recordCall(request);
+        HttpStreamResult result = sendWithRetriesStreaming(request, azureRequest.getSerializedBody(), azureRequest.getCancellation(), timings);
+        recordPage();
+        event.complete(request.uri().toString(), 0, -1);
+        return new StreamingListPage<>(result.body(), itemReader, request.uri().toString());
+    }
+
+    private static PagingShape requirePagingShape(Class<?> listResultType) {
+        PagingShape shape = PagingShape.of(listResultType);
+        if (!shape.isPaginated()) {
+            throw new IllegalArgumentException(listResultType.getName() + " is not a paginated list result");
+        }
+        return shape;
+    }
+
+    private HttpCallResult sendWithRetries(HttpRequest request, String serializedBody, RetryPolicy policy,
+                                           CancellationToken cancellation, RequestTimings timings) throws AzureException {
+        return sendWithRetries(request, attemptRequest -> sendHttpRequest(attemptRequest, serializedBody, cancellation, timings),
+            result -> result.statusCode() >= 400 ? result : null, policy, cancellation, timings);
+    }
+
+    private HttpStreamResult sendWithRetriesStreaming(HttpRequest request, String serializedBody,
+                                                      CancellationToken cancellation, RequestTimings timings) throws AzureException {
+        return sendWithRetries(request, attemptRequest -> sendHttpRequestStreaming(attemptRequest, serializedBody, cancellation, timings),
+            result -> result.statusCode() >= 400 ? result.drain() : null, retryPolicy, cancellation, timings);
+    }
+
+    /**
+     * Sends {@code request} through {@code attemptSender} until it produces a successful result, the retry policy
+     * gives up or {@code cancellation} is done. {@code failureView} returns the buffered error response for a
+     * failed attempt, or {@code null} on success.
+     */
+    private <R> R sendWithRetries(HttpRequest request, HttpAttempt<R> attemptSender, FailureView<R> failureView, RetryPolicy policy,
+                                  CancellationToken cancellation, RequestTimings timings) throws AzureException {
         Exception lastException = null;
-        
-        for (int attempt = 1; attempt <= retryPolicy.getMaxAttempts(); attempt++) {
+        Duration previousDelay = Duration.ZERO;
+
+        for (int attempt = 1; attempt <= policy.getMaxAttempts(); attempt++) {
             try {
-                HttpCallResult result = sendHttpRequest(request, azureRequest.getSerializedBody());
-                Map<String, String> responseHeaders = result.headers();
-                
-                if (result.statusCode() >= 400) {
-                    if (shouldRetry(result.statusCode(), attempt)) {
-                        sleepBeforeRetry(attempt, responseHeaders);
+                R attemptResult = attemptSender.send(withinDeadline(request, cancellation));
+                HttpCallResult failure = failureView.failureOf(attemptResult);
+
+                if (failure != null) {
+                    if (shouldRetry(policy, failure.statusCode(), attempt)) {
+                        previousDelay = sleepBeforeRetry(request, policy, attempt, previousDelay, failure.headers(), cancellation, timings,
+                            () -> createServiceException(failure.statusCode(), failure.headers(), failure.body(), timings));
                         continue;
                     }
-                    
-                    throw createServiceException(result.statusCode(), responseHeaders, result.body());
-                }
-                
-                T responseBody = null;
-                if (responseType != Void.class && result.body() != null && !result.body().isEmpty()) {
-                    try {
-                        responseBody = objectMapper.readValue(result.body(), responseType);
-                    } catch (UnrecognizedPropertyException e) {
-                        if (failOnUnknownProperties) {
-                            logUnknownPropertiesDetails(request.uri().toString(), result.body(), e);
-                            throw new AzureException("Unknown properties found in Azure API response", e);
-                        } else {
-                            // This shouldn't happen since we set FAIL_ON_UNKNOWN_PROPERTIES to false for non-strict mode
-                            throw new AzureException("Unexpected deserialization error", e);
-                        }
-                    }
-                }
-                
-                // Handle pagination for list results
-                if (responseBody != null && isPaginatedListResult(responseType)) {
-                    return handlePaginationInline(responseBody, responseType, result.statusCode(), responseHeaders, result.body());
+
+                    throw createServiceException(failure.statusCode(), failure.headers(), failure.body(), timings);
                 }
-                
-                return new AzureResponse<>(result.statusCode(), responseHeaders, responseBody, result.body());
-                
+
+                recordSuccess();
+                return attemptResult;
+
             } catch (HttpTimeoutException e) {
                 lastException = e;
-                if (retryPolicy.shouldRetryOnTimeout() && shouldRetry(attempt)) {
-                    sleepBeforeRetry(attempt, null);
+                checkCancellation(cancellation, e);
+                if (policy.shouldRetryOnTimeout() && shouldRetry(policy, attempt, TIMEOUT)) {
+                    previousDelay = sleepBeforeRetry(request, policy, attempt, previousDelay, null, cancellation, timings, () -> e);
                     continue;
                 } else {
                     throw new AzureNetworkException("Request timeout", e);
                 }
             } catch (IOException e) {
                 lastException = e;
-                if (retryPolicy.shouldRetryOnNetworkError() && shouldRetry(attempt)) {
-                    sleepBeforeRetry(attempt, null);
+                checkCancellation(cancellation, e);
+                if (policy.shouldRetryOnNetworkError() && shouldRetry(policy, attempt, NETWORK_ERROR)) {
+                    previousDelay = sleepBeforeRetry(request, policy, attempt, previousDelay, null, cancellation, timings, () -> e);
                     continue;
                 } else {
                     throw new AzureNetworkException("Network error", e);
@@ -157,8 +491,9 @@ public class AzureHttpClient {
             } catch (CompletionException e) {
                 if (e.getCause() instanceof HttpTimeoutException) {
                     lastException = e;
-                    if (retryPolicy.shouldRetryOnTimeout() && shouldRetry(attempt)) {
-                        sleepBeforeRetry(attempt, null);
+                    checkCancellation(cancellation, e.getCause());
+                    if (policy.shouldRetryOnTimeout() && shouldRetry(policy, attempt, TIMEOUT)) {
+                        previousDelay = sleepBeforeRetry(request, policy, attempt, previousDelay, null, cancellation, timings, e::getCause);
                         continue;
                     } else {
                         throw new AzureNetworkException("Request timeout", e.getCause());
@@ -168,30 +503,323 @@ public class AzureHttpClient {
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new AzureException("Request was interrupted", e);
-            } catch (Exception e) {
-                // e.g. AzureAuthenticationException
-                throw e;
             }
         }
-        
-        throw new AzureException("Request failed after " + retryPolicy.getMaxAttempts() + " attempts", lastException);
+
+        throw new AzureException("Request failed after " + policy.getMaxAttempts() + " attempts", lastException);
     }
 
-    public <T> AzureResponse<T> execute(AzureRequest azureRequest, Class<T> responseType, RetryPolicy customRetryPolicy) throws AzureException {
-        RetryPolicy originalPolicy = this.retryPolicy;
+    private CompletableFuture<HttpCallResult> sendWithRetriesAsync(HttpRequest request, String serializedBody, RetryPolicy policy,
+                                                                   CancellationToken cancellation, RequestTimings timings, int attempt,
+                                                                   Duration previousDelay) {
+        HttpRequest attemptRequest;
+        try {
+            attemptRequest = withinDeadline(request, cancellation);
+        } catch (AzureException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return sendHttpRequestAsync(attemptRequest, serializedBody, cancellation, timings).handle((result, error) -> {
+            if (error != null) {
+                Throwable cause = unwrapCompletion(error);
+                if (cancellation != null && cancellation.isDone()) {
+                    return CompletableFuture.<HttpCallResult>failedFuture(cancellation.toException(cause));
+                }
+                if (cause instanceof HttpTimeoutException) {
+                    if (policy.shouldRetryOnTimeout() && shouldRetry(policy, attempt, TIMEOUT)) {
+                        return retryAsync(request, serializedBody, policy, cancellation, timings, attempt, previousDelay, null, () -> cause);
+                    }
+                    return CompletableFuture.<HttpCallResult>failedFuture(new AzureNetworkException("Request timeout", cause));
+                }
+                if (cause instanceof IOException) {
+                    if (policy.shouldRetryOnNetworkError() && shouldRetry(policy, attempt, NETWORK_ERROR)) {
+                        return retryAsync(request, serializedBody, policy, cancellation, timings, attempt, previousDelay, null, () -> cause);
+                    }
+                    return CompletableFuture.<HttpCallResult>failedFuture(new AzureNetworkException("Network error", cause));
+                }
+                if (cause instanceof AzureException) {
+                    return CompletableFuture.<HttpCallResult>failedFuture(cause);
+                }
+                return CompletableFuture.<HttpCallResult>failedFuture(
+                    new AzureException("Unexpected error during request execution", cause));
+            }
+
+            if (result.statusCode() >= 400) {
+                if (shouldRetry(policy, result.statusCode(), attempt)) {
+                    return retryAsync(request, serializedBody, policy, cancellation, timings, attempt, previousDelay, result.headers(),
+                        () -> createServiceException(result.statusCode(), result.headers(), result.body(), timings));
+                }
+                return CompletableFuture.<HttpCallResult>failedFuture(
+                    createServiceException(result.statusCode(), result.headers(), result.body(), timings));
+            }
+
+            recordSuccess();
+            return CompletableFuture.completedFuture(result);
+        }).thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<HttpCallResult> retryAsync(HttpRequest request, String serializedBody, RetryPolicy policy,
+                                                         CancellationToken cancellation, RequestTimings timings, int attempt,
+                                                         Duration previousDelay, Map<String, String> responseHeaders,
+                                                         Supplier<Throwable> lastFailure) {
+        Duration delay = policy.getBackoffStrategy().calculateDelay(attempt, previousDelay, policy, responseHeaders);
+        if (!fitsDeadline(cancellation, delay)) {
+            return CompletableFuture.failedFuture(deadlineBeforeRetry(attempt, lastFailure));
+        }
+        long backoffStart = System.nanoTime();
+        RetryDelayEvent event = RetryDelayEvent.start();
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS, executor);
+        CompletableFuture<Void> backoff = CompletableFuture.runAsync(() -> { }, delayedExecutor);
+        if (cancellation != null) {
+            Runnable unregister = cancellation.onCancel(() -> backoff.completeExceptionally(cancellation.toException(lastFailure.get())));
+            backoff.whenComplete((ignored, error) -> unregister.run());
+        }
+        backoff.whenComplete((ignored, error) -> event.complete(request, attempt, delay));
+        return backoff.thenCompose(ignored -> {
+            timings.addSince(RequestTimings.Phase.RETRY_DELAY, backoffStart);
+            return sendWithRetriesAsync(request, serializedBody, policy, cancellation, timings, attempt + 1, delay);
+        });
+    }
+
+    /**
+     * Automatic batching only takes plain GETs: recordings, the response cache, deadlines and per-call
+     * retry or paging settings all need the request to be sent on its own.
+     */
+    private boolean isBatchable(HttpRequest request, Class<?> responseType, int maxPages, RetryPolicy policy,
+                                CancellationToken cancellation) {
+        return automaticBatching
+            && "GET".equals(request.method())
+            && recorder == null
+            && cancellation == null
+            && policy == retryPolicy
+            && maxPages == MAX_INLINE_PAGES
+            && !isCacheable(request, responseType);
+    }
+
+    /**
+     * Posts a batch and, while ARM answers {@code 202 Accepted}, polls its {@code Location} until the batch
+     * has completed. Polls are scheduled on a timer, so no thread waits between them.
+     */
+    CompletableFuture<JsonNode> sendBatchAsync(String batchUrl, Object payload) {
+        AzureRequest batchRequest = post(batchUrl).body(payload);
+        RequestTimings timings = new RequestTimings();
+        HttpRequest request;
+        try {
+            request = batchRequest.build(timings);
+        } catch (AzureException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return sendWithRetriesAsync(request, batchRequest.getSerializedBody(), retryPolicy, null, timings, 1, Duration.ZERO)
+            .thenCompose(result -> pollBatch(result, 0, timings));
+    }
+
+    private CompletableFuture<JsonNode> pollBatch(HttpCallResult result, int poll, RequestTimings timings) {
+        String location = header(result.headers(), "Location");
+        if (result.statusCode() == 202 && location != null && poll < MAX_BATCH_POLLS) {
+            String retryAfter = header(result.headers(), "Retry-After");
+            long delayMillis = retryAfter != null && retryAfter.matches("\\d+") ? Long.parseLong(retryAfter) * 1000 : 1000;
+            Executor delayedExecutor = CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, executor);
+            return CompletableFuture.runAsync(() -> { }, delayedExecutor)
+                .thenCompose(ignored -> {
+                    try {
+                        return sendWithRetriesAsync(get(location).build(timings), null, retryPolicy, null, timings, 1, Duration.ZERO);
+                    } catch (AzureException e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                })
+                .thenCompose(next -> pollBatch(next, poll + 1, timings));
+        }
+        if (result.statusCode() != 200 || result.body() == null) {
+            return CompletableFuture.failedFuture(new AzureException("Batch request was not completed: HTTP " + result.statusCode()));
+        }
+        try {
+            return CompletableFuture.completedFuture(objectMapper.readTree(result.body()));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new AzureException("Failed to parse batch response", e));
+        }
+    }
+
+    /**
+     * Turns one item of a batch response into the response of its request. Following pages of a list result
+     * are fetched asynchronously, since this runs on the thread that completed the batch.
+     */
+    <T> CompletableFuture<AzureResponse<T>> batchItemResponseAsync(HttpRequest request, HttpCallResult item, Class<T> responseType) {
+        if (item.statusCode() >= 400) {
+            return CompletableFuture.failedFuture(
+                createServiceException(item.statusCode(), item.headers(), item.body(), new RequestTimings().finish()));
+        }
+        RequestTimings timings = new RequestTimings();
+        return toResponseAsync(request, item, responseType, null, timings)
+            .whenComplete((response, error) -> timings.finish());
+    }
+
+    <T> CompletableFuture<AzureResponse<T>> executeUnbatchedAsync(HttpRequest request, Class<T> responseType) {
+        RequestTimings timings = new RequestTimings();
+        return sendWithRetriesAsync(request, null, retryPolicy, null, timings, 1, Duration.ZERO)
+            .thenCompose(result -> toResponseAsync(request, result, responseType, null, timings))
+            .whenComplete((response, error) -> timings.finish());
+    }
+
+    boolean isRetryableStatus(int statusCode) {
+        return retryPolicy.shouldRetry(statusCode);
+    }
+
+    private static String header(Map<String, String> headers, String name) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean isCacheable(HttpRequest request, Class<?> responseType) {
+        return responseCache != null
+            && "GET".equals(request.method())
+            && responseType != Void.class
+            && !isPaginatedListResult(responseType);
+    }
+
+    /**
+     * Revalidates a cached response with {@code If-None-Match}; a {@code 304} returns the cached
+     * {@link AzureResponse} as is, anything else replaces (or drops) the cache entry.
+     */
+    private <T> AzureResponse<T> executeWithCache(HttpRequest request, String serializedBody, Class<T> responseType,
+                                                  RetryPolicy policy, CancellationToken cancellation, RequestTimings timings) throws AzureException {
+        ResponseCache.CachedResponse cached = cachedResponse(request, responseType);
+        HttpCallResult result = sendWithRetries(revalidating(request, cached), serializedBody, policy, cancellation, timings);
+        return fromCache(request, cached, result, responseType, cancellation, timings);
+    }
+
+    private <T> CompletableFuture<AzureResponse<T>> executeWithCacheAsync(HttpRequest request, String serializedBody, Class<T> responseType,
+                                                                          CancellationToken cancellation, RequestTimings timings) {
+        ResponseCache.CachedResponse cached = cachedResponse(request, responseType);
+        return sendWithRetriesAsync(revalidating(request, cached), serializedBody, retryPolicy, cancellation, timings, 1, Duration.ZERO)
+            .thenCompose(result -> {
+                try {
+                    return CompletableFuture.completedFuture(fromCache(request, cached, result, responseType, cancellation, timings));
+                } catch (AzureException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            });
+    }
+
+    private ResponseCache.CachedResponse cachedResponse(HttpRequest request, Class<?> responseType) {
+        ResponseCache.CachedResponse cached = responseCache.get(credentials, request.uri().toString());
+        return cached != null && cached.responseType() == responseType ? cached : null;
+    }
+
+    private static HttpRequest revalidating(HttpRequest request, ResponseCache.CachedResponse cached) {
+        return cached == null
+            ? request
+            : HttpRequest.newBuilder(request, (name, value) -> true).header("If-None-Match", cached.etag()).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> AzureResponse<T> fromCache(HttpRequest request, ResponseCache.CachedResponse cached, HttpCallResult result,
+                                           Class<T> responseType, CancellationToken cancellation, RequestTimings timings) throws AzureException {
+        String url = request.uri().toString();
+        if (result.statusCode() == 304 && cached != null) {
+            responseCache.recordNotModified(cached);
+            return ((AzureResponse<T>) cached.response()).withTimings(timings);
+        }
+
+        AzureResponse<T> response = toResponse(request, result, responseType, 1, cancellation, timings);
+        String etag = result.statusCode() == 200 ? extractEtag(result) : null;
+        if (etag != null && response.getBody() != null) {
+            responseCache.put(credentials, url, etag, responseType, response);
+        } else {
+            responseCache.remove(credentials, url);
+        }
+        return response;
+    }
+
+    /**
+     * ARM returns the entity tag either as an {@code ETag} header or as the resource's top-level
+     * {@code etag} property; the body is only scanned when the header is missing.
+     */
+    private String extractEtag(HttpCallResult result) {
+        for (Map.Entry<String, String> header : result.headers().entrySet()) {
+            if (header.getKey().equalsIgnoreCase("ETag") && !header.getValue().isBlank()) {
+                return header.getValue();
+            }
+        }
+        if (result.body() == null || result.body().isEmpty()) {
+            return null;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(result.body())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("etag".equals(field)) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // The body was already deserialized successfully; treat an unreadable etag as absent
+        }
+        return null;
+    }
+
+    private <T> AzureResponse<T> toResponse(HttpRequest request, HttpCallResult result, Class<T> responseType, int maxPages,
+                                            CancellationToken cancellation, RequestTimings timings) throws AzureException {
+        T responseBody = deserializeBody(request, result, responseType, timings);
+
+        // Handle pagination for list results
+        if (responseBody != null && isPaginatedListResult(responseType)) {
+            return handlePaginationInline(responseBody, responseType, result.statusCode(), result.headers(), result.body(), maxPages,
+                cancellation, timings);
+        }
+
+        return new AzureResponse<>(result.statusCode(), result.headers(), responseBody, result.body(), timings);
+    }
+
+    private <T> T deserializeBody(HttpRequest request, HttpCallResult result, Class<T> responseType, RequestTimings timings)
+            throws AzureException {
+        if (responseType == Void.class || result.body() == null || result.body().isEmpty()) {
+            return null;
+        }
+
+        try {
+            return readBody(responseType, result.body(), timings);
+        } catch (UnrecognizedPropertyException e) {
+            if (failOnUnknownProperties) {
+                logUnknownPropertiesDetails(request.uri().toString(), result.body(), e);
+                throw new AzureException("Unknown properties found in Azure API response", e);
+            } else {
+                // This shouldn't happen since we set FAIL_ON_UNKNOWN_PROPERTIES to false for non-strict mode
+                throw new AzureException("Unexpected deserialization error", e);
+            }
+        } catch (IOException e) {
+            throw new AzureException("Failed to deserialize Azure API response", e);
+        }
+    }
+
+    private <T> T readBody(Class<T> type, String body, RequestTimings timings) throws IOException {
+        long start = System.nanoTime();
+        DeserializationEvent event = DeserializationEvent.start();
         try {
-            return execute(azureRequest, responseType);
+            return readerFor(type).readValue(body);
         } finally {
+            timings.addSince(RequestTimings.Phase.DESERIALIZATION, start);
+            event.complete(type, body.length());
         }
     }
 
-    private HttpCallResult sendHttpRequest(HttpRequest request, String serializedBody) throws IOException, InterruptedException, AzureException {
+    private HttpCallResult sendHttpRequest(HttpRequest request, String serializedBody, CancellationToken cancellation,
+                                           RequestTimings timings) throws IOException, InterruptedException, AzureException {
         if (recorder != null && recorder.isPlayback()) {
             return recorder.playback(request, serializedBody);
         }
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        HttpCallResult result = HttpCallResult.fromHttpResponse(response);
+        HttpResponse<String> response = send(request, stringBodyHandler(), cancellation, timings);
+        HttpCallResult result = toCallResult(response);
+        recordRateLimit(request, result.statusCode(), result.headers());
 
         if (recorder != null && recorder.isRecording()) {
             recorder.record(request, serializedBody, result);
@@ -200,38 +828,570 @@ public class AzureHttpClient {
         return result;
     }
 
-    private HttpCallResult fetchNextPage(String nextLink) throws IOException, InterruptedException, AzureException {
-        AzureRequest nextRequest = new AzureRequest("GET", buildFullUrl(nextLink), credentials, objectMapper);
-        nextRequest.timeout(Duration.ofSeconds(30));
-        HttpRequest request = nextRequest.build();
-        return sendHttpRequest(request, nextRequest.getSerializedBody());
+    private HttpStreamResult sendHttpRequestStreaming(HttpRequest request, String serializedBody, CancellationToken cancellation,
+                                                      RequestTimings timings) throws IOException, InterruptedException, AzureException {
+        if (recorder != null && recorder.isPlayback()) {
+            return HttpStreamResult.fromCallResult(recorder.playback(request, serializedBody));
+        }
+
+        if (recorder != null && recorder.isRecording()) {
+            // Recordings keep the body as text, so the page is buffered once to be written out and parsed.
+            HttpResponse<byte[]> response = send(request,
+                responseCompression ? ContentDecoding.ofByteArray() : HttpResponse.BodyHandlers.ofByteArray(), cancellation, timings);
+            String body = new String(response.body(), StandardCharsets.UTF_8);
+            HttpCallResult result = new HttpCallResult(response.statusCode(), responseHeaders(response.headers()), body);
+            recordRateLimit(request, result.statusCode(), result.headers());
+            recorder.record(request, serializedBody, result);
+            return new HttpStreamResult(result.statusCode(), result.headers(), new ByteArrayInputStream(response.body()));
+        }
+
+        HttpResponse<InputStream> response = send(request,
+            responseCompression ? ContentDecoding.ofInputStream() : HttpResponse.BodyHandlers.ofInputStream(), cancellation, timings);
+        HttpStreamResult result = new HttpStreamResult(response.statusCode(), responseHeaders(response.headers()), response.body());
+        recordRateLimit(request, result.statusCode(), result.headers());
+        return result;
     }
 
-    private boolean shouldRetry(int statusCode, int attempt) {
-        return attempt < retryPolicy.getMaxAttempts() && retryPolicy.shouldRetry(statusCode);
+    private CompletableFuture<HttpCallResult> sendHttpRequestAsync(HttpRequest request, String serializedBody, CancellationToken cancellation,
+                                                                   RequestTimings timings) {
+        if (recorder != null && recorder.isPlayback()) {
+            try {
+                return CompletableFuture.completedFuture(recorder.playback(request, serializedBody));
+            } catch (AzureException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        return sendAsync(request, stringBodyHandler(), cancellation, timings).thenApply(response -> {
+            HttpCallResult result = toCallResult(response);
+            recordRateLimit(request, result.statusCode(), result.headers());
+            if (recorder != null && recorder.isRecording()) {
+                try {
+                    recorder.record(request, serializedBody, result);
+                } catch (AzureException e) {
+                    throw new CompletionException(e);
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Sends over the wire once the circuit breaker, the rate limiter and the provider's concurrency window
+     * allow it. An open circuit fails with {@link com.azure.simpleSDK.http.exceptions.AzureCircuitOpenException},
+     * which the retry loop does not retry. With a {@code cancellation} token the exchange is sent asynchronously
+     * and awaited, so that cancelling the token from another thread aborts it.
+     */
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, CancellationToken cancellation,
+                                     RequestTimings timings) throws IOException, InterruptedException, AzureException {
+        CircuitBreaker.Ticket ticket = circuitBreaker == null ? null : circuitBreaker.acquire(request.uri());
+        try {
+            long throttlingStart = System.nanoTime();
+            if (rateLimiter != null) {
+                Duration wait = rateLimiter.reserve(credentials, request.uri(), request.method());
+                if (!wait.isZero()) {
+                    pause(wait, cancellation);
+                }
+            }
+            AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter == null ? null : concurrencyLimiter.acquire(request.uri());
+            timings.addSince(RequestTimings.Phase.THROTTLING, throttlingStart);
+            long start = System.nanoTime();
+            HttpAttemptEvent attemptEvent = HttpAttemptEvent.start();
+            HttpResponse<T> response;
+            try {
+                response = cancellation != null || isHedged(request)
+                    ? await(sendOnWire(request, bodyHandler, cancellation), cancellation)
+                    : httpClient.send(request, bodyHandler);
+            } catch (Throwable e) {
+                recordAttempt(request, start, attemptEvent, null, timings);
+                releasePermit(permit, null, e);
+                throw e;
+            }
+            recordAttempt(request, start, attemptEvent, response, timings);
+            releasePermit(permit, response, null);
+            recordOutcome(ticket, response, null);
+            return response;
+        } catch (Throwable e) {
+            recordOutcome(ticket, null, e);
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                                             CancellationToken cancellation, RequestTimings timings) {
+        CircuitBreaker.Ticket ticket;
+        try {
+            ticket = circuitBreaker == null ? null : circuitBreaker.acquire(request.uri());
+        } catch (AzureException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<HttpResponse<T>> sent = sendAsyncWithLimits(request, bodyHandler, cancellation, timings);
+        return ticket == null ? sent : sent.whenComplete((response, error) -> recordOutcome(ticket, response, error));
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> sendAsyncWithLimits(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                                                       CancellationToken cancellation, RequestTimings timings) {
+        long throttlingStart = System.nanoTime();
+        Duration wait = rateLimiter == null ? Duration.ZERO : rateLimiter.reserve(credentials, request.uri(), request.method());
+        CompletableFuture<Void> ready = wait.isZero()
+            ? CompletableFuture.completedFuture(null)
+            : CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(wait.toNanos(), TimeUnit.NANOSECONDS, executor));
+        if (concurrencyLimiter == null) {
+            return ready.thenCompose(ignored -> sendRecorded(request, bodyHandler, cancellation, timings, throttlingStart));
+        }
+        return ready
+            .thenCompose(ignored -> concurrencyLimiter.acquireAsync(request.uri()))
+            .thenCompose(permit -> sendRecorded(request, bodyHandler, cancellation, timings, throttlingStart)
+                .whenComplete((response, error) -> releasePermit(permit, response, error)));
+    }
+
+    /**
+     * Sends over the wire and records the attempt on a dependent stage, so it is in {@code timings} before
+     * the caller's stages run.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> sendRecorded(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                                                CancellationToken cancellation, RequestTimings timings,
+                                                                long throttlingStart) {
+        timings.addSince(RequestTimings.Phase.THROTTLING, throttlingStart);
+        long start = System.nanoTime();
+        HttpAttemptEvent attemptEvent = HttpAttemptEvent.start();
+        return sendOnWire(request, bodyHandler, cancellation)
+            .whenComplete((response, error) -> recordAttempt(request, start, attemptEvent, response, timings));
+    }
+
+    /**
+     * Starts the exchange. The returned future is the one from {@link HttpClient#sendAsync}, or with hedging one that
+     * forwards cancellation to it, so cancelling it, which {@code cancellation} does when cancelled, aborts the exchange.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> sendOnWire(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                                              CancellationToken cancellation) {
+        CompletableFuture<HttpResponse<T>> sent = isHedged(request) ? sendHedged(request, bodyHandler) : httpClient.sendAsync(request, bodyHandler);
+        if (cancellation != null) {
+            Runnable unregister = cancellation.onCancel(() -> sent.cancel(true));
+            sent.whenComplete((response, error) -> unregister.run());
+        }
+        return sent;
+    }
+
+    private boolean isHedged(HttpRequest request) {
+        return hedgingPolicy != null && ("GET".equals(request.method()) || "HEAD".equals(request.method()));
+    }
+
+    private static <T> HttpResponse<T> await(CompletableFuture<HttpResponse<T>> sent, CancellationToken cancellation)
+            throws IOException, InterruptedException, AzureCancellationException {
+        try {
+            return sent.get();
+        } catch (InterruptedException e) {
+            sent.cancel(true);
+            throw e;
+        } catch (CancellationException e) {
+            if (cancellation != null) {
+                throw cancellation.toException(e);
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = unwrapCompletion(e);
+            if (cancellation != null && cancellation.isCancelled()) {
+                // The client may fail an aborted exchange with its own exception rather than cancel the future
+                throw cancellation.toException(cause);
+            }
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException("Request failed", cause);
+        }
+    }
+
+    /**
+     * Sends {@code request} and, if it has not answered by the endpoint's hedge delay and the hedge budget
+     * allows, an identical second request. The second request takes a rate-limiter token and a concurrency
+     * permit like any other, and is skipped if either isn't available right away; the hedge budget is only
+     * spent on a second request that is actually sent. The first response wins;
+     * the other request is cancelled, and a response that still arrives has its body closed. The call fails
+     * only once every request sent failed.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> sendHedged(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        Duration delay = hedgingPolicy.hedgeDelay(request.uri());
+        CompletableFuture<HttpResponse<T>> primary = sendTimed(request, bodyHandler);
+        if (delay == null) {
+            return primary;
+        }
+
+        CompletableFuture<HttpResponse<T>> winner = new CompletableFuture<>();
+        AtomicBoolean answered = new AtomicBoolean();
+        // Set once: to the hedge's future, or to the primary's failure if that comes first
+        AtomicReference<CompletableFuture<HttpResponse<T>>> hedge = new AtomicReference<>();
+        primary.whenComplete((response, error) -> {
+            if (response != null) {
+                if (answered.compareAndSet(false, true) && winner.complete(response)) {
+                    cancel(hedge.get());
+                } else {
+                    discard(response);
+                }
+            } else if (hedge.compareAndSet(null, CompletableFuture.failedFuture(error)) || hedge.get().isCompletedExceptionally()) {
+                winner.completeExceptionally(error);
+            }
+        });
+        CompletableFuture.runAsync(() -> {
+            // Published before anything is checked, so a primary failing from here on waits for the hedge's outcome
+            CompletableFuture<HttpResponse<T>> second = new CompletableFuture<>();
+            if (!hedge.compareAndSet(null, second)) {
+                return;
+            }
+            second.whenComplete((response, error) -> {
+                if (response != null) {
+                    // The win is recorded before the caller is woken up, so it sees it in the stats
+                    boolean won = answered.compareAndSet(false, true);
+                    if (won) {
+                        hedgingPolicy.recordHedgeWin();
+                    }
+                    if (won && winner.complete(response)) {
+                        primary.cancel(true);
+                    } else {
+                        discard(response);
+                    }
+                } else if (primary.isCompletedExceptionally()) {
+                    winner.completeExceptionally(error);
+                }
+            });
+            if (winner.isDone()) {
+                second.cancel(true);
+                return;
+            }
+            // The hedge is optional, so it is only sent if the throttles let it through without waiting
+            AdaptiveConcurrencyLimiter.Permit permit = null;
+            if (concurrencyLimiter != null && (permit = concurrencyLimiter.tryAcquire(request.uri())) == null) {
+                skipHedge(second, primary);
+                return;
+            }
+            if ((rateLimiter != null && !rateLimiter.tryReserve(credentials, request.uri(), request.method()))
+                    || !hedgingPolicy.tryHedge()) {
+                releasePermit(permit, null, null);
+                skipHedge(second, primary);
+                return;
+            }
+            AdaptiveConcurrencyLimiter.Permit hedgePermit = permit;
+            CompletableFuture<HttpResponse<T>> sent = sendTimed(request, bodyHandler);
+            sent.whenComplete((response, error) -> {
+                releasePermit(hedgePermit, response, error);
+                if (response == null) {
+                    second.completeExceptionally(error);
+                } else if (!second.complete(response)) {
+                    discard(response);
+                }
+            });
+            second.whenComplete((response, error) -> {
+                if (second.isCancelled()) {
+                    sent.cancel(true);
+                }
+            });
+        }, CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS, executor));
+        winner.whenComplete((response, error) -> {
+            if (winner.isCancelled()) {
+                primary.cancel(true);
+                cancel(hedge.get());
+            }
+        });
+        return winner;
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> sendTimed(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> sent = httpClient.sendAsync(request, bodyHandler);
+        // The latency is recorded on the returned stage so the next request already sees it; cancelling
+        // that stage wouldn't abort the exchange on its own, so the cancellation is forwarded
+        CompletableFuture<HttpResponse<T>> timed = sent.whenComplete((response, error) -> {
+            if (response != null) {
+                hedgingPolicy.recordLatency(request.uri(), System.nanoTime() - start);
+            }
+        });
+        timed.whenComplete((response, error) -> {
+            if (timed.isCancelled()) {
+                sent.cancel(true);
+            }
+        });
+        return timed;
+    }
+
+    /**
+     * Settles a hedge that was not sent the way the primary settles, so the caller gets the primary's outcome.
+     */
+    private static <T> void skipHedge(CompletableFuture<HttpResponse<T>> hedge, CompletableFuture<HttpResponse<T>> primary) {
+        primary.whenComplete((response, error) -> {
+            if (error != null) {
+                hedge.completeExceptionally(error);
+            } else {
+                hedge.cancel(false);
+            }
+        });
+    }
+
+    private static void cancel(CompletableFuture<?> request) {
+        if (request != null) {
+            request.cancel(true);
+        }
+    }
+
+    private static void discard(HttpResponse<?> response) {
+        if (response.body() instanceof InputStream body) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                // Nothing to do for a losing response
+            }
+        }
+    }
+
+    private void recordAttempt(HttpRequest request, long start, HttpAttemptEvent event, HttpResponse<?> response, RequestTimings timings) {
+        long latency = System.nanoTime() - start;
+        int statusCode = 0;
+        long bytes = -1;
+        String requestId = null;
+        String routingRequestId = null;
+        if (response != null) {
+            HttpHeaders headers = response.headers();
+            statusCode = response.statusCode();
+            bytes = headers.firstValueAsLong("Content-Length").orElse(-1);
+            if (bytes < 0 && response.body() instanceof String body) {
+                bytes = utf8Length(body);
+            }
+            requestId = headers.firstValue("x-ms-request-id").orElse(null);
+            routingRequestId = headers.firstValue("x-ms-routing-request-id").orElse(null);
+        }
+        timings.addAttempt(statusCode, latency, requestId, routingRequestId);
+        event.complete(request, statusCode, bytes, requestId);
+        if (metrics != null) {
+            metrics.recordAttempt(request.method(), request.uri(), statusCode, latency, bytes);
+        }
+    }
+
+    /**
+     * @return the size of {@code body} encoded as UTF-8, counted without encoding it.
+     */
+    private static long utf8Length(String body) {
+        if (body == null) {
+            return 0;
+        }
+        long length = body.length();
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c >= 0x800) {
+                // Three bytes, or four for a surrogate pair, which is two chars
+                length += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private void recordCall(HttpRequest request) {
+        if (nPlusOneDetector != null) {
+            nPlusOneDetector.record(request.method(), request.uri());
+        }
+    }
+
+    private void recordPage() {
+        if (metrics != null) {
+            metrics.recordPage();
+        }
+    }
+
+    private static void releasePermit(AdaptiveConcurrencyLimiter.Permit permit, HttpResponse<?> response, Throwable error) {
+        if (permit == null) {
+            return;
+        }
+        if (response != null) {
+            permit.onResponse(response.statusCode());
+        } else if (unwrapCompletion(error) instanceof HttpTimeoutException) {
+            permit.onTimeout();
+        } else {
+            permit.onIgnored();
+        }
+    }
+
+    private static void recordOutcome(CircuitBreaker.Ticket ticket, HttpResponse<?> response, Throwable error) {
+        if (ticket == null) {
+            return;
+        }
+        if (response != null) {
+            ticket.onResponse(response.statusCode());
+        } else {
+            ticket.onError(unwrapCompletion(error));
+        }
+    }
+
+    private void recordRateLimit(HttpRequest request, int statusCode, Map<String, String> headers) {
+        if (rateLimiter != null) {
+            rateLimiter.onResponse(credentials, request.uri(), request.method(), statusCode, headers);
+        }
+    }
+
+    private HttpResponse.BodyHandler<String> stringBodyHandler() {
+        return responseCompression ? ContentDecoding.ofString() : HttpResponse.BodyHandlers.ofString();
+    }
+
+    private HttpCallResult toCallResult(HttpResponse<String> response) {
+        return new HttpCallResult(response.statusCode(), responseHeaders(response.headers()), response.body());
+    }
+
+    private Map<String, String> responseHeaders(HttpHeaders headers) {
+        return responseCompression ? ContentDecoding.decodedHeaders(headers) : HttpCallResult.firstValues(headers);
+    }
+
+    private AzureRequest nextPageRequest(String nextLink, CancellationToken cancellation) {
+        return newRequest("GET", nextLink).cancellation(cancellation);
     }
 
-    private boolean shouldRetry(int attempt) {
-        return attempt < retryPolicy.getMaxAttempts();
+    private HttpCallResult fetchNextPage(String nextLink, CancellationToken cancellation, RequestTimings timings)
+            throws IOException, InterruptedException, AzureException {
+        AzureRequest nextRequest = nextPageRequest(nextLink, cancellation);
+        timings.nextPage();
+        HttpRequest request = withinDeadline(nextRequest.build(timings), cancellation);
+        return sendHttpRequest(request, nextRequest.getSerializedBody(), cancellation, timings);
     }
 
-    private void sleepBeforeRetry(int attempt, Map<String, String> responseHeaders) throws AzureException {
+    private CompletableFuture<HttpCallResult> fetchNextPageAsync(String nextLink, CancellationToken cancellation, RequestTimings timings) {
+        AzureRequest nextRequest = nextPageRequest(nextLink, cancellation);
+        timings.nextPage();
         try {
-            Duration delay = backoffStrategy.calculateDelay(attempt, retryPolicy, responseHeaders);
-            Thread.sleep(delay.toMillis());
+            HttpRequest request = withinDeadline(nextRequest.build(timings), cancellation);
+            return sendHttpRequestAsync(request, nextRequest.getSerializedBody(), cancellation, timings);
+        } catch (AzureException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Strips the future's wrappers from {@code error}, and turns the {@link UncheckedIOException} a body
+     * handler throws for an undecodable body back into the {@link IOException} the blocking send reports.
+     */
+    private static Throwable unwrapCompletion(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException
+                || current instanceof UncheckedIOException) && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private boolean shouldRetry(RetryPolicy policy, int statusCode, int attempt) {
+        boolean retry = attempt < policy.getMaxAttempts() && policy.shouldRetry(statusCode) && withinRetryBudget();
+        if (retry && metrics != null) {
+            metrics.recordRetry(Integer.toString(statusCode));
+        }
+        return retry;
+    }
+
+    private boolean shouldRetry(RetryPolicy policy, int attempt, String reason) {
+        boolean retry = attempt < policy.getMaxAttempts() && withinRetryBudget();
+        if (retry && metrics != null) {
+            metrics.recordRetry(reason);
+        }
+        return retry;
+    }
+
+    private boolean withinRetryBudget() {
+        return retryBudget == null || retryBudget.tryRetry();
+    }
+
+    private void recordSuccess() {
+        if (retryBudget != null) {
+            retryBudget.onSuccess();
+        }
+    }
+
+    /**
+     * Sleeps for the policy's backoff delay and returns it. Fails with {@link AzureDeadlineExceededException}
+     * instead if the retry could not start before {@code cancellation}'s deadline, and wakes up early if the
+     * token is cancelled; {@code lastFailure} becomes the cause in both cases.
+     */
+    private Duration sleepBeforeRetry(HttpRequest request, RetryPolicy policy, int attempt, Duration previousDelay, Map<String, String> responseHeaders,
+                                      CancellationToken cancellation, RequestTimings timings, Supplier<Throwable> lastFailure)
+            throws AzureException {
+        Duration delay = policy.getBackoffStrategy().calculateDelay(attempt, previousDelay, policy, responseHeaders);
+        if (!fitsDeadline(cancellation, delay)) {
+            throw deadlineBeforeRetry(attempt, lastFailure);
+        }
+        long start = System.nanoTime();
+        RetryDelayEvent event = RetryDelayEvent.start();
+        try {
+            if (cancellation == null) {
+                Thread.sleep(delay.toMillis());
+            } else if (cancellation.await(delay)) {
+                throw cancellation.toException(lastFailure.get());
+            }
+            return delay;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new AzureException("Retry delay was interrupted", e);
+        } finally {
+            timings.addSince(RequestTimings.Phase.RETRY_DELAY, start);
+            event.complete(request, attempt, delay);
+        }
+    }
+
+    private static boolean fitsDeadline(CancellationToken cancellation, Duration delay) {
+        Duration remaining = cancellation == null ? null : cancellation.getRemaining();
+        return remaining == null || delay.compareTo(remaining) < 0;
+    }
+
+    private static AzureDeadlineExceededException deadlineBeforeRetry(int attempt, Supplier<Throwable> lastFailure) {
+        return new AzureDeadlineExceededException(
+            "Request deadline exceeded, retry " + attempt + " could not finish in time", lastFailure.get());
+    }
+
+    /**
+     * Fails if {@code cancellation} is done, otherwise caps the request's timeout at the time left until the
+     * token's deadline.
+     */
+    private static HttpRequest withinDeadline(HttpRequest request, CancellationToken cancellation) throws AzureCancellationException {
+        if (cancellation == null) {
+            return request;
+        }
+        cancellation.throwIfDone();
+        Duration remaining = cancellation.getRemaining();
+        if (remaining == null || request.timeout().filter(timeout -> timeout.compareTo(remaining) <= 0).isPresent()) {
+            return request;
+        }
+        if (remaining.isZero()) {
+            throw cancellation.toException(null);
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> true).timeout(remaining).build();
+    }
+
+    private static void checkCancellation(CancellationToken cancellation, Throwable cause) throws AzureCancellationException {
+        if (cancellation != null && cancellation.isDone()) {
+            throw cause instanceof AzureCancellationException cancelled ? cancelled : cancellation.toException(cause);
+        }
+    }
+
+    private static void pause(Duration wait, CancellationToken cancellation) throws InterruptedException, AzureException {
+        if (cancellation == null) {
+            TimeUnit.NANOSECONDS.sleep(wait.toNanos());
+            return;
+        }
+        if (!fitsDeadline(cancellation, wait)) {
+            throw cancellation.toException(null);
+        }
+        if (cancellation.await(wait)) {
+            throw cancellation.toException(null);
         }
     }
 
-    private AzureException createServiceException(int statusCode, Map<String, String> headers, String responseBody) {
+    private AzureException createServiceException(int statusCode, Map<String, String> headers, String responseBody, RequestTimings timings) {
         String errorCode = null;
         String errorMessage = "HTTP " + statusCode;
         
         try {
             if (responseBody != null && !responseBody.isEmpty()) {
-                AzureErrorResponse errorResponse = objectMapper.readValue(responseBody, AzureErrorResponse.class);
+                AzureErrorResponse errorResponse = readerFor(AzureErrorResponse.class).readValue(responseBody);
                 if (errorResponse.error != null) {
                     errorCode = errorResponse.error.code;
                     errorMessage = errorResponse.error.message != null ? errorResponse.error.message : errorMessage;
@@ -245,9 +1405,9 @@ public class AzureHttpClient {
             case 403:
                 return new AzureAuthenticationException(errorMessage);
             case 404:
-                return new AzureResourceNotFoundException(errorMessage, headers, errorCode, responseBody);
+                return new AzureResourceNotFoundException(errorMessage, headers, errorCode, responseBody, timings);
             default:
-                return new AzureServiceException(errorMessage, statusCode, headers, errorCode, responseBody);
+                return new AzureServiceException(errorMessage, statusCode, headers, errorCode, responseBody, timings);
         }
     }
 
@@ -333,14 +1493,16 @@ public class AzureHttpClient {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> AzureResponse<T> handlePaginationInline(T firstPage, Class<T> responseType, int statusCode, Map<String, String> headers, String firstPageRawResponse) throws AzureException {
+    private <T> AzureResponse<T> handlePaginationInline(T firstPage, Class<T> responseType, int statusCode, Map<String, String> headers, String firstPageRawResponse, int maxPages,
+                                                        CancellationToken cancellation, RequestTimings timings) throws AzureException {
+        recordPage();
         try {
-            Method nextLinkMethod = responseType.getMethod("nextLink");
-            String nextLink = (String) nextLinkMethod.invoke(firstPage);
+            PagingShape shape = PagingShape.of(responseType);
+            String nextLink = shape.nextLink(firstPage);
             
             if (nextLink == null || nextLink.trim().isEmpty()) {
                 // No pagination needed - return single page response
-                return new AzureResponse<>(statusCode, headers, firstPage, firstPageRawResponse);
+                return new AzureResponse<>(statusCode, headers, firstPage, firstPageRawResponse, timings);
             }
             
             List<T> allPages = new ArrayList<>();
@@ -348,11 +1510,10 @@ public class AzureHttpClient {
             
             String currentNextLink = nextLink;
             int pageCount = 1;
-            final int maxPages = 50; // Safety limit to prevent infinite loops
-            
             while (currentNextLink != null && !currentNextLink.trim().isEmpty() && pageCount < maxPages) {
                 try {
-                    HttpCallResult nextResult = fetchNextPage(currentNextLink);
+                    PageEvent pageEvent = PageEvent.start();
+                    HttpCallResult nextResult = fetchNextPage(currentNextLink, cancellation, timings);
                     
                     if (nextResult.statusCode() >= 400) {
                         System.err.println("Warning: Failed to fetch page " + (pageCount + 1) + " of paginated results: HTTP " + nextResult.statusCode());
@@ -360,16 +1521,20 @@ public class AzureHttpClient {
                     }
                     
                     if (nextResult.body() != null && !nextResult.body().isEmpty()) {
-                        T nextPageData = objectMapper.readValue(nextResult.body(), responseType);
+                        T nextPageData = readBody(responseType, nextResult.body(), timings);
                         allPages.add(nextPageData);
+                        recordPage();
+                        pageEvent.complete(currentNextLink, pageCount + 1, utf8Length(nextResult.body()));
                         
                         // Get the next link for the following page
-                        currentNextLink = (String) nextLinkMethod.invoke(nextPageData);
+                        currentNextLink = shape.nextLink(nextPageData);
                         pageCount++;
                     } else {
                         break;
                     }
                 } catch (Exception e) {
+                    // A deadline or cancellation ends the whole call rather than truncating the list
+                    checkCancellation(cancellation, e);
                     System.err.println("Warning: Error fetching page " + (pageCount + 1) + " of paginated results: " + e.getMessage());
                     break;
                 }
@@ -380,80 +1545,140 @@ public class AzureHttpClient {
             }
             
             // Combine all pages into a single response
+            long combineStart = System.nanoTime();
             T combinedResult = combinePagedResults(firstPage, allPages.subList(1, allPages.size()), responseType);
+            timings.addSince(RequestTimings.Phase.DESERIALIZATION, combineStart);
             
             System.out.println("Pagination: Successfully combined " + pageCount + " pages of results");
             
-            return new AzureResponse<>(statusCode, headers, combinedResult, "Combined response from " + pageCount + " pages");
+            return new AzureResponse<>(statusCode, headers, combinedResult, "Combined response from " + pageCount + " pages", timings);
             
+        } catch (AzureCancellationException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Warning: Error during pagination: " + e.getMessage());
             // Fall back to single page response
-            return new AzureResponse<>(statusCode, headers, firstPage, firstPageRawResponse);
+            return new AzureResponse<>(statusCode, headers, firstPage, firstPageRawResponse, timings);
         }
     }
 
-    private boolean isPaginatedListResult(Class<?> responseType) {
+    private <T> CompletableFuture<AzureResponse<T>> handlePaginationAsync(T firstPage, Class<T> responseType, int statusCode, Map<String, String> headers, String firstPageRawResponse,
+                                                                          CancellationToken cancellation, RequestTimings timings) {
+        recordPage();
+        PagingShape shape = PagingShape.of(responseType);
+        String nextLink;
         try {
-            // Check if the class has both 'value' and 'nextLink' methods (record accessors)
-            Method valueMethod = responseType.getMethod("value");
-            Method nextLinkMethod = responseType.getMethod("nextLink");
-            
-            // Check if value() returns a List
-            Type returnType = valueMethod.getGenericReturnType();
-            if (returnType instanceof ParameterizedType) {
-                ParameterizedType paramType = (ParameterizedType) returnType;
-                return List.class.isAssignableFrom((Class<?>) paramType.getRawType());
+            nextLink = shape.nextLink(firstPage);
+        } catch (AzureException e) {
+            System.err.println("Warning: Error during pagination: " + e.getMessage());
+            return CompletableFuture.completedFuture(new AzureResponse<>(statusCode, headers, firstPage, firstPageRawResponse, timings));
+        }
+
+        if (nextLink == null || nextLink.trim().isEmpty()) {
+            // No pagination needed - return single page response
+            return CompletableFuture.completedFuture(new AzureResponse<>(statusCode, headers, firstPage, firstPageRawResponse, timings));
+        }
+
+        List<T> allPages = new ArrayList<>();
+        allPages.add(firstPage);
+
+        return fetchRemainingPagesAsync(allPages, nextLink, responseType, shape, cancellation, timings).thenApply(pages -> {
+            int pageCount = pages.size();
+            if (pageCount >= MAX_INLINE_PAGES) {
+                System.err.println("Warning: Reached maximum page limit (" + MAX_INLINE_PAGES + ") for paginated results. Some results may be missing.");
             }
-            return false;
-        } catch (NoSuchMethodException e) {
-            return false;
+
+            long combineStart = System.nanoTime();
+            T combinedResult = combinePagedResults(firstPage, pages.subList(1, pages.size()), responseType);
+            timings.addSince(RequestTimings.Phase.DESERIALIZATION, combineStart);
+            System.out.println("Pagination: Successfully combined " + pageCount + " pages of results");
+            return new AzureResponse<>(statusCode, headers, combinedResult, "Combined response from " + pageCount + " pages", timings);
+        });
+    }
+
+    private <T> CompletableFuture<List<T>> fetchRemainingPagesAsync(List<T> pages, String nextLink, Class<T> responseType, PagingShape shape,
+                                                                    CancellationToken cancellation, RequestTimings timings) {
+        if (nextLink == null || nextLink.trim().isEmpty() || pages.size() >= MAX_INLINE_PAGES) {
+            return CompletableFuture.completedFuture(pages);
         }
+
+        int pageNumber = pages.size() + 1;
+        PageEvent pageEvent = PageEvent.start();
+        return fetchNextPageAsync(nextLink, cancellation, timings).handle((nextResult, error) -> {
+            if (cancellation != null && cancellation.isDone()) {
+                return CompletableFuture.<List<T>>failedFuture(cancellation.toException(error == null ? null : unwrapCompletion(error)));
+            }
+            if (error != null) {
+                System.err.println("Warning: Error fetching page " + pageNumber + " of paginated results: " + unwrapCompletion(error).getMessage());
+                return CompletableFuture.completedFuture(pages);
+            }
+            if (nextResult.statusCode() >= 400) {
+                System.err.println("Warning: Failed to fetch page " + pageNumber + " of paginated results: HTTP " + nextResult.statusCode());
+                return CompletableFuture.completedFuture(pages);
+            }
+            if (nextResult.body() == null || nextResult.body().isEmpty()) {
+                return CompletableFuture.completedFuture(pages);
+            }
+
+            try {
+                T nextPageData = readBody(responseType, nextResult.body(), timings);
+                pages.add(nextPageData);
+                recordPage();
+                pageEvent.complete(nextLink, pageNumber, utf8Length(nextResult.body()));
+                String followingLink = shape.nextLink(nextPageData);
+                return fetchRemainingPagesAsync(pages, followingLink, responseType, shape, cancellation, timings);
+            } catch (Exception e) {
+                System.err.println("Warning: Error fetching page " + pageNumber + " of paginated results: " + e.getMessage());
+                return CompletableFuture.completedFuture(pages);
+            }
+        }).thenCompose(Function.identity());
+    }
+
+    private ObjectReader readerFor(Type type) {
+        return runtime.getReader(type, failOnUnknownProperties);
+    }
+
+    private boolean isPaginatedListResult(Class<?> responseType) {
+        return PagingShape.of(responseType).isPaginated();
     }
 
     @SuppressWarnings("unchecked")
     private <T> T combinePagedResults(T firstPage, List<T> additionalPages, Class<T> responseType) {
+        PagingShape shape = PagingShape.of(responseType);
+        if (!shape.canCombine()) {
+            return firstPage;
+        }
+
         try {
-            Method valueMethod = responseType.getMethod("value");
-            
             // Get the list from the first page
-            List<Object> combinedList = new ArrayList<>((List<Object>) valueMethod.invoke(firstPage));
-            
+            List<Object> firstItems = shape.value(firstPage);
+            List<Object> combinedList = firstItems == null ? new ArrayList<>() : new ArrayList<>(firstItems);
+
             // Add items from all additional pages
             for (T page : additionalPages) {
-                List<Object> pageItems = (List<Object>) valueMethod.invoke(page);
+                List<Object> pageItems = shape.value(page);
                 if (pageItems != null) {
                     combinedList.addAll(pageItems);
                 }
             }
-            
-            // Create a new instance with combined list and null nextLink
-            // Since these are records, we need to use reflection to create new instance
-            try {
-                // Try to find constructor that matches the record pattern
-                var constructors = responseType.getConstructors();
-                if (constructors.length > 0) {
-                    var constructor = constructors[0];
-                    var paramCount = constructor.getParameterCount();
-                    
-                    if (paramCount == 2) {
-                        // Assume first param is value (List), second is nextLink (String)
-                        return (T) constructor.newInstance(combinedList, null);
-                    }
-                }
-            } catch (Exception e) {
-                // If we can't create a new instance, return the first page as-is
-                System.err.println("Warning: Could not combine paginated results, returning first page only: " + e.getMessage());
-                return firstPage;
-            }
-            
-            return firstPage; // fallback
-        } catch (Exception e) {
-            System.err.println("Warning: Could not combine paginated results: " + e.getMessage());
+
+            // Create a new instance with combined list, null nextLink and the first page's other fields
+            return (T) shape.combine(firstPage, combinedList);
+        } catch (AzureException e) {
+            // If we can't create a new instance, return the first page as-is
+            System.err.println("Warning: Could not combine paginated results, returning first page only: " + e.getMessage());
             return firstPage;
         }
     }
 
+    private interface HttpAttempt<R> {
+        R send(HttpRequest request) throws IOException, InterruptedException, AzureException;
+    }
+
+    private interface FailureView<R> {
+        HttpCallResult failureOf(R result) throws IOException;
+    }
+
     private static class AzureErrorResponse {
         @JsonProperty("error")
         public AzureErrorDetail error;
@@ -15,35 +15,61 @@ import java.util.Map;
 import java.util.UUID;
 
 public class AzureRequest {
+    private static final Map<String, String> DEFAULT_HEADERS = Map.of(
+        "Accept", "application/json",
+        "Content-Type", "application/json",
+        "User-Agent", "azure-simple-sdk/1.0.0");
+
     private final String method;
     private final String url;
     private final Map<String, String> headers;
     private final Map<String, String> queryParameters;
     private Object body;
     private Duration timeout;
+    private CancellationToken cancellation;
     private final AzureCredentials credentials;
     private final ObjectMapper objectMapper;
     private String serializedBody;
 
     public AzureRequest(String method, String url, AzureCredentials credentials, ObjectMapper objectMapper) {
+        this(method, url, credentials, objectMapper, Duration.ofSeconds(30));
+    }
+
+    public AzureRequest(String method, String url, AzureCredentials credentials, ObjectMapper objectMapper, Duration timeout) {
         this.method = method;
         this.url = url;
         this.credentials = credentials;
         this.objectMapper = objectMapper;
         this.headers = new HashMap<>();
         this.queryParameters = new HashMap<>();
-        this.timeout = Duration.ofSeconds(30);
+        this.timeout = timeout;
         
         setDefaultHeaders();
     }
 
     private void setDefaultHeaders() {
-        headers.put("Accept", "application/json");
-        headers.put("Content-Type", "application/json");
-        headers.put("User-Agent", "azure-simple-sdk/1.0.0");
+        headers.putAll(DEFAULT_HEADERS);
         headers.put("x-ms-client-request-id", UUID.randomUUID().toString());
     }
 
+    /**
+     * @return whether the header is one every request carries: a default with its default value, the
+     * client request ID, the bearer token or the {@code x-ms-version} set by {@link #version(String)}, which
+     * repeats the URL's {@code api-version}.
+     */
+    static boolean isStandardHeader(String name, String value) {
+        if (name.equalsIgnoreCase("x-ms-client-request-id") || name.equalsIgnoreCase("Authorization")
+            || name.equalsIgnoreCase("x-ms-version")) {
+            return true;
+        }
+        for (Map.Entry<String, String> header : DEFAULT_HEADERS.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue().equals(value);
+            }
+        }
+        return false;
+    }
+
     public AzureRequest header(String name, String value) {
         headers.put(name, value);
         return this;
@@ -82,7 +108,24 @@ public class AzureRequest {
         return this;
     }
 
+    /**
+     * Bounds the whole call, including retries and follow-up pages, by {@code cancellation}'s deadline and
+     * lets it be cancelled from another thread. {@link #timeout(Duration)} still caps each single attempt.
+     */
+    public AzureRequest cancellation(CancellationToken cancellation) {
+        this.cancellation = cancellation;
+        return this;
+    }
+
     public HttpRequest build() throws AzureException {
+        return build(null);
+    }
+
+    /**
+     * Builds the request, adding the time spent getting the access token and the rest of the build to {@code timings}.
+     */
+    HttpRequest build(RequestTimings timings) throws AzureException {
+        long start = System.nanoTime();
         try {
             String finalUrl = buildUrlWithQuery();
             
@@ -90,7 +133,13 @@ public class AzureRequest {
                 .uri(URI.create(finalUrl))
                 .timeout(timeout);
 
+            long authenticationStart = System.nanoTime();
             addAuthenticationHeader();
+            if (timings != null) {
+                long authentication = System.nanoTime() - authenticationStart;
+                timings.add(RequestTimings.Phase.AUTHENTICATION, authentication);
+                start += authentication;
+            }
             
             for (Map.Entry<String, String> header : headers.entrySet()) {
                 requestBuilder.header(header.getKey(), header.getValue());
@@ -133,7 +182,12 @@ public class AzureRequest {
                     throw new IllegalArgumentException("Unsupported HTTP method: " + method);
             }
 
-            return requestBuilder.build();
+            HttpRequest request = requestBuilder.build();
+            if (timings != null) {
+                timings.addSince(RequestTimings.Phase.SERIALIZATION, start);
+                timings.clientRequestId(headers.get("x-ms-client-request-id"));
+            }
+            return request;
         } catch (Exception e) {
             throw new AzureException("Failed to build HTTP request", e);
         }
@@ -196,6 +250,10 @@ public class AzureRequest {
         return timeout;
     }
 
+    public CancellationToken getCancellation() {
+        return cancellation;
+    }
+
     public String getSerializedBody() {
         return serializedBody;
     }
@@ -8,12 +8,25 @@ public class AzureResponse<T> {
     private final Map<String, String> headers;
     private final T body;
     private final String rawBody;
+    private final RequestTimings timings;
 
     public AzureResponse(int statusCode, Map<String, String> headers, T body, String rawBody) {
+        this(statusCode, headers, body, rawBody, null);
+    }
+
+    AzureResponse(int statusCode, Map<String, String> headers, T body, String rawBody, RequestTimings timings) {
         this.statusCode = statusCode;
         this.headers = Map.copyOf(headers);
         this.body = body;
         this.rawBody = rawBody;
+        this.timings = timings;
+    }
+
+    /**
+     * @return a copy of this response, sharing its body, that reports {@code timings}.
+     */
+    AzureResponse<T> withTimings(RequestTimings timings) {
+        return new AzureResponse<>(statusCode, headers, body, rawBody, timings);
     }
 
     public int getStatusCode() {
@@ -40,6 +53,14 @@ public class AzureResponse<T> {
         return rawBody;
     }
 
+    /**
+     * @return where the time of the call that produced this response went, including Azure's request IDs,
+     * or {@code null} for a response not produced by {@link AzureHttpClient}.
+     */
+    public RequestTimings getTimings() {
+        return timings;
+    }
+
     public boolean isSuccessful() {
         return statusCode >= 200 && statusCode < 300;
     }
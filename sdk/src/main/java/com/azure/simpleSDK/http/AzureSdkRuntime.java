@@ -0,0 +1,365 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.cache.ResponseCache;
+import com.azure.simpleSDK.http.diagnostics.NPlusOneDetector;
+import com.azure.simpleSDK.http.metrics.SdkMetrics;
+import com.azure.simpleSDK.http.retry.HedgingPolicy;
+import com.azure.simpleSDK.http.retry.RetryBudget;
+import com.azure.simpleSDK.http.throttling.AdaptiveConcurrencyLimiter;
+import com.azure.simpleSDK.http.throttling.ArmRateLimiter;
+import com.azure.simpleSDK.http.throttling.CircuitBreaker;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.lang.reflect.Type;
+import java.net.http.HttpClient;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide resources shared by service clients, credentials and the Graph client: one
+ * {@link HttpClient} (and with it one connection pool and selector thread), one lenient and one strict
+ * {@link ObjectMapper} with a per-type {@link ObjectReader} cache each, one executor for asynchronous
+ * work and a separate pool for the read-ahead workers of paged streams.
+ *
+ * <p>Clients built without an explicit runtime use {@link #getDefault()}. Build a dedicated runtime when
+ * different {@link TransportOptions} are needed, and {@link #close()} it when done; closing only shuts
+ * down an executor the runtime created itself.
+ */
+public final class AzureSdkRuntime implements AutoCloseable {
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static volatile AzureSdkRuntime defaultRuntime;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper lenientMapper;
+    private final ObjectMapper strictMapper;
+    private final ConcurrentMap<Type, ObjectReader> lenientReaders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Type, ObjectReader> strictReaders = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    // Read-ahead workers block on page loads, so they must not take threads the HTTP client completes responses on
+    private final ExecutorService prefetchExecutor = Executors.newCachedThreadPool(daemonThreadFactory("azure-sdk-prefetch-"));
+    private final boolean responseCompression;
+    private final TransportOptions transportOptions;
+    private final ResponseCache responseCache;
+    private final InFlightRequests inFlightRequests;
+    private final ArmRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final HedgingPolicy hedgingPolicy;
+    private final RetryBudget retryBudget;
+    private final BatchOptions batchOptions;
+    private final SdkMetrics metrics;
+    private final NPlusOneDetector nPlusOneDetector;
+
+    private AzureSdkRuntime(Builder builder) {
+        this.transportOptions = builder.transportOptions;
+        transportOptions.applyProcessSettings();
+        this.ownsExecutor = transportOptions.getExecutor() == null;
+        this.executor = ownsExecutor ? Executors.newCachedThreadPool(daemonThreadFactory("azure-sdk-")) : transportOptions.getExecutor();
+        this.httpClient = transportOptions.buildHttpClient(executor);
+        this.lenientMapper = createMapper(false);
+        this.strictMapper = createMapper(true);
+        this.responseCompression = builder.responseCompression;
+        this.responseCache = builder.responseCache;
+        this.inFlightRequests = builder.requestCoalescing ? new InFlightRequests() : null;
+        this.rateLimiter = builder.rateLimiter;
+        this.concurrencyLimiter = builder.concurrencyLimiter;
+        this.circuitBreaker = builder.circuitBreaker;
+        this.hedgingPolicy = builder.hedgingPolicy;
+        this.retryBudget = builder.retryBudget;
+        this.batchOptions = builder.batchOptions;
+        this.metrics = builder.metrics;
+        this.nPlusOneDetector = builder.nPlusOneDetector;
+    }
+
+    /**
+     * @return the runtime used by clients and credentials that were not given one explicitly.
+     */
+    public static AzureSdkRuntime getDefault() {
+        AzureSdkRuntime runtime = defaultRuntime;
+        if (runtime == null) {
+            synchronized (AzureSdkRuntime.class) {
+                runtime = defaultRuntime;
+                if (runtime == null) {
+                    runtime = new Builder().build();
+                    defaultRuntime = runtime;
+                }
+            }
+        }
+        return runtime;
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * @param failOnUnknownProperties {@code true} for the strict mapper that rejects properties missing
+     *                                from the target model
+     * @return the shared mapper for the requested strictness; callers must not reconfigure it.
+     */
+    public ObjectMapper getObjectMapper(boolean failOnUnknownProperties) {
+        return failOnUnknownProperties ? strictMapper : lenientMapper;
+    }
+
+    /**
+     * Returns a cached reader bound to {@code type}. Readers resolve their root deserializer when they are
+     * created, so repeated calls skip Jackson's per-call deserializer lookup.
+     */
+    public ObjectReader getReader(Type type, boolean failOnUnknownProperties) {
+        ConcurrentMap<Type, ObjectReader> readers = failOnUnknownProperties ? strictReaders : lenientReaders;
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            ObjectMapper mapper = getObjectMapper(failOnUnknownProperties);
+            reader = readers.computeIfAbsent(type, t -> mapper.readerFor(mapper.getTypeFactory().constructType(t)));
+        }
+        return reader;
+    }
+
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    ExecutorService getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
+    public TransportOptions getTransportOptions() {
+        return transportOptions;
+    }
+
+    /**
+     * @return cache used for ETag revalidation of GET responses, or {@code null} when caching is disabled.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * @return number of GET calls that were answered by joining an identical in-flight request.
+     */
+    public long getCoalescedRequestCount() {
+        return inFlightRequests == null ? 0 : inFlightRequests.getCoalescedCount();
+    }
+
+    /**
+     * @return limiter consulted before every request, or {@code null} when client-side pacing is disabled.
+     */
+    public ArmRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * @return per-provider limit on requests in flight, or {@code null} when concurrency is not limited.
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * @return breaker that fails requests fast while their endpoint is degraded, or {@code null} when disabled.
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @return policy for hedging slow GET and HEAD requests, or {@code null} when hedging is disabled.
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * @return budget shared by all retries of clients on this runtime, or {@code null} when retries are not capped.
+     */
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * @return options for combining GETs into ARM {@code /batch} calls, or {@code null} when requests are not batched automatically.
+     */
+    public BatchOptions getBatchOptions() {
+        return batchOptions;
+    }
+
+    /**
+     * @return registry recording latency and request counts of clients on this runtime, or {@code null} when metrics are off.
+     */
+    public SdkMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return detector watching the GETs of clients on this runtime for N+1 access patterns, or {@code null} when off.
+     */
+    public NPlusOneDetector getNPlusOneDetector() {
+        return nPlusOneDetector;
+    }
+
+    InFlightRequests getInFlightRequests() {
+        return inFlightRequests;
+    }
+
+    /**
+     * @return whether clients ask Azure for gzip/deflate encoded responses and decode them.
+     */
+    public boolean isResponseCompressionEnabled() {
+        return responseCompression;
+    }
+
+    @Override
+    public void close() {
+        prefetchExecutor.shutdown();
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private static ObjectMapper createMapper(boolean failOnUnknownProperties) {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, failOnUnknownProperties);
+        return mapper;
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static class Builder {
+        private TransportOptions transportOptions = TransportOptions.DEFAULT;
+        private boolean responseCompression = false;
+        private ResponseCache responseCache;
+        private boolean requestCoalescing = false;
+        private ArmRateLimiter rateLimiter;
+        private AdaptiveConcurrencyLimiter concurrencyLimiter;
+        private CircuitBreaker circuitBreaker;
+        private HedgingPolicy hedgingPolicy;
+        private RetryBudget retryBudget;
+        private BatchOptions batchOptions;
+        private SdkMetrics metrics;
+        private NPlusOneDetector nPlusOneDetector;
+
+        public Builder transportOptions(TransportOptions transportOptions) {
+            this.transportOptions = transportOptions;
+            return this;
+        }
+
+        /**
+         * Sends {@code Accept-Encoding: gzip, deflate} with every client request and transparently decodes
+         * encoded responses, including on the streaming paths. Large list results are repetitive JSON
+         * and typically shrink by an order of magnitude.
+         */
+        public Builder responseCompression(boolean responseCompression) {
+            this.responseCompression = responseCompression;
+            return this;
+        }
+
+        /**
+         * Caches GET responses that carry an ETag (header or top-level {@code etag} property) and
+         * revalidates them with {@code If-None-Match}, so unchanged resources come back as {@code 304}
+         * and are served without downloading or deserializing them again. List results are not cached.
+         */
+        public Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
+        /**
+         * Lets concurrent identical GETs (same credentials, response type, retry policy, headers and canonical
+         * URL including {@code api-version}) share one HTTP call and one deserialized result. Callers then
+         * receive the same response object, which must be treated as read-only.
+         */
+        public Builder requestCoalescing(boolean requestCoalescing) {
+            this.requestCoalescing = requestCoalescing;
+            return this;
+        }
+
+        /**
+         * Paces requests through {@code rateLimiter} before they are sent and feeds ARM's
+         * {@code x-ms-ratelimit-remaining-*} response headers back into it.
+         */
+        public Builder rateLimiter(ArmRateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Holds requests back while their resource provider's adaptive concurrency window is full.
+         */
+        public Builder concurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+            this.concurrencyLimiter = concurrencyLimiter;
+            return this;
+        }
+
+        /**
+         * Fails requests with {@link com.azure.simpleSDK.http.exceptions.AzureCircuitOpenException} while
+         * {@code circuitBreaker} holds their host and resource provider open.
+         */
+        public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        /**
+         * Sends a second, identical GET or HEAD request when the first is slower than
+         * {@code hedgingPolicy}'s latency percentile.
+         */
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        /**
+         * Caps retries across every client on this runtime; a failed request is not retried while
+         * {@code retryBudget} is exhausted.
+         */
+        public Builder retryBudget(RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
+        /**
+         * Combines concurrent GETs for ARM resources into calls to ARM's {@code /batch} endpoint. Each request
+         * waits up to the options' window for others to join its batch, so this pays off for fan-out through
+         * {@link AzureHttpClient#executeAsync} or many threads; {@link AzureHttpClient#newBatch()} works without it.
+         */
+        public Builder requestBatching(BatchOptions batchOptions) {
+            this.batchOptions = batchOptions;
+            return this;
+        }
+
+        /**
+         * Records the latency, status code and response size of every attempt sent by clients on this runtime,
+         * together with retries and pages fetched, into {@code metrics}.
+         */
+        public Builder metrics(SdkMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Passes every call made by clients on this runtime to {@code detector}, which reports loops that GET
+         * resources one by one where a list call would do. Meant for development and test runs.
+         */
+        public Builder nPlusOneDetector(NPlusOneDetector detector) {
+            this.nPlusOneDetector = detector;
+            return this;
+        }
+
+        public AzureSdkRuntime build() {
+            return new AzureSdkRuntime(this);
+        }
+    }
+}
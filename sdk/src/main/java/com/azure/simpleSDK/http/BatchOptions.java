@@ -0,0 +1,80 @@
+package com.azure.simpleSDK.http;
+
+import java.time.Duration;
+
+/**
+ * Controls how GET requests are combined into calls to ARM's {@code /batch} endpoint.
+ */
+public class BatchOptions {
+    /**
+     * The batch endpoint accepts at most this many requests per call.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * Batches of up to 20 requests, collected for at most 10ms when batching automatically.
+     */
+    public static final BatchOptions DEFAULT = new Builder().build();
+
+    private final int maxBatchSize;
+    private final Duration window;
+    private final String apiVersion;
+
+    private BatchOptions(Builder builder) {
+        this.maxBatchSize = builder.maxBatchSize;
+        this.window = builder.window;
+        this.apiVersion = builder.apiVersion;
+    }
+
+    /**
+     * @return maximum number of requests sent in one batch call.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return how long an automatically batched request waits for others to join its batch.
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    public String getApiVersion() {
+        return apiVersion;
+    }
+
+    public static class Builder {
+        private int maxBatchSize = 20;
+        private Duration window = Duration.ofMillis(10);
+        private String apiVersion = "2020-06-01";
+
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1 || maxBatchSize > MAX_BATCH_SIZE) {
+                throw new IllegalArgumentException("maxBatchSize must be between 1 and " + MAX_BATCH_SIZE);
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Longest delay added to a request while its batch fills up; a full batch is sent right away.
+         */
+        public Builder window(Duration window) {
+            if (window.isNegative()) {
+                throw new IllegalArgumentException("window must not be negative");
+            }
+            this.window = window;
+            return this;
+        }
+
+        public Builder apiVersion(String apiVersion) {
+            this.apiVersion = apiVersion;
+            return this;
+        }
+
+        public BatchOptions build() {
+            return new BatchOptions(this);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureCancellationException;
+import com.azure.simpleSDK.http.exceptions.AzureDeadlineExceededException;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline and cancellation signal for one logical call, covering all of its attempts and follow-up pages.
+ *
+ * <p>Attach it with {@link AzureRequest#cancellation(CancellationToken)}. Each attempt's timeout is shrunk to
+ * the time left, a retry whose backoff would outlast the deadline is not attempted, pagination stops once the
+ * token is done, and {@link #cancel()} from any thread aborts the requests in flight. A token can be shared
+ * by several requests, e.g. to give a whole page of a UI one budget:
+ *
+ * <pre>{@code
+ * CancellationToken budget = CancellationToken.withTimeout(Duration.ofSeconds(20));
+ * client.execute(client.get(url).cancellation(budget), VirtualMachineListResult.class);
+ * }</pre>
+ */
+public final class CancellationToken {
+    private final long deadlineNanos;
+    private final boolean hasDeadline;
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+    private final Set<Runnable> cancelActions = ConcurrentHashMap.newKeySet();
+
+    private CancellationToken(boolean hasDeadline, long deadlineNanos) {
+        this.hasDeadline = hasDeadline;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * A token without a deadline that only ends when {@link #cancel()} is called.
+     */
+    public static CancellationToken create() {
+        return new CancellationToken(false, 0);
+    }
+
+    /**
+     * A token whose deadline is {@code timeout} from now.
+     */
+    public static CancellationToken withTimeout(Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+        return new CancellationToken(true, System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Cancels the token and aborts the requests currently in flight under it. Calling it again has no effect.
+     */
+    public void cancel() {
+        synchronized (cancelled) {
+            if (cancelled.getCount() == 0) {
+                return;
+            }
+            cancelled.countDown();
+        }
+        for (Runnable action : cancelActions) {
+            runCancelAction(action);
+        }
+        cancelActions.clear();
+    }
+
+    public boolean isCancelled() {
+        return cancelled.getCount() == 0;
+    }
+
+    public boolean isExpired() {
+        return hasDeadline && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    public boolean isDone() {
+        return isCancelled() || isExpired();
+    }
+
+    /**
+     * @return time left until the deadline, zero once it passed, or {@code null} if the token has no deadline.
+     */
+    public Duration getRemaining() {
+        if (!hasDeadline) {
+            return null;
+        }
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * @throws AzureCancellationException if the token was cancelled, or {@link AzureDeadlineExceededException}
+     *                                    if its deadline passed
+     */
+    public void throwIfDone() throws AzureCancellationException {
+        if (isDone()) {
+            throw toException(null);
+        }
+    }
+
+    AzureCancellationException toException(Throwable cause) {
+        if (isCancelled()) {
+            return new AzureCancellationException("Request was cancelled", cause);
+        }
+        return new AzureDeadlineExceededException("Request deadline exceeded", cause);
+    }
+
+    /**
+     * Runs {@code action} when the token is cancelled, right away if it already is.
+     *
+     * @return unregisters {@code action}; call it once the work it would abort has finished
+     */
+    Runnable onCancel(Runnable action) {
+        cancelActions.add(action);
+        if (isCancelled() && cancelActions.remove(action)) {
+            runCancelAction(action);
+        }
+        return () -> cancelActions.remove(action);
+    }
+
+    /**
+     * Waits up to {@code timeout} for the token to be cancelled.
+     *
+     * @return {@code true} if it was cancelled
+     */
+    boolean await(Duration timeout) throws InterruptedException {
+        return cancelled.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static void runCancelAction(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Cancelling a request failed: " + e.getMessage());
+        }
+    }
+}
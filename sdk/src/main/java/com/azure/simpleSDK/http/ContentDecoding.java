@@ -0,0 +1,160 @@
+package com.azure.simpleSDK.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Body handlers that undo {@code gzip}/{@code deflate} content encoding, which the JDK {@code HttpClient}
+ * leaves to the caller. Used only when response compression is enabled on the {@link AzureSdkRuntime}.
+ */
+final class ContentDecoding {
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private ContentDecoding() {
+    }
+
+    static HttpResponse.BodyHandler<String> ofString() {
+        return responseInfo -> {
+            String encoding = contentEncoding(responseInfo.headers());
+            if (encoding == null) {
+                return HttpResponse.BodyHandlers.ofString().apply(responseInfo);
+            }
+            Charset charset = charsetOf(responseInfo.headers());
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(),
+                bytes -> new String(decode(bytes, encoding), charset));
+        };
+    }
+
+    static HttpResponse.BodyHandler<byte[]> ofByteArray() {
+        return responseInfo -> {
+            String encoding = contentEncoding(responseInfo.headers());
+            if (encoding == null) {
+                return HttpResponse.BodySubscribers.ofByteArray();
+            }
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(),
+                bytes -> decode(bytes, encoding));
+        };
+    }
+
+    /**
+     * Streams the decoded body. The decoder is created on the first read, because building a
+     * {@link GZIPInputStream} blocks on the header bytes and must not happen on the client's I/O thread.
+     */
+    static HttpResponse.BodyHandler<InputStream> ofInputStream() {
+        return responseInfo -> {
+            String encoding = contentEncoding(responseInfo.headers());
+            if (encoding == null) {
+                return HttpResponse.BodySubscribers.ofInputStream();
+            }
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                body -> new LazyDecodingInputStream(body, encoding));
+        };
+    }
+
+    /**
+     * First value of each header, without {@code Content-Encoding} and {@code Content-Length} when the
+     * body was decoded, so that recordings describe the body they actually contain.
+     */
+    static Map<String, String> decodedHeaders(HttpHeaders httpHeaders) {
+        Map<String, String> headers = HttpCallResult.firstValues(httpHeaders);
+        if (contentEncoding(httpHeaders) == null) {
+            return headers;
+        }
+        Map<String, String> decoded = new HashMap<>(headers);
+        decoded.keySet().removeIf(name -> name.equalsIgnoreCase("Content-Encoding") || name.equalsIgnoreCase("Content-Length"));
+        return Map.copyOf(decoded);
+    }
+
+    /**
+     * @return the supported encoding of the response, or {@code null} when the body is not encoded.
+     */
+    private static String contentEncoding(HttpHeaders headers) {
+        String encoding = headers.firstValue("Content-Encoding").orElse(null);
+        if (encoding == null) {
+            return null;
+        }
+        encoding = encoding.trim().toLowerCase(Locale.ROOT);
+        return switch (encoding) {
+            case "gzip", "x-gzip", "deflate" -> encoding;
+            default -> null;
+        };
+    }
+
+    private static Charset charsetOf(HttpHeaders headers) {
+        String contentType = headers.firstValue("Content-Type").orElse("");
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                try {
+                    return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                } catch (IllegalArgumentException e) {
+                    break;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static byte[] decode(byte[] body, String encoding) {
+        if (body.length == 0) {
+            return body;
+        }
+        try (InputStream in = decoder(new ByteArrayInputStream(body), encoding)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode " + encoding + " response body", e);
+        }
+    }
+
+    private static InputStream decoder(InputStream body, String encoding) throws IOException {
+        return "deflate".equals(encoding) ? new InflaterInputStream(body) : new GZIPInputStream(body);
+    }
+
+    private static final class LazyDecodingInputStream extends InputStream {
+        private final InputStream raw;
+        private final String encoding;
+        private InputStream decoded;
+
+        LazyDecodingInputStream(InputStream raw, String encoding) {
+            this.raw = raw;
+            this.encoding = encoding;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return decoded().read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            return decoded().read(buffer, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (decoded != null) {
+                decoded.close();
+            } else {
+                raw.close();
+            }
+        }
+
+        private InputStream decoded() throws IOException {
+            if (decoded == null) {
+                decoded = decoder(raw, encoding);
+            }
+            return decoded;
+        }
+    }
+}
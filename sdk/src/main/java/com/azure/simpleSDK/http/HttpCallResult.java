@@ -1,5 +1,6 @@
 package com.azure.simpleSDK.http;
 
+import java.net.http.HttpHeaders;
 import java.net.http.HttpResponse;
 import java.util.Collections;
 import java.util.HashMap;
@@ -11,12 +12,16 @@ import java.util.Map;
 public record HttpCallResult(int statusCode, Map<String, String> headers, String body) {
 
     public static HttpCallResult fromHttpResponse(HttpResponse<String> response) {
+        return new HttpCallResult(response.statusCode(), firstValues(response.headers()), response.body());
+    }
+
+    static Map<String, String> firstValues(HttpHeaders httpHeaders) {
         Map<String, String> headers = new HashMap<>();
-        response.headers().map().forEach((name, values) -> {
+        httpHeaders.map().forEach((name, values) -> {
             if (!values.isEmpty()) {
                 headers.put(name, values.get(0));
             }
         });
-        return new HttpCallResult(response.statusCode(), Collections.unmodifiableMap(headers), response.body());
+        return Collections.unmodifiableMap(headers);
     }
 }
@@ -0,0 +1,31 @@
+package com.azure.simpleSDK.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Counterpart of {@link HttpCallResult} whose body is still an unread byte stream, used by the
+ * streaming deserialization path so large responses never have to exist as a single {@code String}.
+ */
+record HttpStreamResult(int statusCode, Map<String, String> headers, InputStream body) {
+
+    static HttpStreamResult fromCallResult(HttpCallResult result) {
+        byte[] bytes = result.body() == null ? new byte[0] : result.body().getBytes(StandardCharsets.UTF_8);
+        return new HttpStreamResult(result.statusCode(), result.headers(), new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Reads and closes the remaining body, e.g. to build an error from a failed response.
+     */
+    HttpCallResult drain() throws IOException {
+        if (body == null) {
+            return new HttpCallResult(statusCode, headers, null);
+        }
+        try (InputStream in = body) {
+            return new HttpCallResult(statusCode, headers, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
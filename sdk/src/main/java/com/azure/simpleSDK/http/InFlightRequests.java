@@ -0,0 +1,155 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureException;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single-flight table of GET calls in progress. A caller whose request matches one that is already in
+ * flight waits for that call and receives the same {@link AzureResponse} (or the same exception) instead
+ * of sending a duplicate request.
+ */
+final class InFlightRequests {
+    // Differ between otherwise identical calls: the ID per request, the bearer token per refresh (the principal is in the key)
+    private static final Set<String> IGNORED_HEADERS = Set.of("x-ms-client-request-id", "authorization");
+
+    private final ConcurrentMap<Key, CompletableFuture<AzureResponse<?>>> calls = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    interface Call<T> {
+        AzureResponse<T> execute() throws AzureException;
+    }
+
+    interface AsyncCall<T> {
+        CompletableFuture<AzureResponse<T>> execute();
+    }
+
+    /**
+     * Identifies interchangeable calls: same caller identity, same target type, page limit and retry policy,
+     * the same canonical URL (which carries the {@code api-version}) and the same request headers apart from
+     * the per-request {@code x-ms-client-request-id} and the bearer token.
+     */
+    record Key(Object principal, Class<?> responseType, int maxPages, RetryPolicy retryPolicy, Map<String, String> headers,
+               String url) {
+    }
+
+    static Key key(Object principal, Class<?> responseType, int maxPages, RetryPolicy retryPolicy, Map<String, String> headers,
+                   URI uri) {
+        Map<String, String> significant = new HashMap<>();
+        headers.forEach((name, value) -> {
+            String lowerCase = name.toLowerCase(Locale.ROOT);
+            if (!IGNORED_HEADERS.contains(lowerCase)) {
+                significant.put(lowerCase, value);
+            }
+        });
+        return new Key(principal, responseType, maxPages, retryPolicy, Map.copyOf(significant), canonicalUrl(uri));
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> AzureResponse<T> execute(Key key, Call<T> call) throws AzureException {
+        CompletableFuture<AzureResponse<?>> ours = new CompletableFuture<>();
+        CompletableFuture<AzureResponse<?>> leader = calls.putIfAbsent(key, ours);
+        if (leader != null) {
+            coalesced.increment();
+            return (AzureResponse<T>) await(leader);
+        }
+
+        try {
+            AzureResponse<T> response = call.execute();
+            ours.complete(response);
+            return response;
+        } catch (Throwable e) {
+            ours.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, ours);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}. Every caller, the one that starts the call included, gets
+     * its own dependent future, so cancelling it doesn't cancel the call the others are waiting for.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<AzureResponse<T>> executeAsync(Key key, AsyncCall<T> call) {
+        CompletableFuture<AzureResponse<?>> ours = new CompletableFuture<>();
+        CompletableFuture<AzureResponse<?>> leader = calls.putIfAbsent(key, ours);
+        if (leader != null) {
+            coalesced.increment();
+            return leader.thenApply(response -> (AzureResponse<T>) response);
+        }
+
+        CompletableFuture<AzureResponse<T>> sent;
+        try {
+            sent = call.execute();
+        } catch (Throwable e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((response, error) -> {
+            calls.remove(key, ours);
+            if (error != null) {
+                // Blocking callers waiting on the same call expect the failure itself
+                ours.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                ours.complete(response);
+            }
+        });
+        return ours.thenApply(response -> (AzureResponse<T>) response);
+    }
+
+    long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static AzureResponse<?> await(CompletableFuture<AzureResponse<?>> leader) throws AzureException {
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AzureException("Interrupted while waiting for an identical in-flight request", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof AzureException azureException) {
+                throw azureException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new AzureException("Identical in-flight request failed", cause);
+        }
+    }
+
+    /**
+     * Lower-cases scheme and host and sorts query parameters, so requests built with parameters added in
+     * a different order share a key.
+     */
+    static String canonicalUrl(URI uri) {
+        StringBuilder canonical = new StringBuilder()
+            .append(uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT))
+            .append("://")
+            .append(uri.getRawAuthority() == null ? "" : uri.getRawAuthority().toLowerCase(Locale.ROOT))
+            .append(uri.getRawPath() == null ? "" : uri.getRawPath());
+        String query = uri.getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            String[] parameters = query.split("&");
+            Arrays.sort(parameters);
+            canonical.append('?').append(String.join("&", parameters));
+        }
+        return canonical.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureException;
+import com.azure.simpleSDK.http.exceptions.UncheckedAzureException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily walks a {@code nextLink} chain one page at a time. A page is only requested when the caller
+ * asks for it and the iterator keeps no reference to pages it has already handed out.
+ */
+class PagedIterator<T> implements Iterator<T> {
+
+    interface PageLoader<T> {
+        LoadedPage<T> load(String nextLink) throws AzureException;
+    }
+
+    /**
+     * A deserialized page together with the UTF-8 size of the response body it was parsed from.
+     */
+    record LoadedPage<T>(T page, long bodyLength) {
+    }
+
+    interface NextLinkAccessor<T> {
+        String nextLink(T page) throws AzureException;
+    }
+
+    private final PageLoader<T> firstPageLoader;
+    private final PageLoader<T> nextPageLoader;
+    private final NextLinkAccessor<T> nextLinkAccessor;
+    private final int maxPages;
+
+    private T pendingPage;
+    private String nextLink;
+    private int pagesFetched;
+    private boolean finished;
+
+    PagedIterator(PageLoader<T> firstPageLoader, PageLoader<T> nextPageLoader,
+                  NextLinkAccessor<T> nextLinkAccessor, PagingOptions options) {
+        this.firstPageLoader = firstPageLoader;
+        this.nextPageLoader = nextPageLoader;
+        this.nextLinkAccessor = nextLinkAccessor;
+        this.maxPages = options.getMaxPages();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pendingPage != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+
+        try {
+            if (pagesFetched == 0) {
+                pendingPage = firstPageLoader.load(null).page();
+            } else if (nextLink == null || nextLink.trim().isEmpty()) {
+                finished = true;
+                return false;
+            } else if (pagesFetched >= maxPages) {
+                System.err.println("Warning: Reached maximum page limit (" + maxPages + ") for paginated results. Some results may be missing.");
+                finished = true;
+                return false;
+            } else {
+                pendingPage = nextPageLoader.load(nextLink).page();
+            }
+        } catch (AzureException e) {
+            finished = true;
+            throw new UncheckedAzureException("Failed to fetch page " + (pagesFetched + 1) + " of paginated results", e);
+        }
+
+        pagesFetched++;
+        if (pendingPage == null) {
+            finished = true;
+            return false;
+        }
+
+        try {
+            nextLink = nextLinkAccessor.nextLink(pendingPage);
+        } catch (AzureException e) {
+            finished = true;
+            throw new UncheckedAzureException(e);
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T page = pendingPage;
+        pendingPage = null;
+        return page;
+    }
+}
@@ -0,0 +1,127 @@
+package com.azure.simpleSDK.http;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Controls how {@link AzureHttpClient} walks {@code nextLink} chains of list results.
+ */
+public class PagingOptions {
+    private final int maxPages;
+    private final int prefetchDepth;
+    private final long maxPrefetchBytes;
+    private final Executor prefetchExecutor;
+    private final Duration prefetchIdleTimeout;
+
+    /**
+     * Follows every {@code nextLink} until Azure stops returning one, without read-ahead.
+     */
+    public static final PagingOptions DEFAULT = new Builder().build();
+
+    private PagingOptions(Builder builder) {
+        this.maxPages = builder.maxPages;
+        this.prefetchDepth = builder.prefetchDepth;
+        this.maxPrefetchBytes = builder.maxPrefetchBytes;
+        this.prefetchExecutor = builder.prefetchExecutor;
+        this.prefetchIdleTimeout = builder.prefetchIdleTimeout;
+    }
+
+    /**
+     * @return maximum number of pages (including the first one) that will be requested.
+     */
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    /**
+     * @return number of pages fetched ahead of the consumer, or {@code 0} when read-ahead is disabled.
+     */
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    /**
+     * @return upper bound on response bytes held by pages that were prefetched but not yet consumed.
+     */
+    public long getMaxPrefetchBytes() {
+        return maxPrefetchBytes;
+    }
+
+    /**
+     * @return executor running the read-ahead worker, or {@code null} to use the runtime's read-ahead pool.
+     * The worker holds a thread while it waits for a page, so an executor given here should not be the one
+     * the HTTP client completes responses on ({@link TransportOptions#getExecutor()}).
+     */
+    public Executor getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
+    /**
+     * @return how long the read-ahead worker waits for the consumer to make room before giving its thread
+     * back; read-ahead resumes when the consumer catches up.
+     */
+    public Duration getPrefetchIdleTimeout() {
+        return prefetchIdleTimeout;
+    }
+
+    public boolean isPrefetchEnabled() {
+        return prefetchDepth > 0;
+    }
+
+    public static class Builder {
+        private int maxPages = Integer.MAX_VALUE;
+        private int prefetchDepth = 0;
+        private long maxPrefetchBytes = 64L * 1024 * 1024;
+        private Executor prefetchExecutor;
+        private Duration prefetchIdleTimeout = Duration.ofSeconds(30);
+
+        public Builder maxPages(int maxPages) {
+            if (maxPages < 1) {
+                throw new IllegalArgumentException("maxPages must be at least 1");
+            }
+            this.maxPages = maxPages;
+            return this;
+        }
+
+        /**
+         * Fetches up to {@code prefetchDepth} pages in the background while the caller consumes the
+         * current one. Only the streaming APIs read ahead; {@code 0} disables it.
+         */
+        public Builder prefetchDepth(int prefetchDepth) {
+            if (prefetchDepth < 0) {
+                throw new IllegalArgumentException("prefetchDepth must not be negative");
+            }
+            this.prefetchDepth = prefetchDepth;
+            return this;
+        }
+
+        /**
+         * Pauses read-ahead while buffered pages exceed this many response bytes. A single page is
+         * always allowed so that paging can make progress.
+         */
+        public Builder maxPrefetchBytes(long maxPrefetchBytes) {
+            if (maxPrefetchBytes < 1) {
+                throw new IllegalArgumentException("maxPrefetchBytes must be positive");
+            }
+            this.maxPrefetchBytes = maxPrefetchBytes;
+            return this;
+        }
+
+        public Builder prefetchExecutor(Executor prefetchExecutor) {
+            this.prefetchExecutor = prefetchExecutor;
+            return this;
+        }
+
+        public Builder prefetchIdleTimeout(Duration prefetchIdleTimeout) {
+            if (prefetchIdleTimeout.isNegative() || prefetchIdleTimeout.isZero()) {
+                throw new IllegalArgumentException("prefetchIdleTimeout must be positive");
+            }
+            this.prefetchIdleTimeout = prefetchIdleTimeout;
+            return this;
+        }
+
+        public PagingOptions build() {
+            return new PagingOptions(this);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Pre-resolved paging metadata of a response type: whether it is a list result with {@code value()} and
+ * {@code nextLink()} accessors, method handles for those accessors and for the record's canonical
+ * constructor and other components. Resolved once per class through {@link #of(Class)} so the per-page hot path does no
+ * reflective lookups.
+ */
+final class PagingShape {
+    private static final PagingShape NOT_PAGINATED = new PagingShape(null, null, null, null, null, -1, -1);
+
+    private static final ClassValue<PagingShape> SHAPES = new ClassValue<>() {
+        @Override
+        protected PagingShape computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private final MethodHandle valueAccessor;
+    private final MethodHandle nextLinkAccessor;
+    private final MethodHandle constructor;
+    private final int constructorArity;
+    private final MethodHandle[] componentAccessors;
+    private final Type itemType;
+    private final int valueArgumentIndex;
+    private final int nextLinkArgumentIndex;
+
+    private PagingShape(MethodHandle valueAccessor, MethodHandle nextLinkAccessor, MethodHandle constructor,
+                        MethodHandle[] componentAccessors, Type itemType, int valueArgumentIndex, int nextLinkArgumentIndex) {
+        this.valueAccessor = valueAccessor;
+        this.nextLinkAccessor = nextLinkAccessor;
+        // Spread over an Object[] once so combine() can use invokeExact
+        this.constructorArity = constructor == null ? 0 : constructor.type().parameterCount();
+        this.constructor = constructor == null ? null : constructor
+            .asSpreader(Object[].class, constructorArity)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+        this.componentAccessors = componentAccessors;
+        this.itemType = itemType;
+        this.valueArgumentIndex = valueArgumentIndex;
+        this.nextLinkArgumentIndex = nextLinkArgumentIndex;
+    }
+
+    static PagingShape of(Class<?> type) {
+        return SHAPES.get(type);
+    }
+
+    boolean isPaginated() {
+        return valueAccessor != null;
+    }
+
+    /**
+     * @return element type of the {@code value()} list, e.g. {@code NetworkInterface}.
+     */
+    Type itemType() {
+        return itemType;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<Object> value(Object page) throws AzureException {
+        try {
+            return (List<Object>) (Object) valueAccessor.invokeExact(page);
+        } catch (Throwable e) {
+            throw new AzureException("Failed to read value from " + page.getClass().getName(), e);
+        }
+    }
+
+    String nextLink(Object page) throws AzureException {
+        try {
+            return (String) nextLinkAccessor.invokeExact(page);
+        } catch (Throwable e) {
+            throw new AzureException("Failed to read nextLink from " + page.getClass().getName(), e);
+        }
+    }
+
+    boolean canCombine() {
+        return constructor != null;
+    }
+
+    /**
+     * Builds a new instance holding {@code items} and no {@code nextLink}; any other record components
+     * are copied from {@code firstPage}.
+     */
+    Object combine(Object firstPage, List<Object> items) throws AzureException {
+        if (constructor == null) {
+            throw new AzureException("Paginated result type has no usable canonical constructor");
+        }
+        Object[] arguments = new Object[constructorArity];
+        try {
+            if (componentAccessors != null) {
+                for (int i = 0; i < constructorArity; i++) {
+                    if (i != valueArgumentIndex && i != nextLinkArgumentIndex) {
+                        arguments[i] = (Object) componentAccessors[i].invokeExact(firstPage);
+                    }
+                }
+            }
+            arguments[valueArgumentIndex] = items;
+            arguments[nextLinkArgumentIndex] = null;
+            return (Object) constructor.invokeExact(arguments);
+        } catch (Throwable e) {
+            throw new AzureException("Failed to combine paginated results", e);
+        }
+    }
+
+    private static PagingShape resolve(Class<?> type) {
+        Method valueMethod;
+        Method nextLinkMethod;
+        try {
+            // Check if the class has both 'value' and 'nextLink' methods (record accessors)
+            valueMethod = type.getMethod("value");
+            nextLinkMethod = type.getMethod("nextLink");
+        } catch (NoSuchMethodException e) {
+            return NOT_PAGINATED;
+        }
+
+        // Check if value() returns a List
+        Type returnType = valueMethod.getGenericReturnType();
+        if (!(returnType instanceof ParameterizedType paramType)
+            || !(paramType.getRawType() instanceof Class<?> rawType)
+            || !List.class.isAssignableFrom(rawType)
+            || nextLinkMethod.getReturnType() != String.class) {
+            return NOT_PAGINATED;
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle valueAccessor = lookup.unreflect(valueMethod)
+                .asType(MethodType.methodType(Object.class, Object.class));
+            MethodHandle nextLinkAccessor = lookup.unreflect(nextLinkMethod)
+                .asType(MethodType.methodType(String.class, Object.class));
+            Type itemType = paramType.getActualTypeArguments()[0];
+            return resolveConstructor(type, lookup, valueAccessor, nextLinkAccessor, itemType);
+        } catch (IllegalAccessException e) {
+            return NOT_PAGINATED;
+        }
+    }
+
+    private static PagingShape resolveConstructor(Class<?> type, MethodHandles.Lookup lookup, MethodHandle valueAccessor,
+                                                  MethodHandle nextLinkAccessor, Type itemType) {
+        if (type.isRecord()) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            int valueIndex = -1;
+            int nextLinkIndex = -1;
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+                if ("value".equals(components[i].getName())) {
+                    valueIndex = i;
+                } else if ("nextLink".equals(components[i].getName())) {
+                    nextLinkIndex = i;
+                }
+            }
+            if (valueIndex >= 0 && nextLinkIndex >= 0) {
+                try {
+                    Constructor<?> canonical = type.getConstructor(parameterTypes);
+                    MethodHandle constructor = lookup.unreflectConstructor(canonical);
+                    MethodHandle[] componentAccessors = new MethodHandle[components.length];
+                    for (int i = 0; i < components.length; i++) {
+                        componentAccessors[i] = lookup.unreflect(components[i].getAccessor())
+                            .asType(MethodType.methodType(Object.class, Object.class));
+                    }
+                    return new PagingShape(valueAccessor, nextLinkAccessor, constructor, componentAccessors, itemType,
+                        valueIndex, nextLinkIndex);
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    // Fall through to a shape that can page but not combine
+                }
+            }
+            return new PagingShape(valueAccessor, nextLinkAccessor, null, null, itemType, -1, -1);
+        }
+
+        // Non-record list types: assume a (value, nextLink) constructor
+        for (Constructor<?> candidate : type.getConstructors()) {
+            if (candidate.getParameterCount() == 2) {
+                try {
+                    MethodHandle constructor = lookup.unreflectConstructor(candidate);
+                    return new PagingShape(valueAccessor, nextLinkAccessor, constructor, null, itemType, 0, 1);
+                } catch (IllegalAccessException e) {
+                    break;
+                }
+            }
+        }
+        return new PagingShape(valueAccessor, nextLinkAccessor, null, null, itemType, -1, -1);
+    }
+}
@@ -0,0 +1,238 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureException;
+import com.azure.simpleSDK.http.exceptions.UncheckedAzureException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Walks a {@code nextLink} chain like {@link PagedIterator} but fetches the following pages on a
+ * background worker while the caller is still consuming the current one.
+ *
+ * <p>The worker stops reading ahead once {@link PagingOptions#getPrefetchDepth()} pages are buffered or
+ * the buffered response bodies exceed {@link PagingOptions#getMaxPrefetchBytes()}. If the consumer leaves
+ * the buffer full for {@link PagingOptions#getPrefetchIdleTimeout()}, the worker gives its thread back and
+ * a new one picks up at the same {@code nextLink} once the consumer drains the buffer. Callers that abandon
+ * the iteration early should {@link #close()} it (or the stream built on top of it) to stop the worker.
+ */
+class PrefetchingPagedIterator<T> implements Iterator<T>, AutoCloseable {
+    private final PagedIterator.PageLoader<T> firstPageLoader;
+    private final PagedIterator.PageLoader<T> nextPageLoader;
+    private final PagedIterator.NextLinkAccessor<T> nextLinkAccessor;
+    private final int maxPages;
+    private final int prefetchDepth;
+    private final long maxPrefetchBytes;
+    private final long idleTimeoutNanos;
+    private final Executor executor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition bufferChanged = lock.newCondition();
+    private final Deque<PagedIterator.LoadedPage<T>> buffer = new ArrayDeque<>();
+    private long bufferedBytes;
+    private boolean producerDone;
+    private boolean closed;
+    private Throwable failure;
+    private boolean workerRunning;
+    private FutureTask<Void> worker;
+    private T pendingPage;
+
+    // Paging position, handed from one worker to the next under the lock
+    private String nextLink;
+    private int pagesFetched;
+
+    PrefetchingPagedIterator(PagedIterator.PageLoader<T> firstPageLoader, PagedIterator.PageLoader<T> nextPageLoader,
+                             PagedIterator.NextLinkAccessor<T> nextLinkAccessor, PagingOptions options, Executor defaultExecutor) {
+        this.firstPageLoader = firstPageLoader;
+        this.nextPageLoader = nextPageLoader;
+        this.nextLinkAccessor = nextLinkAccessor;
+        this.maxPages = options.getMaxPages();
+        this.prefetchDepth = options.getPrefetchDepth();
+        this.maxPrefetchBytes = options.getMaxPrefetchBytes();
+        this.idleTimeoutNanos = options.getPrefetchIdleTimeout().toNanos();
+        this.executor = options.getPrefetchExecutor() != null ? options.getPrefetchExecutor() : defaultExecutor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pendingPage != null) {
+            return true;
+        }
+        lock.lock();
+        try {
+            while (buffer.isEmpty() && !producerDone && !closed) {
+                startWorker();
+                bufferChanged.await();
+            }
+
+            PagedIterator.LoadedPage<T> loaded = buffer.pollFirst();
+            if (loaded != null) {
+                bufferedBytes -= loaded.bodyLength();
+                // Resumes read-ahead after a worker that went idle
+                startWorker();
+                bufferChanged.signalAll();
+                pendingPage = loaded.page();
+                return true;
+            }
+
+            if (failure != null) {
+                Throwable error = failure;
+                failure = null;
+                if (error instanceof AzureException azureException) {
+                    throw new UncheckedAzureException("Failed to prefetch page of paginated results", azureException);
+                }
+                if (error instanceof Error fatal) {
+                    throw fatal;
+                }
+                throw (RuntimeException) error;
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new UncheckedAzureException(new AzureException("Interrupted while waiting for the next page", e));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T page = pendingPage;
+        pendingPage = null;
+        return page;
+    }
+
+    @Override
+    public void close() {
+        FutureTask<Void> running;
+        lock.lock();
+        try {
+            closed = true;
+            buffer.clear();
+            bufferedBytes = 0;
+            bufferChanged.signalAll();
+            running = workerRunning ? worker : null;
+        } finally {
+            lock.unlock();
+        }
+        if (running != null) {
+            running.cancel(true);
+        }
+    }
+
+    /**
+     * Starts a worker unless one is running or paging is over. Called with the lock held.
+     */
+    private void startWorker() {
+        if (workerRunning || producerDone || closed) {
+            return;
+        }
+        workerRunning = true;
+        worker = new FutureTask<>(this::prefetchPages, null);
+        executor.execute(worker);
+    }
+
+    private void prefetchPages() {
+        boolean idle = false;
+        try {
+            while (true) {
+                Capacity capacity = awaitCapacity();
+                if (capacity != Capacity.AVAILABLE) {
+                    idle = capacity == Capacity.IDLE;
+                    break;
+                }
+                PagedIterator.LoadedPage<T> loaded;
+                if (pagesFetched == 0) {
+                    loaded = firstPageLoader.load(null);
+                } else if (nextLink == null || nextLink.trim().isEmpty()) {
+                    break;
+                } else if (pagesFetched >= maxPages) {
+                    System.err.println("Warning: Reached maximum page limit (" + maxPages + ") for paginated results. Some results may be missing.");
+                    break;
+                } else {
+                    loaded = nextPageLoader.load(nextLink);
+                }
+
+                pagesFetched++;
+                if (loaded == null || loaded.page() == null) {
+                    break;
+                }
+                nextLink = nextLinkAccessor.nextLink(loaded.page());
+                enqueue(loaded);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(new AzureException("Interrupted while prefetching the next page", e));
+        } catch (Throwable e) {
+            // Anything the loaders throw must reach the consumer, or the results would look complete
+            fail(e);
+        } finally {
+            lock.lock();
+            try {
+                workerRunning = false;
+                producerDone = !idle;
+                bufferChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private enum Capacity { AVAILABLE, CLOSED, IDLE }
+
+    private void fail(Throwable error) {
+        lock.lock();
+        try {
+            if (!closed) {
+                failure = error;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until another page may be buffered, or returns {@link Capacity#IDLE} once the consumer has left
+     * the buffer full for the idle timeout.
+     */
+    private Capacity awaitCapacity() throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = idleTimeoutNanos;
+            while (!closed && (buffer.size() >= prefetchDepth
+                || (!buffer.isEmpty() && bufferedBytes >= maxPrefetchBytes))) {
+                if (remaining <= 0) {
+                    return Capacity.IDLE;
+                }
+                remaining = bufferChanged.awaitNanos(remaining);
+            }
+            return closed ? Capacity.CLOSED : Capacity.AVAILABLE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(PagedIterator.LoadedPage<T> loaded) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            buffer.addLast(loaded);
+            bufferedBytes += loaded.bodyLength();
+            bufferChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureException;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * GET requests collected to be sent through ARM's {@code /batch} endpoint, for callers that know up front
+ * which resources they need:
+ *
+ * <pre>{@code
+ * RequestBatch batch = client.newBatch();
+ * CompletableFuture<AzureResponse<NetworkSecurityGroup>> nsg = batch.add(client.get(nsgUrl), NetworkSecurityGroup.class);
+ * CompletableFuture<AzureResponse<RoleDefinition>> role = batch.add(client.get(roleUrl), RoleDefinition.class);
+ * batch.send();
+ * }</pre>
+ *
+ * <p>Each future completes with the response, or the exception, that {@link AzureHttpClient#execute} would
+ * have produced for its request. A batch is not thread-safe; it can be reused after {@link #send()}.
+ */
+public final class RequestBatch {
+    private final RequestBatcher batcher;
+    private final List<RequestBatcher.Pending<?>> pending = new ArrayList<>();
+
+    RequestBatch(RequestBatcher batcher) {
+        this.batcher = batcher;
+    }
+
+    /**
+     * Adds a GET request to the batch; nothing is sent until {@link #send()}.
+     *
+     * @throws IllegalArgumentException if {@code request} is not a GET
+     */
+    public <T> CompletableFuture<AzureResponse<T>> add(AzureRequest request, Class<T> responseType) {
+        if (!"GET".equals(request.getMethod())) {
+            throw new IllegalArgumentException("Only GET requests can be batched, got " + request.getMethod());
+        }
+        HttpRequest built;
+        try {
+            built = request.build();
+        } catch (AzureException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        RequestBatcher.Pending<T> entry = new RequestBatcher.Pending<>(built, responseType);
+        pending.add(entry);
+        return entry.result();
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * Sends the requests added so far and waits until every one of their futures has completed.
+     */
+    public void send() {
+        List<RequestBatcher.Pending<?>> toSend = new ArrayList<>(pending);
+        pending.clear();
+        batcher.sendAll(toSend);
+        CompletableFuture.allOf(toSend.stream().map(RequestBatcher.Pending::result).toArray(CompletableFuture[]::new))
+            .exceptionally(error -> null)
+            .join();
+    }
+}
@@ -0,0 +1,216 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends GETs through ARM's {@code /batch} endpoint and splits its answer back into one {@link AzureResponse}
+ * per request.
+ *
+ * <p>Requests are grouped by scheme and host, since a batch is posted to the host its requests address, and
+ * split into batches of {@link BatchOptions#getMaxBatchSize()}. An item that comes back with a status the
+ * retry policy would retry, or is missing from the batch response, is sent again on its own; if the batch
+ * call itself fails, every request in it is. A batch item carries only a URL, so requests that are not ARM
+ * resource URLs, or that set headers of their own, are always sent on their own.
+ *
+ * <p>Nothing here blocks a thread: batches, polls of a batch ARM is still running, individual sends and the
+ * following pages of a batched list result all complete through futures.
+ */
+final class RequestBatcher {
+    private final AzureHttpClient client;
+    private final BatchOptions options;
+    private final Executor executor;
+    private final Map<String, List<Pending<?>>> queues = new HashMap<>();
+
+    record Pending<T>(HttpRequest request, Class<T> responseType, CompletableFuture<AzureResponse<T>> result) {
+        Pending(HttpRequest request, Class<T> responseType) {
+            this(request, responseType, new CompletableFuture<>());
+        }
+    }
+
+    RequestBatcher(AzureHttpClient client, BatchOptions options, Executor executor) {
+        this.client = client;
+        this.options = options;
+        this.executor = executor;
+    }
+
+    /**
+     * Queues {@code request} for its host's next batch, which is sent once it is full or
+     * {@link BatchOptions#getWindow()} after its first request was queued.
+     */
+    <T> CompletableFuture<AzureResponse<T>> submit(HttpRequest request, Class<T> responseType) {
+        Pending<T> pending = new Pending<>(request, responseType);
+        if (!isBatchable(request)) {
+            sendIndividually(pending);
+            return pending.result();
+        }
+
+        String origin = origin(request.uri());
+        List<Pending<?>> full = null;
+        boolean first;
+        synchronized (queues) {
+            List<Pending<?>> queue = queues.computeIfAbsent(origin, key -> new ArrayList<>());
+            first = queue.isEmpty();
+            queue.add(pending);
+            if (queue.size() >= options.getMaxBatchSize()) {
+                full = queues.remove(origin);
+            }
+        }
+
+        if (full != null) {
+            sendBatch(origin, full);
+        } else if (first) {
+            CompletableFuture.delayedExecutor(options.getWindow().toNanos(), TimeUnit.NANOSECONDS, executor)
+                .execute(() -> flush(origin));
+        }
+        return pending.result();
+    }
+
+    /**
+     * Sends {@code requests} in as few batches as the options allow, running the batches in parallel.
+     * Results are delivered through each request's future.
+     */
+    void sendAll(List<Pending<?>> requests) {
+        Map<String, List<Pending<?>>> byOrigin = new LinkedHashMap<>();
+        for (Pending<?> pending : requests) {
+            if (isBatchable(pending.request())) {
+                byOrigin.computeIfAbsent(origin(pending.request().uri()), key -> new ArrayList<>()).add(pending);
+            } else {
+                sendIndividually(pending);
+            }
+        }
+
+        byOrigin.forEach((origin, pending) -> {
+            for (int from = 0; from < pending.size(); from += options.getMaxBatchSize()) {
+                sendBatch(origin, pending.subList(from, Math.min(pending.size(), from + options.getMaxBatchSize())));
+            }
+        });
+    }
+
+    private void flush(String origin) {
+        List<Pending<?>> batch;
+        synchronized (queues) {
+            batch = queues.remove(origin);
+        }
+        if (batch != null) {
+            sendBatch(origin, batch);
+        }
+    }
+
+    private void sendBatch(String origin, List<Pending<?>> batch) {
+        if (batch.size() == 1) {
+            sendIndividually(batch.get(0));
+            return;
+        }
+
+        List<Map<String, String>> requests = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            requests.add(Map.of("httpMethod", "GET", "name", String.valueOf(i), "url", batch.get(i).request().uri().toString()));
+        }
+
+        client.sendBatchAsync(origin + "/batch?api-version=" + options.getApiVersion(), Map.of("requests", requests))
+            .whenComplete((result, error) -> {
+                Map<String, JsonNode> responses = new HashMap<>();
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    System.err.println("Warning: Batch of " + batch.size() + " requests failed, sending them individually: "
+                        + cause.getMessage());
+                } else {
+                    for (JsonNode response : result.path("responses")) {
+                        responses.put(response.path("name").asText(), response);
+                    }
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    complete(batch.get(i), responses.get(String.valueOf(i)));
+                }
+            });
+    }
+
+    private <T> void complete(Pending<T> pending, JsonNode item) {
+        int statusCode = item == null ? 0 : item.path("httpStatusCode").asInt();
+        if (statusCode == 0 || client.isRetryableStatus(statusCode)) {
+            sendIndividually(pending);
+            return;
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        item.path("headers").fields().forEachRemaining(header -> headers.put(header.getKey(), header.getValue().asText()));
+        JsonNode content = item.get("content");
+        String body = content == null || content.isNull() ? null : content.toString();
+        CompletableFuture<AzureResponse<T>> response;
+        try {
+            response = client.batchItemResponseAsync(pending.request(), new HttpCallResult(statusCode, headers, body),
+                pending.responseType());
+        } catch (Throwable e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        completeWith(pending, response);
+    }
+
+    private <T> void sendIndividually(Pending<T> pending) {
+        completeWith(pending, client.executeUnbatchedAsync(pending.request(), pending.responseType()));
+    }
+
+    private static <T> void completeWith(Pending<T> pending, CompletableFuture<AzureResponse<T>> response) {
+        response.whenComplete((result, error) -> {
+            if (error != null) {
+                pending.result().completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                pending.result().complete(result);
+            }
+        });
+    }
+
+    static <T> T await(CompletableFuture<T> result) throws AzureException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AzureException("Interrupted while waiting for a batched request", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof AzureException azureException) {
+                throw azureException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new AzureException("Batched request failed", cause);
+        }
+    }
+
+    private static boolean isBatchable(HttpRequest request) {
+        String path = request.uri().getRawPath();
+        if (path == null || !(path.startsWith("/subscriptions/") || path.startsWith("/providers/"))) {
+            return false;
+        }
+        for (Map.Entry<String, List<String>> header : request.headers().map().entrySet()) {
+            for (String value : header.getValue()) {
+                if (!AzureRequest.isStandardHeader(header.getKey(), value)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String origin(URI uri) {
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+}
@@ -0,0 +1,167 @@
+package com.azure.simpleSDK.http;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Where the time of one {@link AzureHttpClient} call went: a total per {@link Phase} plus every attempt sent
+ * over the wire, with the request IDs Azure support asks for. Available from
+ * {@link AzureResponse#getTimings()} and {@link com.azure.simpleSDK.http.exceptions.AzureServiceException#getTimings()}.
+ *
+ * <p>Phases don't overlap, so together they add up to about the total; follow-up pages of a list result
+ * add to the same phases and show up as attempts with a page number above one. Callers that share a
+ * coalesced or cached response also share the timings of the call that produced it.
+ */
+public final class RequestTimings {
+    public enum Phase {
+        /** Getting the access token from the credentials. */
+        AUTHENTICATION,
+        /** Building the HTTP request and serializing its body. */
+        SERIALIZATION,
+        /** Waiting for the client-side rate limiter and concurrency limiter. */
+        THROTTLING,
+        /** Sending requests and receiving responses. */
+        NETWORK,
+        /** Sleeping between attempts. */
+        RETRY_DELAY,
+        /** Deserializing and combining response bodies. */
+        DESERIALIZATION
+    }
+
+    /**
+     * One request sent over the wire.
+     *
+     * @param page page of the result it fetched, starting at 1
+     * @param attempt attempt for that page, starting at 1
+     * @param statusCode response status, or {@code 0} if no response arrived
+     * @param requestId the response's {@code x-ms-request-id}, if any
+     * @param routingRequestId the response's {@code x-ms-routing-request-id}, if any
+     */
+    public record Attempt(int page, int attempt, int statusCode, Duration duration, String requestId, String routingRequestId) {
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long startNanos = System.nanoTime();
+    private final AtomicLongArray phaseNanos = new AtomicLongArray(PHASES.length);
+    private final List<Attempt> attempts = new ArrayList<>();
+    private volatile String clientRequestId;
+    private int page = 1;
+    private long totalNanos = -1;
+
+    RequestTimings() {
+    }
+
+    void add(Phase phase, long nanos) {
+        phaseNanos.addAndGet(phase.ordinal(), nanos);
+    }
+
+    /**
+     * Adds the time since {@code startNanos}, a {@link System#nanoTime()} reading, to {@code phase}.
+     */
+    void addSince(Phase phase, long startNanos) {
+        add(phase, System.nanoTime() - startNanos);
+    }
+
+    void clientRequestId(String clientRequestId) {
+        if (this.clientRequestId == null) {
+            this.clientRequestId = clientRequestId;
+        }
+    }
+
+    synchronized void nextPage() {
+        page++;
+    }
+
+    synchronized void addAttempt(int statusCode, long nanos, String requestId, String routingRequestId) {
+        int attempt = 1;
+        for (Attempt previous : attempts) {
+            if (previous.page() == page) {
+                attempt++;
+            }
+        }
+        attempts.add(new Attempt(page, attempt, statusCode, Duration.ofNanos(nanos), requestId, routingRequestId));
+        add(Phase.NETWORK, nanos);
+    }
+
+    /**
+     * Stops the clock; later calls keep the first total.
+     */
+    synchronized RequestTimings finish() {
+        if (totalNanos < 0) {
+            totalNanos = System.nanoTime() - startNanos;
+        }
+        return this;
+    }
+
+    /**
+     * @return duration of the whole call, or the time elapsed so far while it is still running.
+     */
+    public synchronized Duration getTotal() {
+        return Duration.ofNanos(totalNanos >= 0 ? totalNanos : System.nanoTime() - startNanos);
+    }
+
+    public Duration get(Phase phase) {
+        return Duration.ofNanos(phaseNanos.get(phase.ordinal()));
+    }
+
+    public Map<Phase, Duration> getPhases() {
+        Map<Phase, Duration> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : PHASES) {
+            phases.put(phase, get(phase));
+        }
+        return phases;
+    }
+
+    public synchronized List<Attempt> getAttempts() {
+        return List.copyOf(attempts);
+    }
+
+    /**
+     * @return the {@code x-ms-client-request-id} the SDK sent with the first request.
+     */
+    public String getClientRequestId() {
+        return clientRequestId;
+    }
+
+    /**
+     * @return {@code x-ms-request-id} of the last response that carried one, or {@code null}.
+     */
+    public synchronized String getRequestId() {
+        for (int i = attempts.size() - 1; i >= 0; i--) {
+            if (attempts.get(i).requestId() != null) {
+                return attempts.get(i).requestId();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code x-ms-routing-request-id} of the last response that carried one, or {@code null}.
+     */
+    public synchronized String getRoutingRequestId() {
+        for (int i = attempts.size() - 1; i >= 0; i--) {
+            if (attempts.get(i).routingRequestId() != null) {
+                return attempts.get(i).routingRequestId();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("RequestTimings{total=").append(getTotal().toMillis()).append("ms");
+        for (Phase phase : PHASES) {
+            long nanos = phaseNanos.get(phase.ordinal());
+            if (nanos > 0) {
+                text.append(", ").append(phase.name().toLowerCase()).append('=').append(nanos / 1_000_000).append("ms");
+            }
+        }
+        text.append(", clientRequestId=").append(clientRequestId).append(", attempts=").append(getAttempts()).append('}');
+        return text.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureException;
+import com.azure.simpleSDK.http.exceptions.UncheckedAzureException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates the items of a paginated list result straight off the response byte streams. Only the page
+ * currently being read is open; the next one is requested once its {@code value} array is exhausted.
+ */
+class StreamingListIterator<I> implements Iterator<I>, AutoCloseable {
+
+    interface PageOpener<I> {
+        StreamingListPage<I> open(String nextLink) throws AzureException;
+    }
+
+    private final PageOpener<I> pageOpener;
+    private final int maxPages;
+
+    private StreamingListPage<I> currentPage;
+    private String nextLink;
+    private int pagesOpened;
+    private boolean finished;
+    private I pendingItem;
+
+    StreamingListIterator(PageOpener<I> pageOpener, PagingOptions options) {
+        this.pageOpener = pageOpener;
+        this.maxPages = options.getMaxPages();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pendingItem != null) {
+            return true;
+        }
+
+        try {
+            while (!finished) {
+                if (currentPage == null && !openNextPage()) {
+                    return false;
+                }
+
+                pendingItem = currentPage.nextItem();
+                if (pendingItem != null) {
+                    return true;
+                }
+
+                nextLink = currentPage.nextLink();
+                currentPage.close();
+                currentPage = null;
+            }
+            return false;
+        } catch (AzureException e) {
+            close();
+            throw new UncheckedAzureException("Failed to stream page " + pagesOpened + " of paginated results", e);
+        }
+    }
+
+    @Override
+    public I next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        I item = pendingItem;
+        pendingItem = null;
+        return item;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        if (currentPage != null) {
+            currentPage.close();
+            currentPage = null;
+        }
+    }
+
+    private boolean openNextPage() throws AzureException {
+        if (pagesOpened > 0 && (nextLink == null || nextLink.trim().isEmpty())) {
+            finished = true;
+            return false;
+        }
+        if (pagesOpened >= maxPages) {
+            System.err.println("Warning: Reached maximum page limit (" + maxPages + ") for paginated results. Some results may be missing.");
+            finished = true;
+            return false;
+        }
+
+        pagesOpened++;
+        currentPage = pageOpener.open(pagesOpened == 1 ? null : nextLink);
+        return true;
+    }
+}
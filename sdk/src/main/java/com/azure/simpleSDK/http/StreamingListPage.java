@@ -0,0 +1,131 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureException;
+import com.azure.simpleSDK.http.exceptions.AzureNetworkException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Incrementally reads one page of a list result ({@code {"value": [...], "nextLink": "..."}}) from a
+ * byte stream. Elements of the {@code value} array are deserialized one at a time as the caller asks
+ * for them, so the page never exists in memory as a whole. The {@code nextLink} is available once all
+ * items have been read, regardless of where it appears in the object.
+ */
+class StreamingListPage<I> implements Closeable {
+    private JsonParser parser;
+    private final ObjectReader itemReader;
+    private final String url;
+
+    private String nextLink;
+    private boolean valueSeen;
+    private boolean finished;
+
+    StreamingListPage(InputStream body, ObjectReader itemReader, String url) throws AzureException {
+        this.itemReader = itemReader;
+        this.url = url;
+        try {
+            this.parser = itemReader.createParser(body);
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                close();
+                return;
+            }
+            if (first != JsonToken.START_OBJECT) {
+                close();
+                throw new AzureException("Expected a JSON object for list result from " + url + " but found " + first);
+            }
+            advanceToValueArray();
+        } catch (IOException e) {
+            close();
+            throw translate(e);
+        }
+    }
+
+    /**
+     * @return the next deserialized item, or {@code null} once the {@code value} array is exhausted.
+     * {@code null} elements of the array are skipped, so they can't be mistaken for its end.
+     */
+    I nextItem() throws AzureException {
+        if (finished) {
+            return null;
+        }
+        try {
+            JsonToken token = parser.nextToken();
+            while (token == JsonToken.VALUE_NULL) {
+                token = parser.nextToken();
+            }
+            if (token == JsonToken.END_ARRAY) {
+                advanceToValueArray();
+                return null;
+            }
+            if (token == null) {
+                close();
+                return null;
+            }
+            return itemReader.readValue(parser);
+        } catch (IOException e) {
+            close();
+            throw translate(e);
+        }
+    }
+
+    /**
+     * @return the page's {@code nextLink}; only meaningful once {@link #nextItem()} returned {@code null}.
+     */
+    String nextLink() {
+        return nextLink;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // Nothing useful to do when abandoning a response body
+            }
+        }
+    }
+
+    /**
+     * Scans top-level fields until the parser sits on the first {@code value} array, remembering the
+     * {@code nextLink} and skipping everything else. Reaching the end of the object finishes the page.
+     */
+    private void advanceToValueArray() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("value".equals(field) && valueToken == JsonToken.START_ARRAY && !valueSeen) {
+                valueSeen = true;
+                return;
+            }
+            if ("nextLink".equals(field)) {
+                nextLink = valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        close();
+    }
+
+    private AzureException translate(IOException e) {
+        if (e instanceof UnrecognizedPropertyException unrecognized) {
+            System.err.println("Unknown property '" + unrecognized.getPropertyName() + "' on " + unrecognized.getReferringClass()
+                + " while streaming " + url + " (path: " + unrecognized.getPathReference() + ")");
+            return new AzureException("Unknown properties found in Azure API response", e);
+        }
+        if (e instanceof JsonProcessingException) {
+            return new AzureException("Failed to deserialize Azure API response", e);
+        }
+        return new AzureNetworkException("Network error while reading response body", e);
+    }
+}
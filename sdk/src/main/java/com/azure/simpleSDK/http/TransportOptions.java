@@ -0,0 +1,208 @@
+package com.azure.simpleSDK.http;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Settings of the {@link HttpClient} owned by an {@link AzureSdkRuntime} and the defaults applied to every
+ * request built from it, including {@code nextLink} pages.
+ *
+ * <p>The JDK client keeps one connection pool per {@link HttpClient}; with {@link HttpClient.Version#HTTP_2}
+ * concurrent requests to the same host are multiplexed as streams over a single connection.
+ * Unlike the other settings, {@link Builder#connectionPoolSize(int)} and {@link Builder#keepAliveTimeout(Duration)}
+ * map to the {@code jdk.httpclient.*} system properties, which the JDK reads once per process, so they
+ * apply to every {@link HttpClient} in the JVM and can be set only once. Configure them on the first runtime
+ * the process builds (or pass the properties on the command line); building a runtime that asks for a
+ * different value than the one already in effect, or that sets them after an SDK runtime has already
+ * created its client, fails with an {@link IllegalStateException} instead of being silently ignored.
+ */
+public class TransportOptions {
+    private final HttpClient.Version httpVersion;
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+    private final ExecutorService executor;
+    private final HttpClient.Redirect followRedirects;
+    private final Integer connectionPoolSize;
+    private final Duration keepAliveTimeout;
+
+    public static final TransportOptions DEFAULT = new Builder().build();
+
+    private static final String CONNECTION_POOL_SIZE = "jdk.httpclient.connectionPoolSize";
+    private static final String KEEP_ALIVE_TIMEOUT = "jdk.httpclient.keepalive.timeout";
+    // Guarded by TransportOptions.class
+    private static boolean httpClientCreated;
+
+    private TransportOptions(Builder builder) {
+        this.httpVersion = builder.httpVersion;
+        this.connectTimeout = builder.connectTimeout;
+        this.requestTimeout = builder.requestTimeout;
+        this.executor = builder.executor;
+        this.followRedirects = builder.followRedirects;
+        this.connectionPoolSize = builder.connectionPoolSize;
+        this.keepAliveTimeout = builder.keepAliveTimeout;
+    }
+
+    public HttpClient.Version getHttpVersion() {
+        return httpVersion;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * @return timeout applied to requests that do not set their own via {@link AzureRequest#timeout}.
+     */
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * @return executor for the HTTP client and asynchronous SDK work, or {@code null} for a cached pool of
+     * daemon threads owned by the runtime.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public HttpClient.Redirect getFollowRedirects() {
+        return followRedirects;
+    }
+
+    /**
+     * @return maximum number of idle HTTP/1.1 connections kept per JVM, or {@code null} to leave the
+     * process-wide setting alone.
+     */
+    public Integer getConnectionPoolSize() {
+        return connectionPoolSize;
+    }
+
+    /**
+     * @return how long idle HTTP/1.1 connections are kept open in this JVM, or {@code null} to leave the
+     * process-wide setting alone.
+     */
+    public Duration getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    /**
+     * Applies the process-wide connection settings, which must happen before the runtime creates its client.
+     *
+     * @throws IllegalStateException if a setting can no longer take effect as configured
+     */
+    void applyProcessSettings() {
+        synchronized (TransportOptions.class) {
+            String poolSize = connectionPoolSize == null ? null : String.valueOf(connectionPoolSize);
+            String keepAlive = keepAliveTimeout == null ? null : String.valueOf(keepAliveTimeout.toSeconds());
+            checkProcessSetting(CONNECTION_POOL_SIZE, poolSize);
+            checkProcessSetting(KEEP_ALIVE_TIMEOUT, keepAlive);
+            if (poolSize != null) {
+                System.setProperty(CONNECTION_POOL_SIZE, poolSize);
+            }
+            if (keepAlive != null) {
+                System.setProperty(KEEP_ALIVE_TIMEOUT, keepAlive);
+            }
+            httpClientCreated = true;
+        }
+    }
+
+    private static void checkProcessSetting(String property, String value) {
+        if (value == null) {
+            return;
+        }
+        String current = System.getProperty(property);
+        if (current != null && !current.equals(value)) {
+            throw new IllegalStateException(property + " is already " + current + " for this JVM and can't be changed to " + value);
+        }
+        if (current == null && httpClientCreated) {
+            throw new IllegalStateException(property + " is read when the first HttpClient is created, "
+                + "so it must be configured on the first runtime of the process");
+        }
+    }
+
+    HttpClient buildHttpClient(ExecutorService clientExecutor) {
+        return HttpClient.newBuilder()
+            .version(httpVersion)
+            .connectTimeout(connectTimeout)
+            .followRedirects(followRedirects)
+            .executor(clientExecutor)
+            .build();
+    }
+
+    public static class Builder {
+        private HttpClient.Version httpVersion = HttpClient.Version.HTTP_2;
+        private Duration connectTimeout = Duration.ofSeconds(30);
+        private Duration requestTimeout = Duration.ofSeconds(30);
+        private ExecutorService executor;
+        private HttpClient.Redirect followRedirects = HttpClient.Redirect.NEVER;
+        private Integer connectionPoolSize;
+        private Duration keepAliveTimeout;
+
+        /**
+         * Preferred protocol version. {@code HTTP_2} (the default) falls back to HTTP/1.1 when the server
+         * does not negotiate HTTP/2.
+         */
+        public Builder httpVersion(HttpClient.Version httpVersion) {
+            this.httpVersion = httpVersion;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            if (connectTimeout.isNegative() || connectTimeout.isZero()) {
+                throw new IllegalArgumentException("connectTimeout must be positive");
+            }
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+                throw new IllegalArgumentException("requestTimeout must be positive");
+            }
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * Uses the given executor instead of a cached pool of daemon threads. Size it for the expected
+         * fan-out; the caller remains responsible for shutting it down. Read-ahead workers of paged streams
+         * do not run here (see {@link PagingOptions#getPrefetchExecutor()}).
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder followRedirects(HttpClient.Redirect followRedirects) {
+            this.followRedirects = followRedirects;
+            return this;
+        }
+
+        /**
+         * Process-wide: see the class documentation.
+         */
+        public Builder connectionPoolSize(int connectionPoolSize) {
+            if (connectionPoolSize < 0) {
+                throw new IllegalArgumentException("connectionPoolSize must not be negative");
+            }
+            this.connectionPoolSize = connectionPoolSize;
+            return this;
+        }
+
+        /**
+         * Process-wide, in whole seconds: see the class documentation.
+         */
+        public Builder keepAliveTimeout(Duration keepAliveTimeout) {
+            if (keepAliveTimeout.isNegative() || keepAliveTimeout.isZero()) {
+                throw new IllegalArgumentException("keepAliveTimeout must be positive");
+            }
+            this.keepAliveTimeout = keepAliveTimeout;
+            return this;
+        }
+
+        public TransportOptions build() {
+            return new TransportOptions(this);
+        }
+    }
+}
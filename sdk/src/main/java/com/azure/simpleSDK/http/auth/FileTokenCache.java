@@ -0,0 +1,272 @@
+package com.azure.simpleSDK.http.auth;
+
+import com.azure.simpleSDK.http.exceptions.AzureAuthenticationException;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps access tokens on disk so that short-lived processes can reuse a token fetched by an earlier one
+ * instead of starting with a round trip to the token endpoint. Pass it to
+ * {@link ServicePrincipalCredentials}.
+ *
+ * <p>Each (tenant, client ID, scope) has its own file in the cache directory, encrypted with AES-GCM
+ * under a key derived from the client secret: reading a token back requires the secret that fetched it,
+ * and a rotated secret simply misses the cache. Files are written to a temporary file and renamed into
+ * place, so readers never see a partial token. A process that finds no usable token takes an exclusive
+ * {@link FileLock} on the entry's lock file before fetching, so processes starting together make one
+ * token request and the others read its result.
+ *
+ * <p>Cache failures never fail authentication: unreadable entries count as misses and write errors are
+ * reported on {@code System.err}.
+ */
+public class FileTokenCache {
+    private static final byte VERSION = 1;
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    // Cached tokens closer than this to expiring are not handed out
+    private static final Duration MIN_REMAINING = Duration.ofMinutes(5);
+    private static final SecureRandom RANDOM = new SecureRandom();
+    // FileLock is held per JVM, so threads of one process also need to take turns
+    private static final ConcurrentMap<Path, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path directory;
+
+    /**
+     * @param directory where the cache files are kept; created with owner-only permissions if missing
+     */
+    public FileTokenCache(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * @return a cache in {@code ~/.azure-simple-sdk/tokens}.
+     */
+    public static FileTokenCache inUserHome() {
+        return new FileTokenCache(Path.of(System.getProperty("user.home"), ".azure-simple-sdk", "tokens"));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @FunctionalInterface
+    interface TokenSource {
+        RefreshingTokenCredentials.IssuedToken fetch() throws AzureAuthenticationException;
+    }
+
+    /**
+     * Returns the cached token for the entry if it expires after {@code currentExpiry} (when given) and is
+     * not about to expire; otherwise fetches one from {@code source}, holding the entry's lock, and stores it.
+     */
+    RefreshingTokenCredentials.IssuedToken getOrFetch(String tenantId, String clientId, String scope, String secret,
+                                                      Instant currentExpiry, TokenSource source) throws AzureAuthenticationException {
+        String identity = tenantId + "\n" + clientId + "\n" + scope;
+        byte[] key = deriveKey(secret, identity);
+        Path file = directory.resolve(hash(identity) + ".token");
+
+        RefreshingTokenCredentials.IssuedToken cached = usable(read(file, key, identity), currentExpiry);
+        if (cached != null) {
+            return cached;
+        }
+
+        ReentrantLock processLock = PROCESS_LOCKS.computeIfAbsent(file, ignored -> new ReentrantLock());
+        processLock.lock();
+        try {
+            FileChannel lockChannel = null;
+            FileLock fileLock;
+            try {
+                lockChannel = openLockFile(file);
+                fileLock = lock(lockChannel);
+            } catch (IOException e) {
+                close(lockChannel);
+                System.err.println("Warning: Token cache lock failed for " + file + ": " + e.getMessage());
+                return source.fetch();
+            }
+            try {
+                // Another process may have refreshed the entry while we waited for the lock
+                cached = usable(read(file, key, identity), currentExpiry);
+                if (cached != null) {
+                    return cached;
+                }
+                RefreshingTokenCredentials.IssuedToken issued = source.fetch();
+                write(file, key, identity, issued.accessToken(), Instant.now().plus(issued.lifetime()));
+                return issued;
+            } finally {
+                release(fileLock);
+                close(lockChannel);
+            }
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    private static RefreshingTokenCredentials.IssuedToken usable(Stored stored, Instant currentExpiry) {
+        if (stored == null) {
+            return null;
+        }
+        Duration remaining = Duration.between(Instant.now(), stored.expiresAt());
+        if (remaining.compareTo(MIN_REMAINING) <= 0 || (currentExpiry != null && !stored.expiresAt().isAfter(currentExpiry))) {
+            return null;
+        }
+        return new RefreshingTokenCredentials.IssuedToken(stored.accessToken(), remaining);
+    }
+
+    private record Stored(String accessToken, Instant expiresAt) {
+    }
+
+    private Stored read(Path file, byte[] key, String identity) {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("Warning: Failed to read token cache " + file + ": " + e.getMessage());
+            return null;
+        }
+        if (data.length < 1 + IV_BYTES || data[0] != VERSION) {
+            return null;
+        }
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"), new GCMParameterSpec(TAG_BITS, data, 1, IV_BYTES));
+            cipher.updateAAD(identity.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer plain = ByteBuffer.wrap(cipher.doFinal(data, 1 + IV_BYTES, data.length - 1 - IV_BYTES));
+            Instant expiresAt = Instant.ofEpochSecond(plain.getLong());
+            byte[] token = new byte[plain.remaining()];
+            plain.get(token);
+            return new Stored(new String(token, StandardCharsets.UTF_8), expiresAt);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            // Written with another secret (or corrupted): treat as a miss and overwrite it on the next fetch
+            return null;
+        }
+    }
+
+    private void write(Path file, byte[] key, String identity, String accessToken, Instant expiresAt) {
+        Path temp = null;
+        try {
+            byte[] token = accessToken.getBytes(StandardCharsets.UTF_8);
+            byte[] iv = new byte[IV_BYTES];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(identity.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = cipher.doFinal(ByteBuffer.allocate(Long.BYTES + token.length)
+                .putLong(expiresAt.getEpochSecond()).put(token).array());
+
+            createDirectory();
+            temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.write(temp, ByteBuffer.allocate(1 + IV_BYTES + sealed.length).put(VERSION).put(iv).put(sealed).array());
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temp = null;
+        } catch (IOException | GeneralSecurityException e) {
+            System.err.println("Warning: Failed to write token cache " + file + ": " + e.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Readers only look at the entry's own file, so a stray temporary file is harmless
+                }
+            }
+        }
+    }
+
+    private FileChannel openLockFile(Path file) throws IOException {
+        createDirectory();
+        return FileChannel.open(file.resolveSibling(file.getFileName() + ".lock"),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * @return the lock, or {@code null} where the file system doesn't support locking.
+     */
+    private static FileLock lock(FileChannel channel) throws IOException {
+        try {
+            return channel.lock();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static void release(FileLock fileLock) {
+        if (fileLock == null) {
+            return;
+        }
+        try {
+            fileLock.release();
+        } catch (IOException ignored) {
+            // Closing the channel releases it as well
+        }
+    }
+
+    private static void close(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // The token is already fetched or read; a lock file left open only delays other processes
+        }
+    }
+
+    private void createDirectory() throws IOException {
+        if (Files.isDirectory(directory)) {
+            return;
+        }
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+
+    private static byte[] deriveKey(String secret, String identity) throws AzureAuthenticationException {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(("azure-simple-sdk token cache\n" + identity).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new AzureAuthenticationException("Failed to derive token cache key", e);
+        }
+    }
+
+    private static String hash(String identity) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(identity.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
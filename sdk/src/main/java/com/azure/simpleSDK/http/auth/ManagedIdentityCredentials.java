@@ -1,6 +1,8 @@
 package com.azure.simpleSDK.http.auth;
 
+import com.azure.simpleSDK.http.AzureSdkRuntime;
 import com.azure.simpleSDK.http.exceptions.AzureAuthenticationException;
+import com.azure.simpleSDK.http.jfr.TokenRefreshEvent;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -9,10 +11,8 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.locks.ReentrantLock;
 
-public class ManagedIdentityCredentials implements AzureCredentials {
+public class ManagedIdentityCredentials extends RefreshingTokenCredentials {
     private static final String IMDS_ENDPOINT = "http://169.254.169.254/metadata/identity/oauth2/token";
     private static final String API_VERSION = "2018-02-01";
 
@@ -20,10 +20,6 @@ public class ManagedIdentityCredentials implements AzureCredentials {
     private final String clientId;
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
-    private final ReentrantLock tokenLock;
-
-    private String accessToken;
-    private Instant tokenExpiry;
 
     public ManagedIdentityCredentials() {
         this("https://management.azure.com/", null);
@@ -34,35 +30,22 @@ public class ManagedIdentityCredentials implements AzureCredentials {
     }
 
     public ManagedIdentityCredentials(String resource, String clientId) {
-        this.resource = resource;
-        this.clientId = clientId;
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .build();
-        this.objectMapper = new ObjectMapper();
-        this.tokenLock = new ReentrantLock();
-    }
-
-    @Override
-    public String getAccessToken() throws AzureAuthenticationException {
-        tokenLock.lock();
-        try {
-            if (accessToken == null || isExpired()) {
-                refresh();
-            }
-            return accessToken;
-        } finally {
-            tokenLock.unlock();
-        }
+        this(resource, clientId, AzureSdkRuntime.getDefault());
     }
 
-    @Override
-    public boolean isExpired() {
-        return tokenExpiry == null || Instant.now().isAfter(tokenExpiry.minus(Duration.ofMinutes(5)));
+    public ManagedIdentityCredentials(String resource, String clientId, AzureSdkRuntime runtime) {
+        super(runtime.getExecutor());
+        this.resource = resource;
+        this.clientId = clientId;
+        this.httpClient = runtime.getHttpClient();
+        this.objectMapper = runtime.getObjectMapper(false);
     }
 
     @Override
-    public void refresh() throws AzureAuthenticationException {
+    protected IssuedToken requestToken() throws AzureAuthenticationException {
+        TokenRefreshEvent event = TokenRefreshEvent.start();
+        int statusCode = 0;
+        long expiresIn = -1;
         try {
             StringBuilder urlBuilder = new StringBuilder(IMDS_ENDPOINT)
                 .append("?api-version=").append(API_VERSION)
@@ -80,6 +63,7 @@ public class ManagedIdentityCredentials implements AzureCredentials {
                 .build();
 
             HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            statusCode = response.statusCode();
 
             if (response.statusCode() != 200) {
                 throw new AzureAuthenticationException(
@@ -88,19 +72,15 @@ public class ManagedIdentityCredentials implements AzureCredentials {
             }
 
             TokenResponse tokenResponse = objectMapper.readValue(response.body(), TokenResponse.class);
-            this.accessToken = tokenResponse.accessToken;
-            this.tokenExpiry = Instant.now().plus(Duration.ofSeconds(tokenResponse.expiresIn));
-
+            expiresIn = tokenResponse.expiresIn;
+            return new IssuedToken(tokenResponse.accessToken, Duration.ofSeconds(tokenResponse.expiresIn));
         } catch (Exception e) {
             throw new AzureAuthenticationException("Failed to refresh Managed Identity access token", e);
+        } finally {
+            event.complete("ManagedIdentityCredentials", resource, statusCode, expiresIn);
         }
     }
 
-    @Override
-    public Instant getTokenExpiry() {
-        return tokenExpiry;
-    }
-
     private static class TokenResponse {
         @JsonProperty("access_token")
         public String accessToken;
@@ -0,0 +1,174 @@
+package com.azure.simpleSDK.http.auth;
+
+import com.azure.simpleSDK.http.exceptions.AzureAuthenticationException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Base for credentials that fetch tokens with a limited lifetime from a token endpoint.
+ *
+ * <p>{@link #getAccessToken()} reads an immutable token snapshot from an atomic reference and takes no lock.
+ * Once a token has lived 70-80% of its lifetime (jittered so that processes started together spread their
+ * requests), the first reader to notice starts a refresh on the runtime's executor and every reader keeps
+ * getting the current token until the new one arrives. Readers only wait when there is no usable token,
+ * and then all of them wait for the same request: at most one refresh runs at a time.
+ */
+public abstract class RefreshingTokenCredentials implements AzureCredentials {
+    private static final Duration EXPIRY_MARGIN = Duration.ofMinutes(5);
+    // Pause before another background attempt after one failed, while the current token is still usable
+    private static final long FAILED_REFRESH_BACKOFF_NANOS = Duration.ofSeconds(30).toNanos();
+
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<CompletableFuture<Token>> refreshing = new AtomicReference<>();
+    private final AtomicReference<Token> token = new AtomicReference<>();
+
+    /**
+     * An access token as returned by the token endpoint.
+     *
+     * @param lifetime how long the token is valid from now, the endpoint's {@code expires_in}
+     */
+    protected record IssuedToken(String accessToken, Duration lifetime) {
+    }
+
+    private record Token(String accessToken, Instant expiresAt, long usableUntilNanos, long refreshAtNanos) {
+        Token retryLater(long now) {
+            return new Token(accessToken, expiresAt, usableUntilNanos, now + FAILED_REFRESH_BACKOFF_NANOS);
+        }
+    }
+
+    protected RefreshingTokenCredentials(Executor executor) {
+        this(executor, System::nanoTime);
+    }
+
+    RefreshingTokenCredentials(Executor executor, LongSupplier nanoClock) {
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Requests a new token from the token endpoint. Called by one thread at a time.
+     */
+    protected abstract IssuedToken requestToken() throws AzureAuthenticationException;
+
+    @Override
+    public String getAccessToken() throws AzureAuthenticationException {
+        Token current = token.get();
+        long now = nanoClock.getAsLong();
+        if (current != null && now - current.usableUntilNanos() < 0) {
+            if (now - current.refreshAtNanos() >= 0) {
+                startRefresh(true);
+            }
+            return current.accessToken();
+        }
+        return await(startRefresh(false)).accessToken();
+    }
+
+    /**
+     * @return whether there is no token, or the current one is within five minutes (or a tenth of its
+     * lifetime, if shorter) of expiring.
+     */
+    @Override
+    public boolean isExpired() {
+        Token current = token.get();
+        return current == null || nanoClock.getAsLong() - current.usableUntilNanos() >= 0;
+    }
+
+    /**
+     * Fetches a new token now, or waits for the refresh already running.
+     */
+    @Override
+    public void refresh() throws AzureAuthenticationException {
+        await(startRefresh(false));
+    }
+
+    @Override
+    public Instant getTokenExpiry() {
+        Token current = token.get();
+        return current == null ? null : current.expiresAt();
+    }
+
+    private CompletableFuture<Token> startRefresh(boolean inBackground) {
+        while (true) {
+            CompletableFuture<Token> running = refreshing.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Token> refresh = new CompletableFuture<>();
+            if (!refreshing.compareAndSet(null, refresh)) {
+                continue;
+            }
+            if (inBackground) {
+                // Only the thread that started the refresh reports its failure and schedules the next attempt
+                refresh.whenComplete((refreshed, error) -> {
+                    if (error != null) {
+                        backOff(error);
+                    }
+                });
+                try {
+                    executor.execute(() -> runRefresh(refresh));
+                } catch (RejectedExecutionException e) {
+                    runRefresh(refresh);
+                }
+            } else {
+                runRefresh(refresh);
+            }
+            return refresh;
+        }
+    }
+
+    private void backOff(Throwable error) {
+        Token current = token.get();
+        if (current != null) {
+            token.compareAndSet(current, current.retryLater(nanoClock.getAsLong()));
+        }
+        System.err.println("Warning: Background token refresh failed, keeping the current token: "
+            + unwrap(error).getMessage());
+    }
+
+    private void runRefresh(CompletableFuture<Token> refresh) {
+        try {
+            long issuedAt = nanoClock.getAsLong();
+            IssuedToken issued = requestToken();
+            Token refreshed = newToken(issued, issuedAt);
+            token.set(refreshed);
+            refresh.complete(refreshed);
+        } catch (Throwable e) {
+            refresh.completeExceptionally(e);
+        } finally {
+            refreshing.compareAndSet(refresh, null);
+        }
+    }
+
+    private static Token newToken(IssuedToken issued, long issuedAt) {
+        long lifetime = Math.max(0, issued.lifetime().toNanos());
+        long margin = Math.min(EXPIRY_MARGIN.toNanos(), lifetime / 10);
+        long refreshAfter = (long) (lifetime * (0.7 + 0.1 * ThreadLocalRandom.current().nextDouble()));
+        return new Token(issued.accessToken(), Instant.now().plus(issued.lifetime()),
+            issuedAt + lifetime - margin, issuedAt + Math.min(refreshAfter, lifetime - margin));
+    }
+
+    private static Token await(CompletableFuture<Token> refresh) throws AzureAuthenticationException {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof AzureAuthenticationException authenticationException) {
+                throw authenticationException;
+            }
+            throw new AzureAuthenticationException("Failed to refresh access token", cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
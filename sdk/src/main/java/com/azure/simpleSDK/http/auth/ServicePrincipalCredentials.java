@@ -1,6 +1,8 @@
 package com.azure.simpleSDK.http.auth;
 
+import com.azure.simpleSDK.http.AzureSdkRuntime;
 import com.azure.simpleSDK.http.exceptions.AzureAuthenticationException;
+import com.azure.simpleSDK.http.jfr.TokenRefreshEvent;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,57 +12,60 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.locks.ReentrantLock;
 
-public class ServicePrincipalCredentials implements AzureCredentials {
+public class ServicePrincipalCredentials extends RefreshingTokenCredentials {
     private final String clientId;
     private final String clientSecret;
     private final String tenantId;
     private final String scope;
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
-    private final ReentrantLock tokenLock;
-
-    private String accessToken;
-    private Instant tokenExpiry;
+    private final FileTokenCache tokenCache;
 
     public ServicePrincipalCredentials(String clientId, String clientSecret, String tenantId) {
         this(clientId, clientSecret, tenantId, "https://management.azure.com/.default");
     }
 
     public ServicePrincipalCredentials(String clientId, String clientSecret, String tenantId, String scope) {
+        this(clientId, clientSecret, tenantId, scope, AzureSdkRuntime.getDefault());
+    }
+
+    public ServicePrincipalCredentials(String clientId, String clientSecret, String tenantId, AzureSdkRuntime runtime) {
+        this(clientId, clientSecret, tenantId, "https://management.azure.com/.default", runtime);
+    }
+
+    public ServicePrincipalCredentials(String clientId, String clientSecret, String tenantId, String scope, AzureSdkRuntime runtime) {
+        this(clientId, clientSecret, tenantId, scope, runtime, null);
+    }
+
+    /**
+     * Creates credentials that reuse tokens stored in {@code tokenCache} by earlier processes, and store the
+     * tokens they fetch there; {@code null} disables the cache.
+     */
+    public ServicePrincipalCredentials(String clientId, String clientSecret, String tenantId, String scope, AzureSdkRuntime runtime,
+                                       FileTokenCache tokenCache) {
+        super(runtime.getExecutor());
         this.clientId = clientId;
         this.clientSecret = clientSecret;
         this.tenantId = tenantId;
         this.scope = scope;
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
-        this.objectMapper = new ObjectMapper();
-        this.tokenLock = new ReentrantLock();
+        this.httpClient = runtime.getHttpClient();
+        this.objectMapper = runtime.getObjectMapper(false);
+        this.tokenCache = clientSecret == null || clientSecret.isEmpty() ? null : tokenCache;
     }
 
     @Override
-    public String getAccessToken() throws AzureAuthenticationException {
-        tokenLock.lock();
-        try {
-            if (accessToken == null || isExpired()) {
-                refresh();
-            }
-            return accessToken;
-        } finally {
-            tokenLock.unlock();
+    protected IssuedToken requestToken() throws AzureAuthenticationException {
+        if (tokenCache == null) {
+            return fetchToken();
         }
+        return tokenCache.getOrFetch(tenantId, clientId, scope, clientSecret, getTokenExpiry(), this::fetchToken);
     }
 
-    @Override
-    public boolean isExpired() {
-        return tokenExpiry == null || Instant.now().isAfter(tokenExpiry.minus(Duration.ofMinutes(5)));
-    }
-
-    @Override
-    public void refresh() throws AzureAuthenticationException {
+    private IssuedToken fetchToken() throws AzureAuthenticationException {
+        TokenRefreshEvent event = TokenRefreshEvent.start();
+        int statusCode = 0;
+        long expiresIn = -1;
         try {
             String requestBody = String.format(
                 "grant_type=client_credentials&client_id=%s&client_secret=%s&scope=%s",
@@ -74,6 +79,7 @@ public class ServicePrincipalCredentials implements AzureCredentials {
                 .build();
 
             HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            statusCode = response.statusCode();
 
             if (response.statusCode() != 200) {
                 throw new AzureAuthenticationException(
@@ -81,19 +87,15 @@ public class ServicePrincipalCredentials implements AzureCredentials {
             }
 
             TokenResponse tokenResponse = objectMapper.readValue(response.body(), TokenResponse.class);
-            this.accessToken = tokenResponse.accessToken;
-            this.tokenExpiry = Instant.now().plus(Duration.ofSeconds(tokenResponse.expiresIn));
-
+            expiresIn = tokenResponse.expiresIn;
+            return new IssuedToken(tokenResponse.accessToken, Duration.ofSeconds(tokenResponse.expiresIn));
         } catch (Exception e) {
             throw new AzureAuthenticationException("Failed to refresh access token", e);
+        } finally {
+            event.complete("ServicePrincipalCredentials", scope, statusCode, expiresIn);
         }
     }
 
-    @Override
-    public Instant getTokenExpiry() {
-        return tokenExpiry;
-    }
-
     @JsonIgnoreProperties(ignoreUnknown = true)
     private static class TokenResponse {
         @JsonProperty("access_token")
@@ -0,0 +1,146 @@
+package com.azure.simpleSDK.http.cache;
+
+import com.azure.simpleSDK.http.AzureResponse;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LRU cache of deserialized GET responses keyed by caller identity and URL, used for ETag revalidation:
+ * a cached entry makes the client send {@code If-None-Match} and a {@code 304 Not Modified} answer is
+ * served from here without transferring or deserializing the body again.
+ *
+ * <p>Bounded by entry count and by the size of the cached raw bodies (in characters); the least recently
+ * used entries are evicted first. A single instance may be shared by several clients.
+ */
+public class ResponseCache {
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    private ResponseCache(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.maxBytes = builder.maxBytes;
+    }
+
+    /**
+     * A cached response and the entity tag it was stored under.
+     */
+    public record CachedResponse(String etag, Class<?> responseType, AzureResponse<?> response, long size) {
+    }
+
+    /**
+     * Point-in-time counters. {@code hits} are lookups that found an entry and turned into a conditional
+     * request, {@code notModified} those answered with {@code 304}, and {@code bytesSaved} the body size
+     * served from the cache instead of the network.
+     */
+    public record Stats(long hits, long misses, long notModified, long evictions, long bytesSaved, int entries, long bytes) {
+    }
+
+    private record Key(Object principal, String url) {
+    }
+
+    /**
+     * @param principal identity the response was fetched for (compared by {@code equals}), so callers with
+     *                  different credentials never share entries
+     */
+    public CachedResponse get(Object principal, String url) {
+        CachedResponse cached;
+        synchronized (entries) {
+            cached = entries.get(new Key(principal, url));
+        }
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    public void put(Object principal, String url, String etag, Class<?> responseType, AzureResponse<?> response) {
+        long size = response.getRawBody() == null ? 0 : response.getRawBody().length();
+        if (size > maxBytes) {
+            return;
+        }
+
+        synchronized (entries) {
+            CachedResponse previous = entries.put(new Key(principal, url), new CachedResponse(etag, responseType, response, size));
+            if (previous != null) {
+                currentBytes -= previous.size();
+            }
+            currentBytes += size;
+
+            Iterator<CachedResponse> eldest = entries.values().iterator();
+            while ((entries.size() > maxEntries || currentBytes > maxBytes) && eldest.hasNext()) {
+                currentBytes -= eldest.next().size();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    public void remove(Object principal, String url) {
+        synchronized (entries) {
+            CachedResponse removed = entries.remove(new Key(principal, url));
+            if (removed != null) {
+                currentBytes -= removed.size();
+            }
+        }
+    }
+
+    /**
+     * Records that {@code cached} was revalidated by a {@code 304} response and served from the cache.
+     */
+    public void recordNotModified(CachedResponse cached) {
+        notModified.increment();
+        bytesSaved.add(cached.size());
+    }
+
+    public Stats getStats() {
+        synchronized (entries) {
+            return new Stats(hits.sum(), misses.sum(), notModified.sum(), evictions.sum(), bytesSaved.sum(),
+                entries.size(), currentBytes);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            currentBytes = 0;
+        }
+    }
+
+    public static class Builder {
+        private int maxEntries = 1000;
+        private long maxBytes = 32L * 1024 * 1024;
+
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be at least 1");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder maxBytes(long maxBytes) {
+            if (maxBytes < 1) {
+                throw new IllegalArgumentException("maxBytes must be positive");
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        public ResponseCache build() {
+            return new ResponseCache(this);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.azure.simpleSDK.http.diagnostics;
+
+import com.azure.simpleSDK.http.ArmUrls;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Spots N+1 access patterns: a loop over a list result that issues one GET per item instead of reading the
+ * items from the list, or from a single list call on their collection.
+ *
+ * <p>GETs are grouped by operation, the path with resource names replaced by placeholders
+ * ({@link ArmUrls#operation}). When one item operation (a path ending in a resource name or ID) is called for
+ * at least {@code threshold} different resources within {@code window}, the detector reports a {@link Finding}
+ * naming the list operation that could replace those calls: the list call on the same collection type made
+ * shortly before the burst if there was one, otherwise the item operation's parent collection.
+ *
+ * <p>Each burst is reported once, when it crosses the threshold; {@link #getFindings()} keeps the largest
+ * burst per operation with its final call count.
+ */
+public class NPlusOneDetector {
+    // Operations and collection types tracked at once; beyond that, new ones are ignored
+    private static final int MAX_TRACKED = 1_000;
+
+    private final int threshold;
+    private final long windowNanos;
+    private final Listener listener;
+    private final ConcurrentMap<String, Burst> bursts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ListCall> listCalls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Finding> findings = new ConcurrentHashMap<>();
+
+    /**
+     * A GET operation called once per resource.
+     *
+     * @param operation the item operation, for example {@code .../networksecuritygroups/{name}}
+     * @param calls GETs of that operation in the burst
+     * @param listOperation list operation that could replace them
+     * @param afterListCall whether {@code listOperation} was actually called right before the burst
+     */
+    public record Finding(String operation, int calls, String listOperation, boolean afterListCall) {
+        @Override
+        public String toString() {
+            return calls + " x GET " + operation + (afterListCall ? " after listing " : "; could be one list call to ")
+                + listOperation;
+        }
+    }
+
+    /**
+     * Notified when a burst crosses the threshold, on the thread sending the request that crossed it.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onFinding(Finding finding);
+    }
+
+    private record ListCall(String operation, long atNanos) {
+    }
+
+    private NPlusOneDetector(Builder builder) {
+        this.threshold = builder.threshold;
+        this.windowNanos = builder.window.toNanos();
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Records one call made by a client; retries and follow-up pages are not counted separately.
+     */
+    public void record(String method, URI uri) {
+        if (!"GET".equals(method) || uri.getRawPath() == null) {
+            return;
+        }
+        String operation = ArmUrls.operation(uri);
+        int slash = operation.lastIndexOf('/');
+        if (slash <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (!isPlaceholder(operation.substring(slash + 1))) {
+            String type = operation.substring(slash + 1);
+            if (listCalls.size() < MAX_TRACKED || listCalls.containsKey(type)) {
+                listCalls.put(type, new ListCall(operation, now));
+            }
+            return;
+        }
+
+        String collection = operation.substring(0, slash);
+        String type = collection.substring(collection.lastIndexOf('/') + 1);
+        if (isPlaceholder(type)) {
+            return;
+        }
+        Burst burst = bursts.get(operation);
+        if (burst == null) {
+            if (bursts.size() >= MAX_TRACKED) {
+                return;
+            }
+            burst = bursts.computeIfAbsent(operation, ignored -> new Burst());
+        }
+        int calls;
+        boolean crossed;
+        long burstStart;
+        synchronized (burst) {
+            calls = burst.add(uri.getRawPath(), now);
+            crossed = calls > 0 && !burst.reported;
+            burst.reported |= crossed;
+            burstStart = burst.startNanos;
+        }
+        if (calls == 0) {
+            return;
+        }
+
+        ListCall listCall = listCalls.get(type);
+        boolean afterListCall = listCall != null && listCall.atNanos() >= burstStart - windowNanos;
+        Finding finding = new Finding(operation, calls, afterListCall ? listCall.operation() : collection, afterListCall);
+        findings.merge(operation, finding, (previous, current) -> current.calls() >= previous.calls() ? current : previous);
+        if (crossed) {
+            report(finding);
+        }
+    }
+
+    /**
+     * @return the largest burst seen per operation, most calls first.
+     */
+    public List<Finding> getFindings() {
+        List<Finding> sorted = new ArrayList<>(findings.values());
+        sorted.sort(Comparator.comparingInt(Finding::calls).reversed().thenComparing(Finding::operation));
+        return sorted;
+    }
+
+    private void report(Finding finding) {
+        if (listener == null) {
+            System.err.println("Warning: N+1 access pattern: " + finding);
+            return;
+        }
+        try {
+            listener.onFinding(finding);
+        } catch (RuntimeException e) {
+            System.err.println("N+1 detector listener failed for " + finding.operation() + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean isPlaceholder(String segment) {
+        return segment.startsWith("{");
+    }
+
+    private final class Burst {
+        private long startNanos;
+        private int calls;
+        // Distinct resources in this window, kept only until the threshold is reached
+        private final Set<String> paths = new HashSet<>();
+        private boolean reported;
+
+        /**
+         * @return calls in the current window once it has touched {@code threshold} resources, otherwise 0.
+         */
+        int add(String path, long now) {
+            if (calls == 0 || now - startNanos > windowNanos) {
+                startNanos = now;
+                calls = 0;
+                paths.clear();
+                reported = false;
+            }
+            calls++;
+            if (paths.size() < threshold) {
+                paths.add(path);
+            }
+            return paths.size() >= threshold ? calls : 0;
+        }
+    }
+
+    public static class Builder {
+        private int threshold = 10;
+        private Duration window = Duration.ofSeconds(30);
+        private Listener listener;
+
+        /**
+         * Different resources read through one operation within the window that make a burst.
+         */
+        public Builder threshold(int threshold) {
+            if (threshold < 2) {
+                throw new IllegalArgumentException("threshold must be at least 2");
+            }
+            this.threshold = threshold;
+            return this;
+        }
+
+        /**
+         * How long a burst lasts from its first call; a list call up to this long before it counts as its origin.
+         */
+        public Builder window(Duration window) {
+            if (window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("window must be positive");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Receives findings instead of the default warning on {@code System.err}.
+         */
+        public Builder listener(Listener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        public NPlusOneDetector build() {
+            return new NPlusOneDetector(this);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.azure.simpleSDK.http.exceptions;
+
+/**
+ * Thrown when the {@link com.azure.simpleSDK.http.CancellationToken} attached to a request was cancelled
+ * before the request, its retries or its follow-up pages completed.
+ */
+public class AzureCancellationException extends AzureException {
+    public AzureCancellationException(String message) {
+        super(message);
+    }
+
+    public AzureCancellationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
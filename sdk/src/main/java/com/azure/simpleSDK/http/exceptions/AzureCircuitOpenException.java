@@ -0,0 +1,31 @@
+package com.azure.simpleSDK.http.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Thrown without sending the request while the circuit breaker for its endpoint is open.
+ */
+public class AzureCircuitOpenException extends AzureException {
+    private final String endpoint;
+    private final Duration retryAfter;
+
+    public AzureCircuitOpenException(String message, String endpoint, Duration retryAfter) {
+        super(message);
+        this.endpoint = endpoint;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return the {@code host/provider} endpoint whose circuit is open.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return time until the breaker lets a probe request through; zero while a probe is already in flight.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,16 @@
+package com.azure.simpleSDK.http.exceptions;
+
+/**
+ * Thrown when the deadline of the {@link com.azure.simpleSDK.http.CancellationToken} attached to a request
+ * passed, or would pass before the next retry could finish. The cause, if any, is the failure of the last
+ * attempt.
+ */
+public class AzureDeadlineExceededException extends AzureCancellationException {
+    public AzureDeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public AzureDeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,7 @@
 package com.azure.simpleSDK.http.exceptions;
 
+import com.azure.simpleSDK.http.RequestTimings;
+
 import java.util.Map;
 
 public class AzureResourceNotFoundException extends AzureServiceException {
@@ -7,6 +9,11 @@ public class AzureResourceNotFoundException extends AzureServiceException {
         super(message, 404, headers, errorCode, responseBody);
     }
 
+    public AzureResourceNotFoundException(String message, Map<String, String> headers, String errorCode, String responseBody,
+                                          RequestTimings timings) {
+        super(message, 404, headers, errorCode, responseBody, timings);
+    }
+
     public AzureResourceNotFoundException(String message, Map<String, String> headers, String errorCode, String responseBody, Throwable cause) {
         super(message, 404, headers, errorCode, responseBody, cause);
     }
@@ -1,5 +1,7 @@
 package com.azure.simpleSDK.http.exceptions;
 
+import com.azure.simpleSDK.http.RequestTimings;
+
 import java.util.Map;
 
 public class AzureServiceException extends AzureException {
@@ -7,13 +9,20 @@ public class AzureServiceException extends AzureException {
     private final Map<String, String> headers;
     private final String errorCode;
     private final String responseBody;
+    private final RequestTimings timings;
 
     public AzureServiceException(String message, int statusCode, Map<String, String> headers, String errorCode, String responseBody) {
+        this(message, statusCode, headers, errorCode, responseBody, (RequestTimings) null);
+    }
+
+    public AzureServiceException(String message, int statusCode, Map<String, String> headers, String errorCode, String responseBody,
+                                 RequestTimings timings) {
         super(message);
         this.statusCode = statusCode;
         this.headers = headers;
         this.errorCode = errorCode;
         this.responseBody = responseBody;
+        this.timings = timings;
     }
 
     public AzureServiceException(String message, int statusCode, Map<String, String> headers, String errorCode, String responseBody, Throwable cause) {
@@ -22,6 +31,7 @@ public class AzureServiceException extends AzureException {
         this.headers = headers;
         this.errorCode = errorCode;
         this.responseBody = responseBody;
+        this.timings = null;
     }
 
     public int getStatusCode() {
@@ -39,4 +49,37 @@ public class AzureServiceException extends AzureException {
     public String getResponseBody() {
         return responseBody;
     }
+
+    /**
+     * @return where the time of the failed call went, including Azure's request IDs, or {@code null} if unknown.
+     */
+    public RequestTimings getTimings() {
+        return timings;
+    }
+
+    /**
+     * @return the {@code x-ms-request-id} Azure assigned to the failed request, or {@code null}.
+     */
+    public String getRequestId() {
+        return header("x-ms-request-id");
+    }
+
+    /**
+     * @return the {@code x-ms-routing-request-id} of the failed request, or {@code null}.
+     */
+    public String getRoutingRequestId() {
+        return header("x-ms-routing-request-id");
+    }
+
+    private String header(String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.azure.simpleSDK.http.exceptions;
+
+/**
+ * Wraps an {@link AzureException} thrown from code that cannot declare checked exceptions,
+ * such as the iterators and streams returned by the paging APIs.
+ */
+public class UncheckedAzureException extends RuntimeException {
+    public UncheckedAzureException(String message, AzureException cause) {
+        super(message, cause);
+    }
+
+    public UncheckedAzureException(AzureException cause) {
+        super(cause);
+    }
+
+    @Override
+    public synchronized AzureException getCause() {
+        return (AzureException) super.getCause();
+    }
+}
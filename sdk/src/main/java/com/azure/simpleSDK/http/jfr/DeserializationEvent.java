@@ -0,0 +1,40 @@
+package com.azure.simpleSDK.http.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Reading a response body into its model type.
+ */
+@Name("com.azure.simpleSDK.Deserialization")
+@Label("Deserialization")
+@Category({"Azure SDK", "Serialization"})
+@Description("A response body deserialized by AzureHttpClient")
+@StackTrace(false)
+public final class DeserializationEvent extends Event {
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Length")
+    @Description("Length of the body in characters")
+    long length;
+
+    public static DeserializationEvent start() {
+        DeserializationEvent event = new DeserializationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(Class<?> type, long length) {
+        end();
+        if (shouldCommit()) {
+            this.type = type;
+            this.length = length;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.azure.simpleSDK.http.jfr;
+
+import com.azure.simpleSDK.http.ArmUrls;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.http.HttpRequest;
+
+/**
+ * One request sent over the wire, from the end of client-side throttling to the response headers.
+ */
+@Name("com.azure.simpleSDK.HttpAttempt")
+@Label("HTTP Attempt")
+@Category({"Azure SDK", "HTTP"})
+@Description("A request sent to Azure by AzureHttpClient")
+@StackTrace(false)
+public final class HttpAttemptEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("Host")
+    String host;
+
+    @Label("Operation")
+    @Description("Request path with resource names replaced by placeholders")
+    String operation;
+
+    @Label("Status Code")
+    @Description("Response status, or 0 if no response arrived")
+    int statusCode;
+
+    @Label("Response Size")
+    @Description("Content-Length of the response (the compressed size when compressed), or the UTF-8 size of the decoded body without one")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Request ID")
+    String requestId;
+
+    public static HttpAttemptEvent start() {
+        HttpAttemptEvent event = new HttpAttemptEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the attempt and, if the event is enabled, commits it.
+     *
+     * @param responseBytes size of the response body as received, or a negative value when unknown
+     */
+    public void complete(HttpRequest request, int statusCode, long responseBytes, String requestId) {
+        end();
+        if (shouldCommit()) {
+            this.method = request.method();
+            this.host = request.uri().getHost();
+            this.operation = ArmUrls.operation(request.uri());
+            this.statusCode = statusCode;
+            this.responseBytes = responseBytes;
+            this.requestId = requestId;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.azure.simpleSDK.http.jfr;
+
+import com.azure.simpleSDK.http.ArmUrls;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.URI;
+
+/**
+ * A page of a list result fetched through its {@code nextLink} or by a paged stream, including
+ * deserializing it unless the page is streamed item by item.
+ */
+@Name("com.azure.simpleSDK.Page")
+@Label("List Page")
+@Category({"Azure SDK", "Pagination"})
+@Description("A page of a list result fetched by AzureHttpClient")
+@StackTrace(false)
+public final class PageEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Page")
+    @Description("Page number within the list result, or 0 when paged by a stream")
+    int page;
+
+    @Label("Size")
+    @Description("UTF-8 size of the decoded page body, whether or not it was compressed on the wire")
+    @DataAmount
+    long bytes;
+
+    public static PageEvent start() {
+        PageEvent event = new PageEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param url the page's URL, parsed only when the event is recorded
+     * @param bytes UTF-8 size of the page's decoded body, or a negative value when it is streamed
+     */
+    public void complete(String url, int page, long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.operation = ArmUrls.operation(URI.create(url));
+            this.page = page;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
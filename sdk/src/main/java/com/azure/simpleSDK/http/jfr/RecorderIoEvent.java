@@ -0,0 +1,54 @@
+package com.azure.simpleSDK.http.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A recording file written or loaded by {@link com.azure.simpleSDK.http.recording.HttpInteractionRecorder}.
+ */
+@Name("com.azure.simpleSDK.RecorderIo")
+@Label("Recorder I/O")
+@Category({"Azure SDK", "Recording"})
+@Description("A recorded HTTP exchange written to or read from disk")
+@StackTrace(false)
+public final class RecorderIoEvent extends Event {
+    @Label("Operation")
+    @Description("write or read")
+    String operation;
+
+    @Label("File")
+    String file;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    public static RecorderIoEvent start() {
+        RecorderIoEvent event = new RecorderIoEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(String operation, Path file) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.file = file.toString();
+            try {
+                this.bytes = Files.size(file);
+            } catch (IOException e) {
+                this.bytes = -1;
+            }
+            commit();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.azure.simpleSDK.http.jfr;
+
+import com.azure.simpleSDK.http.ArmUrls;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * The backoff between two attempts of a request, from the failed attempt until the retry is sent or abandoned.
+ */
+@Name("com.azure.simpleSDK.RetryDelay")
+@Label("Retry Delay")
+@Category({"Azure SDK", "HTTP"})
+@Description("Backoff before AzureHttpClient retries a request")
+@StackTrace(false)
+public final class RetryDelayEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Failed Attempt")
+    int attempt;
+
+    @Label("Planned Delay")
+    @Timespan(Timespan.MILLISECONDS)
+    long plannedDelay;
+
+    public static RetryDelayEvent start() {
+        RetryDelayEvent event = new RetryDelayEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(HttpRequest request, int attempt, Duration plannedDelay) {
+        end();
+        if (shouldCommit()) {
+            this.method = request.method();
+            this.operation = ArmUrls.operation(request.uri());
+            this.attempt = attempt;
+            this.plannedDelay = plannedDelay.toMillis();
+            commit();
+        }
+    }
+}
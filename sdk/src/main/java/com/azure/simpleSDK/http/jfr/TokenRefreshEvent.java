@@ -0,0 +1,58 @@
+package com.azure.simpleSDK.http.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A credential getting a new access token from its identity endpoint.
+ */
+@Name("com.azure.simpleSDK.TokenRefresh")
+@Label("Token Refresh")
+@Category({"Azure SDK", "Authentication"})
+@Description("An access token requested by a credential")
+@StackTrace(false)
+public final class TokenRefreshEvent extends Event {
+    @Label("Credential")
+    String credential;
+
+    @Label("Scope")
+    @Description("Scope or resource the token was requested for")
+    String scope;
+
+    @Label("Status Code")
+    @Description("Response status of the identity endpoint, or 0 if no response arrived")
+    int statusCode;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Expires In")
+    @Timespan(Timespan.SECONDS)
+    long expiresIn;
+
+    public static TokenRefreshEvent start() {
+        TokenRefreshEvent event = new TokenRefreshEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param expiresIn lifetime of the new token in seconds, or a negative value if none was issued
+     */
+    public void complete(String credential, String scope, int statusCode, long expiresIn) {
+        end();
+        if (shouldCommit()) {
+            this.credential = credential;
+            this.scope = scope;
+            this.statusCode = statusCode;
+            this.succeeded = expiresIn >= 0;
+            this.expiresIn = expiresIn;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.azure.simpleSDK.http.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds with log-linear buckets: every power of two from about
+ * 1 microsecond to about 137 seconds is split into eight equal buckets, so a recorded value is off by at most 12.5%.
+ * Faster values share the first bucket and slower ones the last.
+ *
+ * <p>Recording is one bit scan and two atomic adds, with no allocation.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int MIN_EXPONENT = 10;
+    static final int MAX_EXPONENT = 37;
+    static final int BUCKETS = 2 + (MAX_EXPONENT - MIN_EXPONENT) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.getAndIncrement(bucketIndex(value));
+        sum.add(value);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new Snapshot(counts, sum.sum());
+    }
+
+    static int bucketIndex(long nanos) {
+        if (nanos < 1L << MIN_EXPONENT) {
+            return 0;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return 1 + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return exclusive upper bound in nanoseconds of the values counted in bucket {@code index},
+     * or {@link Long#MAX_VALUE} for the last bucket.
+     */
+    static long upperBound(int index) {
+        if (index == 0) {
+            return 1L << MIN_EXPONENT;
+        }
+        if (index == BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+        int exponent = MIN_EXPONENT + (index - 1) / SUB_BUCKETS;
+        int subBucket = (index - 1) % SUB_BUCKETS;
+        return (1L << exponent) + ((long) (subBucket + 1) << (exponent - SUB_BUCKET_BITS));
+    }
+
+    /**
+     * Point-in-time copy of a histogram. Buckets are read one by one while recording goes on, so the
+     * count and the sum may disagree by the few requests recorded meanwhile.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sumNanos;
+
+        Snapshot(long[] counts, long sumNanos) {
+            this.counts = counts;
+            this.sumNanos = sumNanos;
+            long total = 0;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            this.count = total;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSumNanos() {
+            return sumNanos;
+        }
+
+        /**
+         * @return upper bound of the bucket holding the {@code quantile} (in [0, 1]) of the recorded values,
+         * in nanoseconds, or {@code 0} when nothing was recorded.
+         */
+        public long percentile(double quantile) {
+            if (quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException("quantile must be between 0 and 1");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i == BUCKETS - 1 ? 1L << MAX_EXPONENT : upperBound(i);
+                }
+            }
+            return 1L << MAX_EXPONENT;
+        }
+
+        /**
+         * @return values below {@code 2^exponent} nanoseconds, for {@code exponent} from 10 to 37.
+         */
+        long countBelowPowerOfTwo(int exponent) {
+            int end = 1 + (exponent - MIN_EXPONENT) * SUB_BUCKETS;
+            long below = 0;
+            for (int i = 0; i < end; i++) {
+                below += counts[i];
+            }
+            return below;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.azure.simpleSDK.http.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal HTTP endpoint serving {@link SdkMetrics} at {@code GET /metrics} for a Prometheus scraper.
+ * Scrapes are answered one at a time on the server's dispatcher thread; {@link #close()} stops it.
+ */
+public final class PrometheusEndpoint implements AutoCloseable {
+    private final HttpServer server;
+
+    private PrometheusEndpoint(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts serving {@code metrics} on {@code address}; port {@code 0} picks a free port, see {@link #getAddress()}.
+     */
+    public static PrometheusEndpoint start(SdkMetrics metrics, InetSocketAddress address) throws IOException {
+        HttpServer server = HttpServer.create(address, 0);
+        server.createContext("/metrics", exchange -> serve(metrics, exchange));
+        server.start();
+        return new PrometheusEndpoint(server);
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private static void serve(SdkMetrics metrics, HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"/metrics".equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            boolean head = "HEAD".equals(exchange.getRequestMethod());
+            if (!head && !"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = metrics.toPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", SdkMetrics.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, head ? -1 : body.length);
+            if (!head) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,214 @@
+package com.azure.simpleSDK.http.metrics;
+
+import com.azure.simpleSDK.http.ArmUrls;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of request metrics, exported in the Prometheus text format by {@link #writePrometheus} or
+ * over HTTP by {@link PrometheusEndpoint}.
+ *
+ * <p>Attempts are grouped by HTTP method and operation, the request path with resource names replaced by
+ * placeholders ({@link ArmUrls#operation}), so the number of series stays bounded however many resources are
+ * read. Each operation has a {@link LatencyHistogram}, attempt counts per status code and a response byte count.
+ * Recording looks up cached maps and adds to atomic counters; it neither locks nor allocates once an operation
+ * has been seen.
+ */
+public final class SdkMetrics {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    // Paths whose operation template is remembered; beyond that, templates are computed on every request
+    private static final int MAX_CACHED_PATHS = 10_000;
+    private static final int MAX_STATUS = 600;
+    private static final String[] LE = new String[LatencyHistogram.MAX_EXPONENT - LatencyHistogram.MIN_EXPONENT + 1];
+
+    static {
+        for (int i = 0; i < LE.length; i++) {
+            LE[i] = seconds(1L << (LatencyHistogram.MIN_EXPONENT + i));
+        }
+    }
+
+    private final ConcurrentMap<String, String> operationsByPath = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Operation>> operations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> retries = new ConcurrentHashMap<>();
+    private final LongAdder pages = new LongAdder();
+
+    private static final class Operation {
+        final LatencyHistogram latency = new LatencyHistogram();
+        // Attempts by status code; index 0 counts attempts that got no response
+        final AtomicLongArray attempts = new AtomicLongArray(MAX_STATUS);
+        final LongAdder responseBytes = new LongAdder();
+    }
+
+    /**
+     * Records one attempt sent over the wire.
+     *
+     * @param statusCode response status, or {@code 0} if the attempt failed without a response
+     * @param responseBytes size of the response body as received: its {@code Content-Length}, which is the
+     * compressed size when response compression is on, or else the UTF-8 size of the decoded body; a negative
+     * value when unknown
+     */
+    public void recordAttempt(String method, URI uri, int statusCode, long latencyNanos, long responseBytes) {
+        Operation operation = operation(method, uri);
+        operation.latency.record(latencyNanos);
+        operation.attempts.getAndIncrement(statusCode > 0 && statusCode < MAX_STATUS ? statusCode : 0);
+        if (responseBytes > 0) {
+            operation.responseBytes.add(responseBytes);
+        }
+    }
+
+    /**
+     * Records a retry, by the status code that caused it or {@code timeout} or {@code network_error}.
+     */
+    public void recordRetry(String reason) {
+        LongAdder count = retries.get(reason);
+        if (count == null) {
+            count = retries.computeIfAbsent(reason, ignored -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    public void recordPage() {
+        pages.increment();
+    }
+
+    /**
+     * @return latency of the attempts of {@code method} on {@code operation} so far, or {@code null} if there were none.
+     */
+    public LatencyHistogram.Snapshot getLatency(String method, String operation) {
+        Map<String, Operation> byOperation = operations.get(method);
+        Operation recorded = byOperation == null ? null : byOperation.get(operation);
+        return recorded == null ? null : recorded.latency.snapshot();
+    }
+
+    public long getRetries(String reason) {
+        LongAdder count = retries.get(reason);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long getPagesFetched() {
+        return pages.sum();
+    }
+
+    public String toPrometheusText() {
+        StringBuilder out = new StringBuilder();
+        try {
+            writePrometheus(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes every metric in the Prometheus text exposition format (version 0.0.4), series sorted by labels.
+     */
+    public void writePrometheus(Appendable out) throws IOException {
+        List<Map.Entry<String, Operation>> sorted = sortedOperations();
+
+        header(out, "azure_sdk_request_duration_seconds", "histogram", "Latency of attempts sent over the wire.");
+        for (Map.Entry<String, Operation> entry : sorted) {
+            LatencyHistogram.Snapshot snapshot = entry.getValue().latency.snapshot();
+            for (int i = 0; i < LE.length; i++) {
+                out.append("azure_sdk_request_duration_seconds_bucket{").append(entry.getKey())
+                    .append(",le=\"").append(LE[i]).append("\"} ")
+                    .append(Long.toString(snapshot.countBelowPowerOfTwo(LatencyHistogram.MIN_EXPONENT + i))).append('\n');
+            }
+            out.append("azure_sdk_request_duration_seconds_bucket{").append(entry.getKey()).append(",le=\"+Inf\"} ")
+                .append(Long.toString(snapshot.getCount())).append('\n');
+            out.append("azure_sdk_request_duration_seconds_sum{").append(entry.getKey()).append("} ")
+                .append(seconds(snapshot.getSumNanos())).append('\n');
+            out.append("azure_sdk_request_duration_seconds_count{").append(entry.getKey()).append("} ")
+                .append(Long.toString(snapshot.getCount())).append('\n');
+        }
+
+        header(out, "azure_sdk_requests_total", "counter", "Attempts sent over the wire, by response status code.");
+        for (Map.Entry<String, Operation> entry : sorted) {
+            AtomicLongArray attempts = entry.getValue().attempts;
+            for (int status = 0; status < MAX_STATUS; status++) {
+                long count = attempts.get(status);
+                if (count > 0) {
+                    out.append("azure_sdk_requests_total{").append(entry.getKey())
+                        .append(",code=\"").append(status == 0 ? "error" : Integer.toString(status)).append("\"} ")
+                        .append(Long.toString(count)).append('\n');
+                }
+            }
+        }
+
+        header(out, "azure_sdk_response_bytes_total", "counter", "Response body bytes received, compressed size for compressed responses.");
+        for (Map.Entry<String, Operation> entry : sorted) {
+            out.append("azure_sdk_response_bytes_total{").append(entry.getKey()).append("} ")
+                .append(Long.toString(entry.getValue().responseBytes.sum())).append('\n');
+        }
+
+        header(out, "azure_sdk_retries_total", "counter", "Attempts retried, by status code or failure.");
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(retries).entrySet()) {
+            out.append("azure_sdk_retries_total{reason=\"").append(escape(entry.getKey())).append("\"} ")
+                .append(Long.toString(entry.getValue().sum())).append('\n');
+        }
+
+        header(out, "azure_sdk_pages_fetched_total", "counter", "Pages of list results fetched.");
+        out.append("azure_sdk_pages_fetched_total ").append(Long.toString(pages.sum())).append('\n');
+    }
+
+    private Operation operation(String method, URI uri) {
+        ConcurrentMap<String, Operation> byOperation = operations.get(method);
+        if (byOperation == null) {
+            byOperation = operations.computeIfAbsent(method, ignored -> new ConcurrentHashMap<>());
+        }
+        String template = operationOf(uri);
+        Operation operation = byOperation.get(template);
+        return operation != null ? operation : byOperation.computeIfAbsent(template, ignored -> new Operation());
+    }
+
+    private String operationOf(URI uri) {
+        String path = uri.getRawPath();
+        if (path == null) {
+            return ArmUrls.operation(uri);
+        }
+        String template = operationsByPath.get(path);
+        if (template == null) {
+            template = ArmUrls.operation(uri);
+            if (operationsByPath.size() < MAX_CACHED_PATHS) {
+                operationsByPath.putIfAbsent(path, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * @return operations keyed by their rendered {@code method} and {@code operation} labels, sorted.
+     */
+    private List<Map.Entry<String, Operation>> sortedOperations() {
+        TreeMap<String, Operation> sorted = new TreeMap<>();
+        for (Map.Entry<String, ConcurrentMap<String, Operation>> byMethod : operations.entrySet()) {
+            for (Map.Entry<String, Operation> entry : byMethod.getValue().entrySet()) {
+                sorted.put("method=\"" + escape(byMethod.getKey()) + "\",operation=\"" + escape(entry.getKey()) + "\"", entry.getValue());
+            }
+        }
+        return new ArrayList<>(sorted.entrySet());
+    }
+
+    private static void header(Appendable out, String name, String type, String help) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return BigDecimal.valueOf(nanos, 9).stripTrailingZeros().toPlainString();
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
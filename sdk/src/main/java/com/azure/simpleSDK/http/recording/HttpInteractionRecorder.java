@@ -2,6 +2,7 @@ package com.azure.simpleSDK.http.recording;
 
 import com.azure.simpleSDK.http.HttpCallResult;
 import com.azure.simpleSDK.http.exceptions.AzureException;
+import com.azure.simpleSDK.http.jfr.RecorderIoEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
@@ -97,7 +98,9 @@ public class HttpInteractionRecorder {
 
             String fileName = String.format("%05d_%s.json", sequence.getAndIncrement(), exchange.signature);
             Path targetFile = recordingsDirectory.resolve(fileName);
+            RecorderIoEvent event = RecorderIoEvent.start();
             objectMapper.writerWithDefaultPrettyPrinter().writeValue(targetFile.toFile(), exchange);
+            event.complete("write", targetFile);
         } catch (IOException e) {
             throw new AzureException("Failed to record HTTP exchange", e);
         }
@@ -109,13 +112,17 @@ public class HttpInteractionRecorder {
         }
 
         String signature = buildSignature(request.method(), request.uri().toString(), requestBody);
-        Deque<RecordedExchange> queue = playbackIndex.get(signature);
+        RecordedExchange exchange;
+        // Async callers may replay concurrently, so the per-signature queues are consumed under a lock.
+        synchronized (playbackIndex) {
+            Deque<RecordedExchange> queue = playbackIndex.get(signature);
+            exchange = queue == null ? null : queue.pollFirst();
+        }
 
-        if (queue == null || queue.isEmpty()) {
+        if (exchange == null) {
             throw new AzureException("No recorded response found for request: " + request.method() + " " + request.uri());
         }
 
-        RecordedExchange exchange = queue.pollFirst();
         return new HttpCallResult(
             exchange.response.statusCode,
             Collections.unmodifiableMap(new HashMap<>(exchange.response.headers)),
@@ -153,7 +160,9 @@ public class HttpInteractionRecorder {
             files.sort(Comparator.comparing(Path::getFileName));
 
             for (Path file : files) {
+                RecorderIoEvent event = RecorderIoEvent.start();
                 RecordedExchange exchange = objectMapper.readValue(file.toFile(), RecordedExchange.class);
+                event.complete("read", file);
                 if (exchange.signature == null && exchange.request != null) {
                     exchange.signature = buildSignature(exchange.request.method, exchange.request.url, exchange.request.body);
                 }
@@ -0,0 +1,17 @@
+package com.azure.simpleSDK.http.retry;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Computes the delay before the next attempt of a failed request.
+ */
+public interface BackoffStrategy {
+
+    /**
+     * @param attemptNumber the attempt that just failed, starting at 1
+     * @param previousDelay delay used before the failed attempt, {@link Duration#ZERO} after the first one
+     * @param responseHeaders headers of the failed response, or {@code null} after a timeout or network error
+     */
+    Duration calculateDelay(int attemptNumber, Duration previousDelay, RetryPolicy retryPolicy, Map<String, String> responseHeaders);
+}
@@ -0,0 +1,29 @@
+package com.azure.simpleSDK.http.retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * "Decorrelated jitter" backoff: each delay is drawn uniformly between the base delay and three times the
+ * previous delay, capped at the maximum. Compared to exponential backoff with a little jitter, clients that
+ * failed together spread out quickly instead of retrying in synchronized waves.
+ */
+public class DecorrelatedJitterBackoffStrategy implements BackoffStrategy {
+
+    @Override
+    public Duration calculateDelay(int attemptNumber, Duration previousDelay, RetryPolicy retryPolicy, Map<String, String> responseHeaders) {
+        Duration retryAfterDelay = RetryAfter.parse(responseHeaders);
+        if (retryAfterDelay != null) {
+            return retryAfterDelay;
+        }
+
+        long baseDelayMs = retryPolicy.getBaseDelay().toMillis();
+        long maxDelayMs = retryPolicy.getMaxDelay().toMillis();
+        long previousMs = previousDelay == null ? 0 : previousDelay.toMillis();
+        long upperMs = Math.min(maxDelayMs, Math.max(baseDelayMs, previousMs) * 3);
+
+        long delayMs = upperMs > baseDelayMs ? ThreadLocalRandom.current().nextLong(baseDelayMs, upperMs + 1) : upperMs;
+        return Duration.ofMillis(delayMs);
+    }
+}
@@ -4,19 +4,22 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.Random;
 
-public class ExponentialBackoffStrategy {
+public class ExponentialBackoffStrategy implements BackoffStrategy {
     private final Random random;
 
     public ExponentialBackoffStrategy() {
         this.random = new Random();
     }
 
+    @Override
+    public Duration calculateDelay(int attemptNumber, Duration previousDelay, RetryPolicy retryPolicy, Map<String, String> responseHeaders) {
+        return calculateDelay(attemptNumber, retryPolicy, responseHeaders);
+    }
+
     public Duration calculateDelay(int attemptNumber, RetryPolicy retryPolicy, Map<String, String> responseHeaders) {
-        if (responseHeaders != null && responseHeaders.containsKey("Retry-After")) {
-            Duration retryAfterDelay = parseRetryAfterHeader(responseHeaders.get("Retry-After"));
-            if (retryAfterDelay != null) {
-                return retryAfterDelay;
-            }
+        Duration retryAfterDelay = RetryAfter.parse(responseHeaders);
+        if (retryAfterDelay != null) {
+            return retryAfterDelay;
         }
 
         long baseDelayMs = retryPolicy.getBaseDelay().toMillis();
@@ -26,19 +29,8 @@ public class ExponentialBackoffStrategy {
         
         long cappedDelay = Math.min(exponentialDelay, maxDelayMs);
         
-        long jitteredDelay = cappedDelay + random.nextLong(cappedDelay / 2);
+        long jitteredDelay = cappedDelay / 2 > 0 ? cappedDelay + random.nextLong(cappedDelay / 2) : cappedDelay;
         
         return Duration.ofMillis(Math.min(jitteredDelay, maxDelayMs));
     }
-
-    private Duration parseRetryAfterHeader(String retryAfterValue) {
-        try {
-            if (retryAfterValue.matches("\\d+")) {
-                int seconds = Integer.parseInt(retryAfterValue);
-                return Duration.ofSeconds(seconds);
-            }
-        } catch (NumberFormatException e) {
-        }
-        return null;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,186 @@
+package com.azure.simpleSDK.http.retry;
+
+import com.azure.simpleSDK.http.ArmUrls;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides when an idempotent request gets a second, identical "hedge" request to cut tail latency.
+ *
+ * <p>Latencies are tracked per endpoint (host plus resource provider). Once an endpoint has enough samples,
+ * a request that has not answered by the configured latency percentile is hedged; the first response wins
+ * and the other request is cancelled. Every request adds {@code budgetRatio} to a shared budget and every
+ * hedge spends one from it, so hedges stay under that share of traffic (5% by default) and don't eat into
+ * the ARM read quota during an outage, when every request is slow.
+ */
+public class HedgingPolicy {
+    private static final int WINDOW_SIZE = 256;
+    // The percentile is recomputed after this many new samples rather than on every request
+    private static final int RECOMPUTE_INTERVAL = 32;
+    // Budget is kept in millionths of a hedge so repeated deposits add up exactly
+    private static final long HEDGE = 1_000_000;
+
+    private final double percentile;
+    private final Duration minDelay;
+    private final int minSamples;
+    private final long depositPerRequest;
+    private final long maxBudget;
+    private final ConcurrentMap<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private long budget;
+
+    /**
+     * @param requests requests considered for hedging
+     * @param hedges hedge requests sent
+     * @param hedgeWins hedges that answered before the original request
+     */
+    public record Stats(long requests, long hedges, long hedgeWins) {
+    }
+
+    private HedgingPolicy(Builder builder) {
+        this.percentile = builder.percentile;
+        this.minDelay = builder.minDelay;
+        this.minSamples = builder.minSamples;
+        this.depositPerRequest = Math.round(builder.budgetRatio * HEDGE);
+        this.maxBudget = Math.round(builder.maxBudget * HEDGE);
+    }
+
+    /**
+     * Registers a request about to be sent and returns how long to wait before hedging it, or {@code null}
+     * if the endpoint has too few latency samples to pick a delay.
+     */
+    public Duration hedgeDelay(URI uri) {
+        requests.increment();
+        synchronized (this) {
+            budget = Math.min(maxBudget, budget + depositPerRequest);
+        }
+        LatencyWindow window = latencies.get(ArmUrls.endpoint(uri));
+        long thresholdNanos = window == null ? -1 : window.threshold();
+        if (thresholdNanos < 0) {
+            return null;
+        }
+        return Duration.ofNanos(Math.max(thresholdNanos, minDelay.toNanos()));
+    }
+
+    /**
+     * Spends one hedge from the budget.
+     *
+     * @return {@code false} if the budget is exhausted and the request must not be hedged
+     */
+    public boolean tryHedge() {
+        synchronized (this) {
+            if (budget < HEDGE) {
+                return false;
+            }
+            budget -= HEDGE;
+        }
+        hedges.increment();
+        return true;
+    }
+
+    public void recordLatency(URI uri, long latencyNanos) {
+        latencies.computeIfAbsent(ArmUrls.endpoint(uri), endpoint -> new LatencyWindow()).add(latencyNanos);
+    }
+
+    public void recordHedgeWin() {
+        hedgeWins.increment();
+    }
+
+    public Stats getStats() {
+        return new Stats(requests.sum(), hedges.sum(), hedgeWins.sum());
+    }
+
+    private final class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private long count;
+        private long threshold = -1;
+
+        synchronized void add(long latencyNanos) {
+            samples[(int) (count % WINDOW_SIZE)] = latencyNanos;
+            count++;
+            if (count >= minSamples && (threshold < 0 || count % RECOMPUTE_INTERVAL == 0)) {
+                long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, WINDOW_SIZE));
+                Arrays.sort(sorted);
+                threshold = sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+            }
+        }
+
+        synchronized long threshold() {
+            return threshold;
+        }
+    }
+
+    public static class Builder {
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(50);
+        private int minSamples = 20;
+        private double budgetRatio = 0.05;
+        private double maxBudget = 10;
+
+        /**
+         * Latency percentile, in (0, 1), after which a request is hedged.
+         */
+        public Builder percentile(double percentile) {
+            if (percentile <= 0 || percentile >= 1) {
+                throw new IllegalArgumentException("percentile must be between 0 and 1");
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Lower bound on the hedge delay, so fast endpoints are not hedged on jitter.
+         */
+        public Builder minDelay(Duration minDelay) {
+            if (minDelay.isNegative()) {
+                throw new IllegalArgumentException("minDelay must not be negative");
+            }
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Latency samples an endpoint needs before its requests are hedged.
+         */
+        public Builder minSamples(int minSamples) {
+            if (minSamples < 1 || minSamples > WINDOW_SIZE) {
+                throw new IllegalArgumentException("minSamples must be between 1 and " + WINDOW_SIZE);
+            }
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Hedges allowed per request sent, e.g. {@code 0.05} for at most 5% extra requests.
+         */
+        public Builder budgetRatio(double budgetRatio) {
+            if (budgetRatio <= 0 || budgetRatio > 1) {
+                throw new IllegalArgumentException("budgetRatio must be in (0, 1]");
+            }
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+
+        /**
+         * Unspent hedges that can accumulate during quiet periods.
+         */
+        public Builder maxBudget(double maxBudget) {
+            if (maxBudget < 1) {
+                throw new IllegalArgumentException("maxBudget must be at least 1");
+            }
+            this.maxBudget = maxBudget;
+            return this;
+        }
+
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
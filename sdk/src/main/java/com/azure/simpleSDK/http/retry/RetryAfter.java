@@ -0,0 +1,32 @@
+package com.azure.simpleSDK.http.retry;
+
+import java.time.Duration;
+import java.util.Map;
+
+final class RetryAfter {
+
+    private RetryAfter() {
+    }
+
+    /**
+     * @return the delay requested by a {@code Retry-After: <seconds>} header, or {@code null} if there is none.
+     */
+    static Duration parse(Map<String, String> responseHeaders) {
+        if (responseHeaders == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
+            if ("Retry-After".equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+                String value = header.getValue().trim();
+                if (value.matches("\\d+")) {
+                    try {
+                        return Duration.ofSeconds(Long.parseLong(value));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
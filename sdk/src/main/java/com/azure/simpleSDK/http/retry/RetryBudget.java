@@ -0,0 +1,91 @@
+package com.azure.simpleSDK.http.retry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-wide cap on retries. Every successful request earns {@code tokensPerSuccess} retry tokens, up to
+ * {@code maxTokens}, and every retry spends one. Once the tokens run out failed requests are not retried
+ * until enough requests succeed again, so a throttling blip can't turn into a retry storm where each
+ * request is sent {@link RetryPolicy#getMaxAttempts()} times.
+ */
+public class RetryBudget {
+    // Tokens are kept in millionths so repeated fractional deposits add up exactly
+    private static final long TOKEN = 1_000_000;
+
+    private final long depositPerSuccess;
+    private final long maxTokens;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private long tokens;
+
+    /**
+     * @param retries retries the budget allowed
+     * @param rejected retries refused because the budget was exhausted
+     * @param tokens retry tokens currently available
+     */
+    public record Stats(long retries, long rejected, double tokens) {
+    }
+
+    private RetryBudget(Builder builder) {
+        this.depositPerSuccess = Math.round(builder.tokensPerSuccess * TOKEN);
+        this.maxTokens = Math.round(builder.maxTokens * TOKEN);
+        this.tokens = maxTokens;
+    }
+
+    /**
+     * Spends a token for a retry.
+     *
+     * @return {@code false} if the budget is exhausted and the request must fail instead of retrying
+     */
+    public boolean tryRetry() {
+        synchronized (this) {
+            if (tokens < TOKEN) {
+                rejected.increment();
+                return false;
+            }
+            tokens -= TOKEN;
+        }
+        retries.increment();
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        tokens = Math.min(maxTokens, tokens + depositPerSuccess);
+    }
+
+    public Stats getStats() {
+        long available;
+        synchronized (this) {
+            available = tokens;
+        }
+        return new Stats(retries.sum(), rejected.sum(), (double) available / TOKEN);
+    }
+
+    /**
+     * Defaults allow a burst of 20 retries and, sustained, one retry per ten successful requests.
+     */
+    public static class Builder {
+        private double tokensPerSuccess = 0.1;
+        private double maxTokens = 20;
+
+        public Builder tokensPerSuccess(double tokensPerSuccess) {
+            if (tokensPerSuccess <= 0) {
+                throw new IllegalArgumentException("tokensPerSuccess must be positive");
+            }
+            this.tokensPerSuccess = tokensPerSuccess;
+            return this;
+        }
+
+        public Builder maxTokens(double maxTokens) {
+            if (maxTokens < 1) {
+                throw new IllegalArgumentException("maxTokens must be at least 1");
+            }
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
+        public RetryBudget build() {
+            return new RetryBudget(this);
+        }
+    }
+}
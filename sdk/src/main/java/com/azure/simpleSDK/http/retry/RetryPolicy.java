@@ -10,6 +10,7 @@ public class RetryPolicy {
     private final Set<Integer> retryableStatusCodes;
     private final boolean retryOnTimeout;
     private final boolean retryOnNetworkError;
+    private final BackoffStrategy backoffStrategy;
 
     public static final RetryPolicy DEFAULT = new Builder()
         .maxAttempts(5)
@@ -27,6 +28,7 @@ public class RetryPolicy {
         this.retryableStatusCodes = Set.copyOf(builder.retryableStatusCodes);
         this.retryOnTimeout = builder.retryOnTimeout;
         this.retryOnNetworkError = builder.retryOnNetworkError;
+        this.backoffStrategy = builder.backoffStrategy;
     }
 
     public int getMaxAttempts() {
@@ -53,6 +55,10 @@ public class RetryPolicy {
         return retryOnNetworkError;
     }
 
+    public BackoffStrategy getBackoffStrategy() {
+        return backoffStrategy;
+    }
+
     public static class Builder {
         private int maxAttempts = 3;
         private Duration baseDelay = Duration.ofMillis(100);
@@ -60,6 +66,7 @@ public class RetryPolicy {
         private Set<Integer> retryableStatusCodes = Set.of(429, 502, 503, 504);
         private boolean retryOnTimeout = true;
         private boolean retryOnNetworkError = true;
+        private BackoffStrategy backoffStrategy = new ExponentialBackoffStrategy();
 
         public Builder maxAttempts(int maxAttempts) {
             if (maxAttempts < 1) {
@@ -100,6 +107,15 @@ public class RetryPolicy {
             return this;
         }
 
+        /**
+         * Strategy for the delay between attempts; {@link ExponentialBackoffStrategy} by default,
+         * {@link DecorrelatedJitterBackoffStrategy} spreads out clients that failed together.
+         */
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
         public RetryPolicy build() {
             return new RetryPolicy(this);
         }
@@ -0,0 +1,294 @@
+package com.azure.simpleSDK.http.throttling;
+
+import com.azure.simpleSDK.http.ArmUrls;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Additive-increase / multiplicative-decrease limit on the number of requests in flight per Azure resource
+ * provider ({@code Microsoft.Network}, {@code Microsoft.Compute}, ...).
+ *
+ * <p>Each provider starts at the initial limit. While responses stay healthy the limit grows by roughly one
+ * request per window of completed requests; a throttled or unavailable response (429, 503), a timeout, or
+ * recent latency rising well above the provider's long-term baseline multiplies it by the backoff ratio. Requests
+ * over the limit queue until a permit is released, so fan-out settles at the rate each provider sustains.
+ */
+public class AdaptiveConcurrencyLimiter {
+    // Samples needed before the baseline latency is trusted for spike detection
+    private static final int LATENCY_WARM_UP_SAMPLES = 10;
+    private static final double SHORT_LATENCY_SMOOTHING = 0.3;
+    private static final double BASELINE_LATENCY_SMOOTHING = 0.02;
+    // Sub-millisecond jitter says nothing about the provider's load
+    private static final double MIN_BASELINE_NANOS = 1_000_000;
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final ConcurrentMap<String, ProviderLimit> providers = new ConcurrentHashMap<>();
+
+    /**
+     * Current state of one provider's window, for monitoring.
+     */
+    public record ProviderLevel(String provider, double limit, int inFlight, int queued, long baselineLatencyMillis) {
+    }
+
+    /**
+     * A slot for one request. Exactly one of the completion methods must be called once the response
+     * headers arrive or the request fails.
+     */
+    public final class Permit {
+        private final ProviderLimit owner;
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(ProviderLimit owner) {
+            this.owner = owner;
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Releases the permit and adjusts the window from the response status and latency.
+         */
+        public void onResponse(int statusCode) {
+            long latencyNanos = System.nanoTime() - startNanos;
+            release(statusCode == 429 || statusCode == 503 ? Outcome.OVERLOADED : Outcome.COMPLETED, latencyNanos);
+        }
+
+        /**
+         * Releases the permit after the request timed out, which counts as an overload signal.
+         */
+        public void onTimeout() {
+            release(Outcome.OVERLOADED, System.nanoTime() - startNanos);
+        }
+
+        /**
+         * Releases the permit without adjusting the window, e.g. after a connection error.
+         */
+        public void onIgnored() {
+            release(Outcome.IGNORED, 0);
+        }
+
+        private void release(Outcome outcome, long latencyNanos) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            owner.release(this, outcome, latencyNanos);
+        }
+    }
+
+    private enum Outcome { COMPLETED, OVERLOADED, IGNORED }
+
+    private AdaptiveConcurrencyLimiter(Builder builder) {
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+    }
+
+    /**
+     * Waits for a permit for the provider addressed by {@code uri}.
+     */
+    public Permit acquire(URI uri) throws InterruptedException {
+        CompletableFuture<Permit> permit = acquireAsync(uri);
+        try {
+            return permit.get();
+        } catch (InterruptedException e) {
+            // A permit granted while we were being interrupted must go back to the window
+            if (!permit.cancel(false)) {
+                permit.join().onIgnored();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Permit acquisition failed", e.getCause());
+        }
+    }
+
+    /**
+     * Returns a future that completes with a permit once the provider's window has room.
+     */
+    public CompletableFuture<Permit> acquireAsync(URI uri) {
+        return providers.computeIfAbsent(ArmUrls.resourceProvider(uri), name -> new ProviderLimit(initialLimit)).acquire();
+    }
+
+    /**
+     * @return a permit if the provider's window has room right now and nobody is queued, otherwise {@code null}.
+     */
+    public Permit tryAcquire(URI uri) {
+        return providers.computeIfAbsent(ArmUrls.resourceProvider(uri), name -> new ProviderLimit(initialLimit)).tryAcquire();
+    }
+
+    /**
+     * @return a snapshot of every provider seen so far.
+     */
+    public List<ProviderLevel> getLevels() {
+        List<ProviderLevel> levels = new ArrayList<>();
+        providers.forEach((name, limit) -> levels.add(limit.level(name)));
+        return levels;
+    }
+
+    private final class ProviderLimit {
+        private final ArrayDeque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+        private double limit;
+        private int inFlight;
+        private double recentLatencyNanos;
+        private double baselineLatencyNanos;
+        private long latencySamples;
+        // Requests started before the last decrease don't shrink the window again
+        private long lastDecreaseNanos;
+
+        ProviderLimit(int initialLimit) {
+            this.limit = initialLimit;
+            this.lastDecreaseNanos = System.nanoTime();
+        }
+
+        CompletableFuture<Permit> acquire() {
+            synchronized (this) {
+                if (inFlight < (int) limit) {
+                    inFlight++;
+                } else {
+                    CompletableFuture<Permit> waiter = new CompletableFuture<>();
+                    waiters.add(waiter);
+                    return waiter;
+                }
+            }
+            return CompletableFuture.completedFuture(new Permit(this));
+        }
+
+        Permit tryAcquire() {
+            synchronized (this) {
+                if (inFlight >= (int) limit || !waiters.isEmpty()) {
+                    return null;
+                }
+                inFlight++;
+            }
+            return new Permit(this);
+        }
+
+        void release(Permit permit, Outcome outcome, long latencyNanos) {
+            List<CompletableFuture<Permit>> admitted = new ArrayList<>();
+            synchronized (this) {
+                inFlight--;
+                if (outcome != Outcome.IGNORED) {
+                    recordLatency(outcome, latencyNanos);
+                    adjust(permit, outcome == Outcome.OVERLOADED || isLatencySpike());
+                }
+                while (inFlight < (int) limit && !waiters.isEmpty()) {
+                    CompletableFuture<Permit> waiter = waiters.poll();
+                    if (!waiter.isDone()) {
+                        inFlight++;
+                        admitted.add(waiter);
+                    }
+                }
+            }
+            // Completed outside the lock so dependent stages don't run while holding it
+            for (CompletableFuture<Permit> waiter : admitted) {
+                if (!waiter.complete(new Permit(this))) {
+                    release(null, Outcome.IGNORED, 0);
+                }
+            }
+        }
+
+        private void adjust(Permit permit, boolean overloaded) {
+            if (overloaded) {
+                if (permit.startNanos >= lastDecreaseNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = System.nanoTime();
+                }
+            } else if (inFlight + 1 >= limit / 2) {
+                // Only grow when the window is actually in use, not when the caller is the bottleneck
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+
+        private boolean isLatencySpike() {
+            return latencySamples >= LATENCY_WARM_UP_SAMPLES
+                && recentLatencyNanos > Math.max(baselineLatencyNanos, MIN_BASELINE_NANOS) * latencyTolerance;
+        }
+
+        private void recordLatency(Outcome outcome, long latencyNanos) {
+            if (outcome != Outcome.COMPLETED) {
+                return;
+            }
+            if (latencySamples == 0) {
+                recentLatencyNanos = latencyNanos;
+                baselineLatencyNanos = latencyNanos;
+            } else {
+                recentLatencyNanos += SHORT_LATENCY_SMOOTHING * (latencyNanos - recentLatencyNanos);
+                baselineLatencyNanos += BASELINE_LATENCY_SMOOTHING * (latencyNanos - baselineLatencyNanos);
+            }
+            latencySamples++;
+        }
+
+        synchronized ProviderLevel level(String name) {
+            return new ProviderLevel(name, limit, inFlight, waiters.size(), (long) (baselineLatencyNanos / 1_000_000));
+        }
+    }
+
+    public static class Builder {
+        private int initialLimit = 10;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.75;
+        private double latencyTolerance = 2.0;
+
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Factor applied to the limit on an overload signal; must be in (0, 1).
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * A response slower than this multiple of the provider's smoothed latency counts as a spike.
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        public AdaptiveConcurrencyLimiter build() {
+            if (minLimit < 1 || minLimit > maxLimit) {
+                throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= maxLimit");
+            }
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+            }
+            if (backoffRatio <= 0 || backoffRatio >= 1) {
+                throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+            }
+            if (latencyTolerance <= 1) {
+                throw new IllegalArgumentException("latencyTolerance must be greater than 1");
+            }
+            return new AdaptiveConcurrencyLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.azure.simpleSDK.http.throttling;
+
+import com.azure.simpleSDK.http.ArmUrls;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Client-side token buckets that pace requests before Azure Resource Manager starts returning 429s.
+ *
+ * <p>Requests are charged to a bucket per scope and operation kind: the subscription from the URL
+ * ({@code /subscriptions/{id}/...}), or the tenant for requests outside a subscription; and reads, writes
+ * or deletes depending on the HTTP method. Buckets refill continuously at the configured rate and are
+ * lowered whenever ARM reports fewer remaining requests in its {@code x-ms-ratelimit-remaining-*} headers,
+ * so the client slows down as the server-side budget runs out. A 429 empties the bucket.
+ */
+public class ArmRateLimiter {
+    private final Map<Kind, Limits> limits;
+    private final ConcurrentMap<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public enum Kind {
+        READS, WRITES, DELETES;
+
+        static Kind of(String method) {
+            return switch (method.toUpperCase(Locale.ROOT)) {
+                case "GET", "HEAD" -> READS;
+                case "DELETE" -> DELETES;
+                default -> WRITES;
+            };
+        }
+
+        String headerSuffix() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Current state of one bucket; {@code serverRemaining} is the last value ARM reported, if any.
+     */
+    public record BucketLevel(String scope, Kind kind, double tokens, double capacity, Long serverRemaining) {
+    }
+
+    private record Limits(double capacity, double refillPerSecond) {
+    }
+
+    private record BucketKey(Object scope, Kind kind) {
+    }
+
+    private record TenantScope(Object principal) {
+    }
+
+    private ArmRateLimiter(Builder builder) {
+        this.limits = Map.of(
+            Kind.READS, new Limits(builder.readCapacity, builder.readsPerSecond),
+            Kind.WRITES, new Limits(builder.writeCapacity, builder.writesPerSecond),
+            Kind.DELETES, new Limits(builder.deleteCapacity, builder.deletesPerSecond));
+    }
+
+    /**
+     * Takes a token for the request and returns how long the caller must wait before sending it. Tokens
+     * are reserved even when the bucket is empty, so concurrent callers queue up behind each other.
+     *
+     * @param principal identity used for the tenant scope of requests outside a subscription
+     */
+    public Duration reserve(Object principal, URI uri, String method) {
+        return bucket(principal, uri, Kind.of(method)).reserve();
+    }
+
+    /**
+     * Takes a token for the request only if one is available right now, for optional requests that
+     * shouldn't wait or make others wait.
+     *
+     * @return whether the request may be sent
+     */
+    public boolean tryReserve(Object principal, URI uri, String method) {
+        return bucket(principal, uri, Kind.of(method)).tryReserve();
+    }
+
+    /**
+     * Feeds ARM's view of the remaining budget back into the buckets the request was charged to.
+     */
+    public void onResponse(Object principal, URI uri, String method, int statusCode, Map<String, String> headers) {
+        Kind kind = Kind.of(method);
+        String subscriptionId = ArmUrls.subscriptionId(uri);
+        TokenBucket charged = bucket(principal, uri, kind);
+        if (statusCode == 429) {
+            charged.drain();
+        }
+        if (headers == null) {
+            return;
+        }
+
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (!name.startsWith("x-ms-ratelimit-remaining-")) {
+                continue;
+            }
+            long remaining;
+            try {
+                remaining = Long.parseLong(header.getValue().trim());
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            if (subscriptionId != null && name.equals("x-ms-ratelimit-remaining-subscription-" + kind.headerSuffix())) {
+                charged.observeRemaining(remaining);
+            } else if (name.equals("x-ms-ratelimit-remaining-tenant-" + kind.headerSuffix())) {
+                tenantBucket(principal, kind).observeRemaining(remaining);
+            }
+        }
+    }
+
+    /**
+     * @return a snapshot of every bucket that has been used so far, for monitoring.
+     */
+    public List<BucketLevel> getBucketLevels() {
+        List<BucketLevel> levels = new ArrayList<>();
+        buckets.forEach((key, bucket) -> levels.add(bucket.level(
+            key.scope() instanceof String subscriptionId ? "subscription:" + subscriptionId : "tenant", key.kind())));
+        return levels;
+    }
+
+    private TokenBucket bucket(Object principal, URI uri, Kind kind) {
+        String subscriptionId = ArmUrls.subscriptionId(uri);
+        if (subscriptionId == null) {
+            return tenantBucket(principal, kind);
+        }
+        return buckets.computeIfAbsent(new BucketKey(subscriptionId, kind), key -> new TokenBucket(limits.get(kind)));
+    }
+
+    private TokenBucket tenantBucket(Object principal, Kind kind) {
+        return buckets.computeIfAbsent(new BucketKey(new TenantScope(principal), kind), key -> new TokenBucket(limits.get(kind)));
+    }
+
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double refillPerSecond;
+        private double tokens;
+        private long lastRefillNanos;
+        private Long serverRemaining;
+
+        TokenBucket(Limits limits) {
+            this.capacity = limits.capacity();
+            this.refillPerSecond = limits.refillPerSecond();
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized Duration reserve() {
+            refill();
+            tokens -= 1;
+            if (tokens >= 0) {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) (-tokens / refillPerSecond * 1_000_000_000L));
+        }
+
+        synchronized boolean tryReserve() {
+            refill();
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized void observeRemaining(long remaining) {
+            refill();
+            serverRemaining = remaining;
+            if (remaining < tokens) {
+                tokens = remaining;
+            }
+        }
+
+        synchronized void drain() {
+            refill();
+            if (tokens > 0) {
+                tokens = 0;
+            }
+        }
+
+        synchronized BucketLevel level(String scope, Kind kind) {
+            refill();
+            return new BucketLevel(scope, kind, tokens, capacity, serverRemaining);
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * refillPerSecond);
+            lastRefillNanos = now;
+        }
+    }
+
+    /**
+     * Defaults follow ARM's regional token-bucket limits per subscription: bursts of 250 reads refilled at
+     * 25 per second, 200 writes and 200 deletes refilled at 10 per second.
+     */
+    public static class Builder {
+        private double readCapacity = 250;
+        private double readsPerSecond = 25;
+        private double writeCapacity = 200;
+        private double writesPerSecond = 10;
+        private double deleteCapacity = 200;
+        private double deletesPerSecond = 10;
+
+        public Builder reads(double capacity, double perSecond) {
+            validate(capacity, perSecond);
+            this.readCapacity = capacity;
+            this.readsPerSecond = perSecond;
+            return this;
+        }
+
+        public Builder writes(double capacity, double perSecond) {
+            validate(capacity, perSecond);
+            this.writeCapacity = capacity;
+            this.writesPerSecond = perSecond;
+            return this;
+        }
+
+        public Builder deletes(double capacity, double perSecond) {
+            validate(capacity, perSecond);
+            this.deleteCapacity = capacity;
+            this.deletesPerSecond = perSecond;
+            return this;
+        }
+
+        private static void validate(double capacity, double perSecond) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("capacity must be at least 1");
+            }
+            if (perSecond <= 0) {
+                throw new IllegalArgumentException("refill rate must be positive");
+            }
+        }
+
+        public ArmRateLimiter build() {
+            return new ArmRateLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.azure.simpleSDK.http.throttling;
+
+import com.azure.simpleSDK.http.ArmUrls;
+import com.azure.simpleSDK.http.exceptions.AzureCircuitOpenException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Circuit breaker per endpoint, where an endpoint is a host plus the resource provider addressed by the URL
+ * (for example {@code management.azure.com/microsoft.network}).
+ *
+ * <p>A closed circuit lets every request through and counts consecutive failures: 5xx responses, timeouts
+ * and connection errors. After the failure threshold the circuit opens and requests fail immediately with
+ * {@link AzureCircuitOpenException}, so callers don't sit through a full retry sequence against a degraded
+ * endpoint. Once the open duration has passed the circuit turns half-open and lets a limited number of
+ * probe requests through: a successful probe closes it, a failed one opens it again.
+ */
+public class CircuitBreaker {
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+    private final Listener listener;
+    private final ConcurrentMap<String, EndpointCircuit> circuits = new ConcurrentHashMap<>();
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * Notified after every state change, outside the breaker's locks.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onStateChange(String endpoint, State from, State to);
+    }
+
+    /**
+     * Admission for one request. Exactly one of the completion methods should be called when the request
+     * finishes; results of requests admitted before the last state change are ignored.
+     */
+    public final class Ticket {
+        private final EndpointCircuit circuit;
+        private final long generation;
+        private final boolean probe;
+        private boolean completed;
+
+        private Ticket(EndpointCircuit circuit, long generation, boolean probe) {
+            this.circuit = circuit;
+            this.generation = generation;
+            this.probe = probe;
+        }
+
+        public void onResponse(int statusCode) {
+            complete(statusCode >= 500 ? Verdict.FAILURE : Verdict.SUCCESS);
+        }
+
+        /**
+         * Timeouts and other I/O errors count as failures; anything else (interrupts, bugs) leaves the
+         * circuit as it is.
+         */
+        public void onError(Throwable error) {
+            complete(error instanceof IOException ? Verdict.FAILURE : Verdict.NONE);
+        }
+
+        private void complete(Verdict verdict) {
+            synchronized (this) {
+                if (completed) {
+                    return;
+                }
+                completed = true;
+            }
+            circuit.complete(this, verdict);
+        }
+    }
+
+    private enum Verdict { SUCCESS, FAILURE, NONE }
+
+    private CircuitBreaker(Builder builder) {
+        this.failureThreshold = builder.failureThreshold;
+        this.openDuration = builder.openDuration;
+        this.halfOpenProbes = builder.halfOpenProbes;
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Admits a request to {@code uri}'s endpoint.
+     *
+     * @throws AzureCircuitOpenException if the circuit is open, or half-open with all probe slots taken
+     */
+    public Ticket acquire(URI uri) throws AzureCircuitOpenException {
+        return circuits.computeIfAbsent(ArmUrls.endpoint(uri), EndpointCircuit::new).acquire();
+    }
+
+    /**
+     * @return the current state of {@code uri}'s endpoint; endpoints never used are closed.
+     */
+    public State getState(URI uri) {
+        EndpointCircuit circuit = circuits.get(ArmUrls.endpoint(uri));
+        return circuit == null ? State.CLOSED : circuit.currentState();
+    }
+
+    /**
+     * @return the state of every endpoint seen so far, sorted by endpoint.
+     */
+    public Map<String, State> getStates() {
+        Map<String, State> states = new TreeMap<>();
+        circuits.forEach((endpoint, circuit) -> states.put(endpoint, circuit.currentState()));
+        return states;
+    }
+
+    private void notifyListener(String endpoint, State from, State to) {
+        if (listener == null || from == to) {
+            return;
+        }
+        try {
+            listener.onStateChange(endpoint, from, to);
+        } catch (RuntimeException e) {
+            System.err.println("Circuit breaker listener failed for " + endpoint + ": " + e.getMessage());
+        }
+    }
+
+    private final class EndpointCircuit {
+        private final String endpoint;
+        private State state = State.CLOSED;
+        // Bumped on every transition so late results from an earlier state are ignored
+        private long generation;
+        private int consecutiveFailures;
+        private int probesInFlight;
+        private long openedAtNanos;
+
+        EndpointCircuit(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        Ticket acquire() throws AzureCircuitOpenException {
+            State from;
+            Ticket ticket;
+            synchronized (this) {
+                from = state;
+                if (state == State.OPEN) {
+                    long remainingNanos = openDuration.toNanos() - (System.nanoTime() - openedAtNanos);
+                    if (remainingNanos > 0) {
+                        throw new AzureCircuitOpenException("Circuit open for " + endpoint, endpoint, Duration.ofNanos(remainingNanos));
+                    }
+                    transition(State.HALF_OPEN);
+                }
+                if (state == State.HALF_OPEN) {
+                    if (probesInFlight >= halfOpenProbes) {
+                        throw new AzureCircuitOpenException("Circuit half-open for " + endpoint + ", probe in flight", endpoint, Duration.ZERO);
+                    }
+                    probesInFlight++;
+                    ticket = new Ticket(this, generation, true);
+                } else {
+                    ticket = new Ticket(this, generation, false);
+                }
+            }
+            notifyListener(endpoint, from, ticket.probe ? State.HALF_OPEN : from);
+            return ticket;
+        }
+
+        void complete(Ticket ticket, Verdict verdict) {
+            State from;
+            State to;
+            synchronized (this) {
+                from = state;
+                if (ticket.generation == generation) {
+                    if (ticket.probe) {
+                        probesInFlight--;
+                        if (verdict == Verdict.SUCCESS) {
+                            transition(State.CLOSED);
+                        } else if (verdict == Verdict.FAILURE) {
+                            transition(State.OPEN);
+                        }
+                    } else if (verdict == Verdict.SUCCESS) {
+                        consecutiveFailures = 0;
+                    } else if (verdict == Verdict.FAILURE && ++consecutiveFailures >= failureThreshold) {
+                        transition(State.OPEN);
+                    }
+                }
+                to = state;
+            }
+            notifyListener(endpoint, from, to);
+        }
+
+        synchronized State currentState() {
+            return state;
+        }
+
+        private void transition(State to) {
+            state = to;
+            generation++;
+            consecutiveFailures = 0;
+            probesInFlight = 0;
+            if (to == State.OPEN) {
+                openedAtNanos = System.nanoTime();
+            }
+        }
+    }
+
+    public static class Builder {
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenProbes = 1;
+        private Listener listener;
+
+        /**
+         * Consecutive failures that open a closed circuit.
+         */
+        public Builder failureThreshold(int failureThreshold) {
+            if (failureThreshold < 1) {
+                throw new IllegalArgumentException("failureThreshold must be at least 1");
+            }
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * How long an open circuit rejects requests before letting a probe through.
+         */
+        public Builder openDuration(Duration openDuration) {
+            if (openDuration.isNegative()) {
+                throw new IllegalArgumentException("openDuration must not be negative");
+            }
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Probe requests allowed in flight at once while half-open.
+         */
+        public Builder halfOpenProbes(int halfOpenProbes) {
+            if (halfOpenProbes < 1) {
+                throw new IllegalArgumentException("halfOpenProbes must be at least 1");
+            }
+            this.halfOpenProbes = halfOpenProbes;
+            return this;
+        }
+
+        public Builder listener(Listener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
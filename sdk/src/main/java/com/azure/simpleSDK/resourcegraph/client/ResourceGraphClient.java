@@ -0,0 +1,221 @@
+package com.azure.simpleSDK.resourcegraph.client;
+
+import com.azure.simpleSDK.http.AzureHttpClient;
+import com.azure.simpleSDK.http.AzureResponse;
+import com.azure.simpleSDK.http.exceptions.AzureException;
+import com.azure.simpleSDK.http.exceptions.UncheckedAzureException;
+import com.azure.simpleSDK.resourcegraph.models.QueryRequest;
+import com.azure.simpleSDK.resourcegraph.models.QueryRequestOptions;
+import com.azure.simpleSDK.resourcegraph.models.QueryResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Azure Resource Graph client, for inventories that would otherwise list every resource type in every
+ * subscription through the generated clients.
+ *
+ * <p>Queries go through an {@link AzureHttpClient}, so they share its credentials, retries, mappers and the
+ * limits of its runtime. Rows are streamed lazily: the next {@code $skipToken} page is requested only once the
+ * rows of the previous one have been consumed. Scopes with more than {@link #MAX_SUBSCRIPTIONS_PER_REQUEST}
+ * subscriptions are split into chunks whose first pages are requested in parallel.
+ */
+public class ResourceGraphClient {
+    private static final String API_VERSION = "2022-10-01";
+    private static final String AZURE_MANAGEMENT_BASE_URL = "https://management.azure.com";
+
+    /**
+     * Resource Graph accepts at most this many subscriptions in one request.
+     */
+    public static final int MAX_SUBSCRIPTIONS_PER_REQUEST = 1000;
+
+    private final AzureHttpClient client;
+    private final String resourcesUrl;
+
+    public ResourceGraphClient(AzureHttpClient client) {
+        this(client, AZURE_MANAGEMENT_BASE_URL);
+    }
+
+    /**
+     * @param endpoint Resource Manager endpoint of the cloud to query, e.g. {@code https://management.usgovcloudapi.net}
+     */
+    public ResourceGraphClient(AzureHttpClient client, String endpoint) {
+        this.client = client;
+        this.resourcesUrl = endpoint + "/providers/Microsoft.ResourceGraph/resources?api-version=" + API_VERSION;
+    }
+
+    /**
+     * Streams the rows of {@code query} as JSON objects.
+     */
+    public Stream<JsonNode> query(ResourceGraphQuery query) {
+        return query(query, JsonNode.class);
+    }
+
+    /**
+     * Streams the rows of {@code query} mapped onto {@code rowType}. Rows of the {@code Resources} table have
+     * the same shape as ARM resources, so the generated models can be used directly, e.g.
+     * {@code query(new ResourceGraphQuery.Builder("Resources | where type =~ 'microsoft.network/networksecuritygroups'").build(),
+     * NetworkSecurityGroup.class)}. Columns the row type doesn't declare are ignored.
+     *
+     * <p>Failures surface as {@link UncheckedAzureException} from the stream's terminal operation. Close the
+     * stream when abandoning it early so that no further pages are requested.
+     */
+    public <T> Stream<T> query(ResourceGraphQuery query, Class<T> rowType) {
+        List<Chunk> chunks = new ArrayList<>();
+        List<String> subscriptions = query.getSubscriptions();
+        if (subscriptions == null || subscriptions.isEmpty()) {
+            chunks.add(new Chunk(query, null));
+        } else {
+            for (int from = 0; from < subscriptions.size(); from += MAX_SUBSCRIPTIONS_PER_REQUEST) {
+                chunks.add(new Chunk(query, subscriptions.subList(from, Math.min(subscriptions.size(), from + MAX_SUBSCRIPTIONS_PER_REQUEST))));
+            }
+        }
+
+        ObjectReader reader = client.getRuntime().getReader(rowType, false);
+        Rows rows = new Rows(chunks);
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(rows::close)
+            .map(row -> toRow(reader, row, rowType));
+    }
+
+    private static <T> T toRow(ObjectReader reader, JsonNode row, Class<T> rowType) {
+        try {
+            return reader.readValue(row);
+        } catch (IOException e) {
+            throw new UncheckedAzureException(new AzureException("Failed to map Resource Graph row onto " + rowType.getName(), e));
+        }
+    }
+
+    /**
+     * Rows of all chunks in order. The first page of every chunk is requested up front so the chunks are
+     * queried in parallel; later pages are requested one at a time as rows are consumed.
+     */
+    private static final class Rows implements Iterator<JsonNode> {
+        private final List<Chunk> chunks;
+        private int current;
+        private Iterator<JsonNode> page = Collections.emptyIterator();
+        private boolean started;
+        private boolean closed;
+
+        Rows(List<Chunk> chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (!started) {
+                chunks.forEach(Chunk::start);
+                started = true;
+            }
+            while (!page.hasNext()) {
+                if (current >= chunks.size()) {
+                    return false;
+                }
+                List<JsonNode> rows = chunks.get(current).nextPage();
+                if (rows == null) {
+                    current++;
+                } else {
+                    page = rows.iterator();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public JsonNode next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+
+        /**
+         * Stops paging: no further pages are requested and the first pages still in flight are cancelled.
+         */
+        void close() {
+            closed = true;
+            page = Collections.emptyIterator();
+            chunks.forEach(Chunk::cancel);
+        }
+    }
+
+    private final class Chunk {
+        private final ResourceGraphQuery query;
+        private final List<String> subscriptions;
+        private CompletableFuture<AzureResponse<QueryResponse>> pending;
+        private String skipToken;
+        private boolean done;
+        private int pages;
+
+        Chunk(ResourceGraphQuery query, List<String> subscriptions) {
+            this.query = query;
+            this.subscriptions = subscriptions;
+        }
+
+        void start() {
+            pending = send(null);
+        }
+
+        void cancel() {
+            done = true;
+            if (pending != null) {
+                pending.cancel(true);
+                pending = null;
+            }
+        }
+
+        /**
+         * @return rows of the next page, or {@code null} once the chunk has no more pages.
+         */
+        List<JsonNode> nextPage() {
+            if (pending == null) {
+                if (done) {
+                    return null;
+                }
+                pending = send(skipToken);
+            }
+
+            QueryResponse page;
+            try {
+                page = pending.join().getBody();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof AzureException azureException) {
+                    throw new UncheckedAzureException("Failed to fetch page " + (pages + 1) + " of Resource Graph query", azureException);
+                }
+                throw e;
+            } finally {
+                pending = null;
+            }
+
+            pages++;
+            skipToken = page == null ? null : page.skipToken();
+            done = skipToken == null || skipToken.isBlank();
+            if (page != null && "true".equalsIgnoreCase(page.resultTruncated())) {
+                System.err.println("Warning: Resource Graph truncated the query results; project the id column so they can be paged");
+            }
+            return page == null || page.data() == null ? List.of() : page.data();
+        }
+
+        private CompletableFuture<AzureResponse<QueryResponse>> send(String skipToken) {
+            QueryRequest body = new QueryRequest(subscriptions, query.getManagementGroups(), query.getQuery(),
+                new QueryRequestOptions(query.getPageSize(), skipToken, "objectArray"));
+            return client.executeAsync(client.post(resourcesUrl).body(body), QueryResponse.class);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.azure.simpleSDK.resourcegraph.client;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A Kusto query against Azure Resource Graph and the scope it runs in. Without subscriptions or management
+ * groups the query covers every subscription the caller can read.
+ */
+public class ResourceGraphQuery {
+    /**
+     * Resource Graph returns at most this many rows per page.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final String query;
+    private final List<String> subscriptions;
+    private final List<String> managementGroups;
+    private final int pageSize;
+
+    private ResourceGraphQuery(Builder builder) {
+        this.query = builder.query;
+        this.subscriptions = builder.subscriptions;
+        this.managementGroups = builder.managementGroups;
+        this.pageSize = builder.pageSize;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return subscription IDs the query is scoped to, or {@code null} if it is not scoped to subscriptions.
+     */
+    public List<String> getSubscriptions() {
+        return subscriptions;
+    }
+
+    /**
+     * @return management group IDs the query is scoped to, or {@code null} if it is not scoped to management groups.
+     */
+    public List<String> getManagementGroups() {
+        return managementGroups;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public static class Builder {
+        private final String query;
+        private List<String> subscriptions;
+        private List<String> managementGroups;
+        private int pageSize = MAX_PAGE_SIZE;
+
+        /**
+         * @param query Kusto query, e.g. {@code Resources | where type =~ 'microsoft.network/networksecuritygroups'}
+         */
+        public Builder(String query) {
+            if (query == null || query.isBlank()) {
+                throw new IllegalArgumentException("query is required");
+            }
+            this.query = query;
+        }
+
+        /**
+         * Scopes the query to these subscriptions; more than
+         * {@link ResourceGraphClient#MAX_SUBSCRIPTIONS_PER_REQUEST} are queried in parallel chunks.
+         */
+        public Builder subscriptions(Collection<String> subscriptions) {
+            this.subscriptions = List.copyOf(subscriptions);
+            return this;
+        }
+
+        public Builder managementGroups(Collection<String> managementGroups) {
+            this.managementGroups = List.copyOf(managementGroups);
+            return this;
+        }
+
+        /**
+         * Rows requested per page ({@code $top}), up to {@link #MAX_PAGE_SIZE}.
+         */
+        public Builder pageSize(int pageSize) {
+            if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("pageSize must be between 1 and " + MAX_PAGE_SIZE);
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public ResourceGraphQuery build() {
+            return new ResourceGraphQuery(this);
+        }
+    }
+}
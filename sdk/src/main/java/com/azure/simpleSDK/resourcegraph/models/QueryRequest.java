@@ -0,0 +1,17 @@
+package com.azure.simpleSDK.resourcegraph.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Body of a Resource Graph {@code resources} query; scopes that are {@code null} are left out so the query
+ * runs against everything the caller can see.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record QueryRequest(
+        List<String> subscriptions,
+        List<String> managementGroups,
+        String query,
+        QueryRequestOptions options) {
+}
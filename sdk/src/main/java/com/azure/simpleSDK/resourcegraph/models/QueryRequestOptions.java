@@ -0,0 +1,14 @@
+package com.azure.simpleSDK.resourcegraph.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Paging and formatting options of a Resource Graph query.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record QueryRequestOptions(
+        @JsonProperty("$top") Integer top,
+        @JsonProperty("$skipToken") String skipToken,
+        String resultFormat) {
+}
@@ -0,0 +1,19 @@
+package com.azure.simpleSDK.resourcegraph.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * One page of Resource Graph query results. Rows are kept as JSON until they are mapped onto the caller's
+ * row type; {@code skipToken} is set while more pages follow.
+ */
+public record QueryResponse(
+        Long totalRecords,
+        Long count,
+        String resultTruncated,
+        @JsonProperty("$skipToken") String skipToken,
+        List<JsonNode> data,
+        List<JsonNode> facets) {
+}
@@ -0,0 +1,47 @@
+package com.azure.simpleSDK.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArmUrlsTest {
+
+    @Test
+    void testSubscriptionIdIsParsedFromPath() {
+        assertEquals("abc-123", ArmUrls.subscriptionId(URI.create(
+            "https://management.azure.com/subscriptions/ABC-123/resourceGroups/rg/providers/Microsoft.Compute/virtualMachines/vm")));
+        assertEquals("abc-123", ArmUrls.subscriptionId(URI.create("https://management.azure.com/subscriptions/abc-123")));
+        assertNull(ArmUrls.subscriptionId(URI.create("https://management.azure.com/providers/Microsoft.Resources/operations")));
+    }
+
+    @Test
+    void testResourceProviderIsParsedFromPath() {
+        assertEquals("microsoft.network", ArmUrls.resourceProvider(URI.create(
+            "https://management.azure.com/subscriptions/s/resourceGroups/rg/providers/Microsoft.Network/networkInterfaces/nic?api-version=2024-05-01")));
+        assertEquals("microsoft.insights", ArmUrls.resourceProvider(URI.create(
+            "https://management.azure.com/subscriptions/s/resourceGroups/rg/providers/Microsoft.Compute/virtualMachines/vm/providers/Microsoft.Insights/diagnosticSettings")));
+        assertEquals("microsoft.resources", ArmUrls.resourceProvider(URI.create(
+            "https://management.azure.com/subscriptions/s/resourcegroups?api-version=2021-04-01")));
+        assertEquals("graph.microsoft.com", ArmUrls.resourceProvider(URI.create("https://graph.microsoft.com/v1.0/users")));
+    }
+
+    @Test
+    void testEndpointCombinesHostAndProvider() {
+        assertEquals("management.azure.com/microsoft.compute", ArmUrls.endpoint(URI.create(
+            "https://Management.Azure.com/subscriptions/s/providers/Microsoft.Compute/virtualMachines")));
+    }
+
+    @Test
+    void testOperationReplacesNamesWithPlaceholders() {
+        assertEquals("/subscriptions/{subscriptionId}/resourcegroups/{resourceGroupName}/providers/microsoft.network/networksecuritygroups/{name}/securityrules",
+            ArmUrls.operation(URI.create(
+                "https://management.azure.com/subscriptions/s/resourceGroups/RG1/providers/Microsoft.Network/networkSecurityGroups/nsg/securityRules?api-version=2024-05-01")));
+        assertEquals("/subscriptions/{subscriptionId}/resourcegroups/{resourceGroupName}/providers/microsoft.compute/virtualmachines/{name}/providers/microsoft.insights/diagnosticsettings/{name}",
+            ArmUrls.operation(URI.create(
+                "https://management.azure.com/subscriptions/s/resourceGroups/rg/providers/Microsoft.Compute/virtualMachines/vm/providers/Microsoft.Insights/diagnosticSettings/ds")));
+        assertEquals("/v1.0/users/{id}", ArmUrls.operation(URI.create("https://graph.microsoft.com/v1.0/users/00000000-0000-0000-0000-0000000000ab")));
+        assertEquals("/", ArmUrls.operation(URI.create("https://management.azure.com")));
+    }
+}
@@ -0,0 +1,149 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.auth.AzureCredentials;
+import com.azure.simpleSDK.http.exceptions.AzureResourceNotFoundException;
+import com.azure.simpleSDK.http.recording.HttpInteractionRecorder;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AzureHttpClientAsyncTest {
+
+    @Mock
+    private AzureCredentials credentials;
+
+    @Mock
+    private HttpClient httpClient;
+
+    @Mock
+    private HttpResponse<String> firstResponse;
+
+    @Mock
+    private HttpResponse<String> secondResponse;
+
+    @TempDir
+    Path recordingsDir;
+
+    private AzureHttpClient azureHttpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RetryPolicy fastRetries = new RetryPolicy.Builder()
+            .maxAttempts(3)
+            .baseDelay(Duration.ofMillis(2))
+            .maxDelay(Duration.ofMillis(10))
+            .build();
+        azureHttpClient = new AzureHttpClient(credentials, fastRetries);
+
+        // Use reflection to replace the HttpClient in AzureHttpClient for testing
+        var field = AzureHttpClient.class.getDeclaredField("httpClient");
+        field.setAccessible(true);
+        field.set(azureHttpClient, httpClient);
+    }
+
+    @Test
+    void testAsyncCombinesPagesWithoutBlockingSend() throws Exception {
+        when(credentials.getAccessToken()).thenReturn("test-token");
+        when(firstResponse.statusCode()).thenReturn(200);
+        when(firstResponse.body()).thenReturn("""
+            {"value": [{"id": "item1", "name": "Page 1 Item 1", "value": "v1"}],
+             "nextLink": "https://management.azure.com/test?$skiptoken=page2"}
+            """);
+        when(firstResponse.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(secondResponse.statusCode()).thenReturn(200);
+        when(secondResponse.body()).thenReturn("""
+            {"value": [{"id": "item2", "name": "Page 2 Item 1", "value": "v2"}], "nextLink": null}
+            """);
+        when(secondResponse.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+            .thenReturn(CompletableFuture.completedFuture(firstResponse))
+            .thenReturn(CompletableFuture.completedFuture(secondResponse));
+
+        AzureResponse<TestListResult> response =
+            azureHttpClient.executeAsync(azureHttpClient.get("/test"), TestListResult.class).join();
+
+        List<TestItem> items = response.getBody().value();
+        assertEquals(2, items.size());
+        assertEquals("Page 1 Item 1", items.get(0).name());
+        assertEquals("Page 2 Item 1", items.get(1).name());
+        verify(httpClient, times(2)).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        verify(httpClient, never()).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void testAsyncRetriesThrottledResponse() throws Exception {
+        when(credentials.getAccessToken()).thenReturn("test-token");
+        when(firstResponse.statusCode()).thenReturn(429);
+        when(firstResponse.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(secondResponse.statusCode()).thenReturn(200);
+        when(secondResponse.body()).thenReturn("\"done\"");
+        when(secondResponse.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+            .thenReturn(CompletableFuture.completedFuture(firstResponse))
+            .thenReturn(CompletableFuture.completedFuture(secondResponse));
+
+        AzureResponse<String> response =
+            azureHttpClient.executeAsync(azureHttpClient.get("/test"), String.class).join();
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("done", response.getBody());
+        verify(httpClient, times(2)).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void testAsyncFailsWithServiceException() throws Exception {
+        when(credentials.getAccessToken()).thenReturn("test-token");
+        when(firstResponse.statusCode()).thenReturn(404);
+        when(firstResponse.body()).thenReturn("{\"error\": {\"code\": \"NotFound\", \"message\": \"missing\"}}");
+        when(firstResponse.headers()).thenReturn(HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+            .thenReturn(CompletableFuture.completedFuture(firstResponse));
+
+        CompletableFuture<AzureResponse<String>> future =
+            azureHttpClient.executeAsync(azureHttpClient.get("/test"), String.class);
+
+        CompletionException thrown = assertThrows(CompletionException.class, future::join);
+        AzureResourceNotFoundException cause = assertInstanceOf(AzureResourceNotFoundException.class, thrown.getCause());
+        assertEquals("NotFound", cause.getErrorCode());
+    }
+
+    @Test
+    void testAsyncPlaybackUsesRecordings() throws Exception {
+        Files.writeString(recordingsDir.resolve("00001_test.json"), """
+            {
+              "request": {"method": "GET", "url": "https://management.azure.com/test", "headers": {}},
+              "response": {"statusCode": 200, "headers": {}, "body": "\\"from recording\\""}
+            }
+            """);
+        HttpInteractionRecorder recorder =
+            new HttpInteractionRecorder(HttpInteractionRecorder.Mode.PLAYBACK, recordingsDir);
+        AzureHttpClient playbackClient = new AzureHttpClient(null, recorder);
+
+        AzureResponse<String> response =
+            playbackClient.executeAsync(playbackClient.get("/test"), String.class).join();
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("from recording", response.getBody());
+    }
+}
@@ -0,0 +1,113 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.cache.ResponseCache;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AzureHttpClientCacheTest {
+
+    private TestHttpServer server;
+    private String baseUrl;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private volatile String currentEtag = "W/\"1\"";
+
+    @BeforeEach
+    void setUp() {
+        server = new TestHttpServer();
+        // Entity tag in the response header
+        server.handle("/header", exchange -> {
+            if (currentEtag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                TestHttpServer.respond(exchange, 304);
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", currentEtag);
+            respond(exchange, "{\"id\":\"1\",\"name\":\"nic\",\"value\":\"" + currentEtag.replace("\"", "") + "\"}");
+        });
+        // Entity tag only as the resource's etag property, like most ARM network resources
+        server.handle("/body", exchange -> {
+            if ("W/\"nsg\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                TestHttpServer.respond(exchange, 304);
+                return;
+            }
+            respond(exchange, "{\"name\":\"nsg\",\"etag\":\"W/\\\"nsg\\\"\",\"properties\":{}}");
+        });
+        server.start();
+        baseUrl = server.baseUrl();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    public record EtaggedResource(String name, String etag, Object properties) {
+    }
+
+    @Test
+    void testNotModifiedResponseIsServedFromCache() throws Exception {
+        ResponseCache cache = new ResponseCache.Builder().build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().responseCache(cache).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+
+            AzureResponse<TestItem> first = client.execute(client.get(baseUrl + "/header"), TestItem.class);
+            AzureResponse<TestItem> second = client.execute(client.get(baseUrl + "/header"), TestItem.class);
+
+            assertSame(first.getBody(), second.getBody());
+            assertEquals(1, fullResponses.get());
+            ResponseCache.Stats stats = cache.getStats();
+            assertEquals(1, stats.misses());
+            assertEquals(1, stats.hits());
+            assertEquals(1, stats.notModified());
+            assertTrue(stats.bytesSaved() > 0);
+
+            currentEtag = "W/\"2\"";
+            AzureResponse<TestItem> changed = client.execute(client.get(baseUrl + "/header"), TestItem.class);
+
+            assertEquals("W/2", changed.getBody().value());
+            assertEquals(2, fullResponses.get());
+        }
+    }
+
+    @Test
+    void testExecuteAsyncRevalidatesCachedResponse() {
+        ResponseCache cache = new ResponseCache.Builder().build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().responseCache(cache).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+
+            AzureResponse<TestItem> first = client.executeAsync(client.get(baseUrl + "/header"), TestItem.class).join();
+            AzureResponse<TestItem> second = client.executeAsync(client.get(baseUrl + "/header"), TestItem.class).join();
+
+            assertSame(first.getBody(), second.getBody());
+            assertEquals(1, fullResponses.get());
+            assertEquals(1, cache.getStats().notModified());
+        }
+    }
+
+    @Test
+    void testEtagIsReadFromBodyWhenHeaderIsMissing() throws Exception {
+        ResponseCache cache = new ResponseCache.Builder().build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().responseCache(cache).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+
+            client.execute(client.get(baseUrl + "/body"), EtaggedResource.class);
+            AzureResponse<EtaggedResource> cached = client.execute(client.get(baseUrl + "/body"), EtaggedResource.class);
+
+            assertEquals("nsg", cached.getBody().name());
+            assertEquals(1, fullResponses.get());
+            assertEquals(1, cache.getStats().notModified());
+        }
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        fullResponses.incrementAndGet();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        TestHttpServer.respond(exchange, 200, json);
+    }
+}
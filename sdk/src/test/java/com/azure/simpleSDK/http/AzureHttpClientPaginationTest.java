@@ -9,11 +9,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +41,12 @@ class AzureHttpClientPaginationTest {
     
     @Mock
     private HttpResponse<String> thirdPageResponse;
+
+    @Mock
+    private HttpResponse<InputStream> streamedResponse;
+
+    @Mock
+    private HttpResponse<InputStream> secondStreamedResponse;
     
     private AzureHttpClient azureHttpClient;
     private ObjectMapper objectMapper;
@@ -298,6 +308,190 @@ class AzureHttpClientPaginationTest {
         verify(httpClient, times(50)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
     }
 
+    @Test
+    void testStreamFetchesPagesLazily() throws Exception {
+        // Arrange - First page links to a second page that should never be requested
+        String firstPageJson = """
+            {
+                "value": [
+                    {"id": "item1", "name": "Page 1 Item 1", "value": "value1"},
+                    {"id": "item2", "name": "Page 1 Item 2", "value": "value2"}
+                ],
+                "nextLink": "https://management.azure.com/test?$skiptoken=page2"
+            }
+            """;
+
+        when(streamedResponse.statusCode()).thenReturn(200);
+        when(streamedResponse.body()).thenReturn(jsonStream(firstPageJson));
+        when(streamedResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+            .thenReturn(streamedResponse);
+
+        // Act
+        AzureRequest request = azureHttpClient.get("/test");
+        List<TestItem> firstTwo;
+        try (Stream<TestItem> items = azureHttpClient.stream(request, TestListResult.class)) {
+            firstTwo = items.limit(2).toList();
+        }
+
+        // Assert - Only the first page was needed to satisfy the consumer
+        assertEquals(2, firstTwo.size());
+        assertEquals("Page 1 Item 2", firstTwo.get(1).name());
+        verify(httpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void testStreamFollowsNextLinks() throws Exception {
+        // Arrange
+        String firstPageJson = """
+            {
+                "value": [{"id": "item1", "name": "Page 1 Item 1", "value": "value1"}],
+                "nextLink": "https://management.azure.com/test?$skiptoken=page2"
+            }
+            """;
+        String secondPageJson = """
+            {
+                "value": [{"id": "item2", "name": "Page 2 Item 1", "value": "value2"}],
+                "nextLink": null
+            }
+            """;
+
+        when(streamedResponse.statusCode()).thenReturn(200);
+        when(streamedResponse.body()).thenReturn(jsonStream(firstPageJson));
+        when(streamedResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(secondStreamedResponse.statusCode()).thenReturn(200);
+        when(secondStreamedResponse.body()).thenReturn(jsonStream(secondPageJson));
+        when(secondStreamedResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+            .thenReturn(streamedResponse)
+            .thenReturn(secondStreamedResponse);
+
+        // Act
+        AzureRequest request = azureHttpClient.get("/test");
+        List<TestItem> items = azureHttpClient.<TestListResult, TestItem>stream(request, TestListResult.class).toList();
+
+        // Assert
+        assertEquals(2, items.size());
+        assertEquals("Page 2 Item 1", items.get(1).name());
+        verify(httpClient, times(2)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void testStreamHonorsConfiguredPageLimit() throws Exception {
+        // Arrange - Every page links to another one
+        String pageJson = """
+            {
+                "value": [{"id": "item1", "name": "Test Item", "value": "value1"}],
+                "nextLink": "https://management.azure.com/test?$skiptoken=next"
+            }
+            """;
+
+        when(streamedResponse.statusCode()).thenReturn(200);
+        when(streamedResponse.body()).thenAnswer(invocation -> jsonStream(pageJson));
+        when(streamedResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+            .thenReturn(streamedResponse);
+
+        // Act
+        AzureRequest request = azureHttpClient.get("/test");
+        PagingOptions options = new PagingOptions.Builder().maxPages(75).build();
+        long count = azureHttpClient.stream(request, TestListResult.class, options).count();
+
+        // Assert - The configured limit replaces the inline 50 page cap
+        assertEquals(75, count);
+        verify(httpClient, times(75)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void testStreamWithPrefetchReturnsPagesInOrder() throws Exception {
+        // Arrange
+        String firstPageJson = """
+            {
+                "value": [{"id": "item1", "name": "Page 1 Item 1", "value": "value1"}],
+                "nextLink": "https://management.azure.com/test?$skiptoken=page2"
+            }
+            """;
+        String secondPageJson = """
+            {
+                "value": [{"id": "item2", "name": "Page 2 Item 1", "value": "value2"}],
+                "nextLink": "https://management.azure.com/test?$skiptoken=page3"
+            }
+            """;
+        String thirdPageJson = """
+            {
+                "value": [{"id": "item3", "name": "Page 3 Item 1", "value": "value3"}],
+                "nextLink": null
+            }
+            """;
+
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpResponse.body()).thenReturn(firstPageJson);
+        when(httpResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(secondPageResponse.statusCode()).thenReturn(200);
+        when(secondPageResponse.body()).thenReturn(secondPageJson);
+        when(secondPageResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(thirdPageResponse.statusCode()).thenReturn(200);
+        when(thirdPageResponse.body()).thenReturn(thirdPageJson);
+        when(thirdPageResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+            .thenReturn(httpResponse)
+            .thenReturn(secondPageResponse)
+            .thenReturn(thirdPageResponse);
+
+        // Act
+        AzureRequest request = azureHttpClient.get("/test");
+        PagingOptions options = new PagingOptions.Builder().prefetchDepth(2).build();
+        List<TestItem> items;
+        try (Stream<TestItem> stream = azureHttpClient.stream(request, TestListResult.class, options)) {
+            items = stream.toList();
+        }
+
+        // Assert - Read-ahead must not reorder or drop pages
+        assertEquals(3, items.size());
+        assertEquals("Page 1 Item 1", items.get(0).name());
+        assertEquals("Page 2 Item 1", items.get(1).name());
+        assertEquals("Page 3 Item 1", items.get(2).name());
+        verify(httpClient, times(3)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void testStreamReadsItemsWhenNextLinkPrecedesValue() throws Exception {
+        // Arrange - nextLink appears before the value array and extra fields must be skipped
+        String firstPageJson = """
+            {
+                "nextLink": "https://management.azure.com/test?$skiptoken=page2",
+                "count": {"total": 2},
+                "value": [{"id": "item1", "name": "Page 1 Item 1", "value": "value1"}]
+            }
+            """;
+        String secondPageJson = """
+            {"value": [{"id": "item2", "name": "Page 2 Item 1", "value": "value2"}]}
+            """;
+
+        when(streamedResponse.statusCode()).thenReturn(200);
+        when(streamedResponse.body()).thenReturn(jsonStream(firstPageJson));
+        when(streamedResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(secondStreamedResponse.statusCode()).thenReturn(200);
+        when(secondStreamedResponse.body()).thenReturn(jsonStream(secondPageJson));
+        when(secondStreamedResponse.headers()).thenReturn(java.net.http.HttpHeaders.of(Map.of(), (a, b) -> true));
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+            .thenReturn(streamedResponse)
+            .thenReturn(secondStreamedResponse);
+
+        // Act
+        AzureRequest request = azureHttpClient.get("/test");
+        List<TestItem> items = azureHttpClient.<TestListResult, TestItem>stream(request, TestListResult.class).toList();
+
+        // Assert
+        assertEquals(2, items.size());
+        assertEquals("item1", items.get(0).id());
+        assertEquals("item2", items.get(1).id());
+    }
+
+    private static InputStream jsonStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Test class without value() and nextLink() methods to verify non-paginated type detection
      */
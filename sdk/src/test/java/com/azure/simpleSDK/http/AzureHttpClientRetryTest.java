@@ -0,0 +1,67 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureServiceException;
+import com.azure.simpleSDK.http.retry.RetryBudget;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AzureHttpClientRetryTest {
+
+    private static final RetryPolicy FIVE_ATTEMPTS = new RetryPolicy.Builder()
+        .maxAttempts(5)
+        .baseDelay(Duration.ofMillis(2))
+        .maxDelay(Duration.ofMillis(10))
+        .build();
+
+    private TestHttpServer server;
+    private String url;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        server = new TestHttpServer().handle("/", exchange -> {
+            requests.incrementAndGet();
+            TestHttpServer.respond(exchange, 503);
+        }).start();
+        url = server.baseUrl() + "/subscriptions/s/resourcegroups";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testPerRequestRetryPolicyOverridesClientPolicy() throws Exception {
+        AzureHttpClient client = new AzureHttpClient(null, FIVE_ATTEMPTS);
+        RetryPolicy noRetries = new RetryPolicy.Builder().maxAttempts(1).build();
+
+        AzureServiceException failure = assertThrows(AzureServiceException.class,
+            () -> client.execute(client.get(url), TestItem.class, noRetries));
+
+        assertEquals(503, failure.getStatusCode());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void testRetryBudgetCapsRetriesAcrossRequests() throws Exception {
+        RetryBudget budget = new RetryBudget.Builder().maxTokens(3).build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().retryBudget(budget).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime, FIVE_ATTEMPTS, false, null);
+
+            for (int i = 0; i < 4; i++) {
+                assertThrows(AzureServiceException.class, () -> client.execute(client.get(url), TestItem.class));
+            }
+
+            assertEquals(4 + 3, requests.get());
+            assertEquals(3, budget.getStats().retries());
+        }
+    }
+}
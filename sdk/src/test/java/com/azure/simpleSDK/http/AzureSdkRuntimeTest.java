@@ -0,0 +1,90 @@
+package com.azure.simpleSDK.http;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AzureSdkRuntimeTest {
+
+    @Test
+    void testDefaultRuntimeIsShared() {
+        assertSame(AzureSdkRuntime.getDefault(), AzureSdkRuntime.getDefault());
+        assertSame(AzureSdkRuntime.getDefault().getHttpClient(), AzureSdkRuntime.getDefault().getHttpClient());
+    }
+
+    @Test
+    void testMappersKeepStrictness() {
+        AzureSdkRuntime runtime = AzureSdkRuntime.getDefault();
+
+        assertTrue(runtime.getObjectMapper(true).isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        assertFalse(runtime.getObjectMapper(false).isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        assertSame(runtime.getObjectMapper(true), runtime.getObjectMapper(true));
+    }
+
+    @Test
+    void testReadersAreCachedPerTypeAndStrictness() throws Exception {
+        AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().build();
+        String json = "{\"id\":\"1\",\"name\":\"one\",\"value\":\"v\",\"extra\":true}";
+
+        ObjectReader lenient = runtime.getReader(TestItem.class, false);
+        ObjectReader strict = runtime.getReader(TestItem.class, true);
+
+        assertSame(lenient, runtime.getReader(TestItem.class, false));
+        assertNotSame(lenient, strict);
+        assertEquals("one", ((TestItem) lenient.readValue(json)).name());
+        assertThrows(UnrecognizedPropertyException.class, () -> strict.readValue(json));
+        runtime.close();
+    }
+
+    @Test
+    void testTransportOptionsApplyToHttpClientAndRequests() {
+        TransportOptions transport = new TransportOptions.Builder()
+            .httpVersion(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .requestTimeout(Duration.ofSeconds(7))
+            .build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().transportOptions(transport).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+
+            assertEquals(HttpClient.Version.HTTP_1_1, runtime.getHttpClient().version());
+            assertEquals(Duration.ofSeconds(5), runtime.getHttpClient().connectTimeout().orElseThrow());
+            assertEquals(Duration.ofSeconds(7), client.get("/subscriptions").getTimeout());
+        }
+    }
+
+    @Test
+    void testProcessWideSettingsCannotChangeAfterFirstClient() {
+        new AzureSdkRuntime.Builder().build().close();
+        TransportOptions keepAlive = new TransportOptions.Builder().keepAliveTimeout(Duration.ofSeconds(17)).build();
+
+        assertThrows(IllegalStateException.class, () -> new AzureSdkRuntime.Builder().transportOptions(keepAlive).build());
+        assertNull(System.getProperty("jdk.httpclient.keepalive.timeout"));
+    }
+
+    @Test
+    void testCloseOnlyShutsDownOwnedExecutor() {
+        AzureSdkRuntime owning = new AzureSdkRuntime.Builder().build();
+        owning.close();
+        assertTrue(owning.getExecutor().isShutdown());
+
+        ExecutorService external = Executors.newSingleThreadExecutor();
+        try {
+            AzureSdkRuntime borrowing = new AzureSdkRuntime.Builder()
+                .transportOptions(new TransportOptions.Builder().executor(external).build())
+                .build();
+            borrowing.close();
+            assertSame(external, borrowing.getExecutor());
+            assertFalse(external.isShutdown());
+        } finally {
+            external.shutdownNow();
+        }
+    }
+}
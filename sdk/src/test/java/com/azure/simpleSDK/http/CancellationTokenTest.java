@@ -0,0 +1,114 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureCancellationException;
+import com.azure.simpleSDK.http.exceptions.AzureDeadlineExceededException;
+import com.azure.simpleSDK.http.exceptions.AzureServiceException;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CancellationTokenTest {
+
+    private TestHttpServer server;
+    private String baseUrl;
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        server = new TestHttpServer();
+        baseUrl = server.baseUrl();
+        server.handle("/slow", exchange -> {
+            requests.incrementAndGet();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            TestHttpServer.respond(exchange, 200, "{\"id\":\"1\"}");
+        });
+        server.handle("/busy", exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("Retry-After", "5");
+            TestHttpServer.respond(exchange, 503);
+        });
+        server.handle("/list", exchange -> {
+            requests.incrementAndGet();
+            TestHttpServer.respond(exchange, 200, "{\"value\":[{\"id\":\"1\"}],\"nextLink\":\"" + baseUrl + "/slow\"}");
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.close();
+    }
+
+    @Test
+    void testDeadlineShrinksAttemptTimeout() {
+        AzureHttpClient client = new AzureHttpClient(null);
+        CancellationToken deadline = CancellationToken.withTimeout(Duration.ofMillis(200));
+        long start = System.nanoTime();
+
+        assertThrows(AzureDeadlineExceededException.class,
+            () -> client.execute(client.get(baseUrl + "/slow").cancellation(deadline), TestItem.class));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        assertTrue(deadline.isExpired());
+    }
+
+    @Test
+    void testRetryThatCannotFinishInTimeIsSkipped() {
+        AzureHttpClient client = new AzureHttpClient(null, new RetryPolicy.Builder().maxAttempts(5).build());
+        CancellationToken deadline = CancellationToken.withTimeout(Duration.ofSeconds(2));
+
+        AzureDeadlineExceededException failure = assertThrows(AzureDeadlineExceededException.class,
+            () -> client.execute(client.get(baseUrl + "/busy").cancellation(deadline), TestItem.class));
+
+        assertInstanceOf(AzureServiceException.class, failure.getCause());
+        assertEquals(1, requests.get());
+        assertFalse(deadline.isExpired());
+    }
+
+    @Test
+    void testCancelFromAnotherThreadAbortsInFlightSend() throws Exception {
+        AzureHttpClient client = new AzureHttpClient(null);
+        CancellationToken cancellation = CancellationToken.create();
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        }).schedule(cancellation::cancel, 100, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+
+        AzureCancellationException failure = assertThrows(AzureCancellationException.class,
+            () -> client.execute(client.get(baseUrl + "/slow").cancellation(cancellation), TestItem.class));
+
+        assertFalse(failure instanceof AzureDeadlineExceededException);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void testDeadlineAbortsPaginationInsteadOfTruncating() {
+        AzureHttpClient client = new AzureHttpClient(null);
+
+        assertThrows(AzureDeadlineExceededException.class, () -> client.execute(
+            client.get(baseUrl + "/list").cancellation(CancellationToken.withTimeout(Duration.ofMillis(300))), TestListResult.class));
+
+        CompletionException async = assertThrows(CompletionException.class, () -> client.executeAsync(
+            client.get(baseUrl + "/list").cancellation(CancellationToken.withTimeout(Duration.ofMillis(300))), TestListResult.class).join());
+        assertInstanceOf(AzureDeadlineExceededException.class, async.getCause());
+    }
+}
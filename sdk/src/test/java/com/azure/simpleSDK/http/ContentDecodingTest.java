@@ -0,0 +1,111 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureNetworkException;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentDecodingTest {
+
+    private TestHttpServer server;
+    private String baseUrl;
+    private final Map<String, String> acceptEncodings = new ConcurrentHashMap<>();
+    private final AtomicInteger corruptRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        server = new TestHttpServer();
+        baseUrl = server.baseUrl();
+        server.handle("/gzip/page1", exchange -> {
+            String next = baseUrl + "/deflate/page2";
+            respond(exchange, "gzip", "{\"value\":[{\"id\":\"1\",\"name\":\"one\",\"value\":\"a\"}],\"nextLink\":\"" + next + "\"}");
+        });
+        server.handle("/deflate/page2", exchange ->
+            respond(exchange, "deflate", "{\"value\":[{\"id\":\"2\",\"name\":\"two\",\"value\":\"b\"}],\"nextLink\":null}"));
+        server.handle("/corrupt", exchange -> {
+            corruptRequests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            TestHttpServer.respond(exchange, 200, "not gzip".getBytes(StandardCharsets.US_ASCII));
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testExecuteDecodesCompressedPages() throws Exception {
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().responseCompression(true).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+
+            AzureResponse<TestListResult> response = client.execute(client.get(baseUrl + "/gzip/page1"), TestListResult.class);
+
+            assertEquals(List.of("one", "two"), response.getBody().value().stream().map(TestItem::name).collect(Collectors.toList()));
+            assertFalse(response.getHeaders().keySet().stream().anyMatch(name -> name.equalsIgnoreCase("Content-Encoding")));
+            assertEquals(ContentDecoding.ACCEPT_ENCODING, acceptEncodings.get("/gzip/page1"));
+            assertEquals(ContentDecoding.ACCEPT_ENCODING, acceptEncodings.get("/deflate/page2"));
+        }
+    }
+
+    @Test
+    void testStreamDecodesCompressedPages() {
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().responseCompression(true).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+
+            List<String> ids;
+            try (var items = client.<TestListResult, TestItem>stream(client.get(baseUrl + "/gzip/page1"), TestListResult.class)) {
+                ids = items.map(TestItem::id).collect(Collectors.toList());
+            }
+
+            assertEquals(List.of("1", "2"), ids);
+        }
+    }
+
+    @Test
+    void testCorruptBodyIsRetriedNetworkErrorOnAsyncPaths() {
+        RetryPolicy twoAttempts = new RetryPolicy.Builder().maxAttempts(2).baseDelay(Duration.ofMillis(1)).build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().responseCompression(true).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime, twoAttempts, false, null);
+
+            assertThrows(AzureNetworkException.class, () ->
+                client.execute(client.get(baseUrl + "/corrupt").cancellation(CancellationToken.create()), TestItem.class));
+            assertEquals(2, corruptRequests.get());
+
+            CompletionException failure = assertThrows(CompletionException.class, () ->
+                client.executeAsync(client.get(baseUrl + "/corrupt"), TestItem.class).join());
+            assertInstanceOf(AzureNetworkException.class, failure.getCause());
+            assertEquals(4, corruptRequests.get());
+        }
+    }
+
+    private void respond(HttpExchange exchange, String encoding, String json) throws IOException {
+        acceptEncodings.put(exchange.getRequestURI().getPath(), String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding")));
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = "gzip".equals(encoding) ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.getResponseHeaders().add("Content-Encoding", encoding);
+        TestHttpServer.respond(exchange, 200, buffer.toByteArray());
+    }
+}
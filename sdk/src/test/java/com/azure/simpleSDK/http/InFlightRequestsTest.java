@@ -0,0 +1,157 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureResourceNotFoundException;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InFlightRequestsTest {
+
+    private TestHttpServer server;
+    private String baseUrl;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        server = new TestHttpServer().handle("/roleDefinitions/reader", exchange -> {
+            requests.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            TestHttpServer.respond(exchange, 200, "{\"id\":\"reader\",\"name\":\"Reader\",\"value\":\"r\"}");
+        }).start();
+        baseUrl = server.baseUrl();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.close();
+    }
+
+    @Test
+    void testCanonicalUrlIgnoresQueryOrderAndHostCase() {
+        assertEquals(
+            InFlightRequests.canonicalUrl(URI.create("https://Management.Azure.com/subscriptions/s?b=2&api-version=2022-01-01")),
+            InFlightRequests.canonicalUrl(URI.create("https://management.azure.com/subscriptions/s?api-version=2022-01-01&b=2")));
+        assertNotEquals(
+            InFlightRequests.canonicalUrl(URI.create("https://management.azure.com/subscriptions/s?api-version=2022-01-01")),
+            InFlightRequests.canonicalUrl(URI.create("https://management.azure.com/subscriptions/s?api-version=2023-01-01")));
+    }
+
+    @Test
+    void testKeySeparatesHeadersAndRetryPolicy() {
+        URI uri = URI.create("https://management.azure.com/x");
+        InFlightRequests.Key plain = InFlightRequests.key(null, TestItem.class, 1, RetryPolicy.DEFAULT,
+            Map.of("Accept", "application/json", "x-ms-client-request-id", "a"), uri);
+
+        assertEquals(plain, InFlightRequests.key(null, TestItem.class, 1, RetryPolicy.DEFAULT,
+            Map.of("accept", "application/json", "x-ms-client-request-id", "b", "Authorization", "Bearer refreshed"), uri));
+        assertNotEquals(plain, InFlightRequests.key(null, TestItem.class, 1, RetryPolicy.DEFAULT,
+            Map.of("Accept", "application/json", "x-ms-consistency-level", "eventual"), uri));
+        assertNotEquals(plain, InFlightRequests.key(null, TestItem.class, 1, new RetryPolicy.Builder().maxAttempts(1).build(),
+            Map.of("Accept", "application/json"), uri));
+    }
+
+    @Test
+    void testConcurrentIdenticalGetsShareOneCall() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().requestCoalescing(true).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+
+            List<Future<AzureResponse<TestItem>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() ->
+                    client.execute(client.get(baseUrl + "/roleDefinitions/reader").version("2022-04-01"), TestItem.class)));
+            }
+            while (runtime.getCoalescedRequestCount() < 7) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            TestItem first = results.get(0).get().getBody();
+            for (Future<AzureResponse<TestItem>> result : results) {
+                assertSame(first, result.get().getBody());
+            }
+            assertEquals(1, requests.get());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExecuteAsyncSharesCallWithBlockingCaller() throws Exception {
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().requestCoalescing(true).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+
+            CompletableFuture<AzureResponse<TestItem>> leader =
+                client.executeAsync(client.get(baseUrl + "/roleDefinitions/reader"), TestItem.class);
+            Future<AzureResponse<TestItem>> follower = callers.submit(() ->
+                client.execute(client.get(baseUrl + "/roleDefinitions/reader"), TestItem.class));
+            CompletableFuture<AzureResponse<TestItem>> asyncFollower =
+                client.executeAsync(client.get(baseUrl + "/roleDefinitions/reader"), TestItem.class);
+            while (runtime.getCoalescedRequestCount() < 2) {
+                Thread.sleep(10);
+            }
+            // A follower giving up must not cancel the call the others share
+            asyncFollower.cancel(true);
+            release.countDown();
+
+            assertSame(leader.get().getBody(), follower.get().getBody());
+            assertEquals(1, requests.get());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailureIsSharedWithWaitingCallers() throws Exception {
+        InFlightRequests inFlight = new InFlightRequests();
+        InFlightRequests.Key key = InFlightRequests.key(null, TestItem.class, 1, RetryPolicy.DEFAULT, Map.of(),
+            URI.create("https://management.azure.com/x"));
+        AzureResourceNotFoundException notFound = new AzureResourceNotFoundException("gone", Map.of(), null, null);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<AzureResponse<TestItem>> follower = callers.submit(() -> {
+                leaderStarted.await();
+                return inFlight.execute(key, () -> {
+                    throw new AssertionError("follower must not send its own request");
+                });
+            });
+
+            AzureResourceNotFoundException thrown = assertThrows(AzureResourceNotFoundException.class, () -> inFlight.execute(key, () -> {
+                leaderStarted.countDown();
+                while (inFlight.getCoalescedCount() == 0) {
+                    Thread.onSpinWait();
+                }
+                throw notFound;
+            }));
+
+            ExecutionException followerFailure = assertThrows(ExecutionException.class, follower::get);
+            assertSame(notFound, thrown);
+            assertSame(notFound, followerFailure.getCause());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.azure.simpleSDK.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PagingShapeTest {
+
+    /**
+     * List result whose record components are not declared in (value, nextLink) order.
+     */
+    public record ReorderedListResult(String nextLink, Integer count, List<TestItem> value) {}
+
+    /**
+     * List result with a primitive component besides value and nextLink.
+     */
+    public record CountedListResult(List<TestItem> value, long count, String nextLink) {}
+
+    public record NotAList(String value, String nextLink) {}
+
+    @Test
+    void testDetectsPaginatedListResult() throws Exception {
+        PagingShape shape = PagingShape.of(TestListResult.class);
+        TestListResult page = new TestListResult(List.of(new TestItem("1", "one", "v")), "next");
+
+        assertTrue(shape.isPaginated());
+        assertEquals(TestItem.class, shape.itemType());
+        assertEquals("next", shape.nextLink(page));
+        assertEquals(1, shape.value(page).size());
+        assertSame(shape, PagingShape.of(TestListResult.class));
+    }
+
+    @Test
+    void testRejectsTypesWithoutListValue() {
+        assertFalse(PagingShape.of(NotAList.class).isPaginated());
+        assertFalse(PagingShape.of(String.class).isPaginated());
+        assertFalse(PagingShape.of(AzureHttpClientPaginationTest.NonPaginatedResult.class).isPaginated());
+    }
+
+    @Test
+    void testCombineUsesCanonicalConstructorByComponentName() throws Exception {
+        PagingShape shape = PagingShape.of(ReorderedListResult.class);
+        List<Object> items = List.of(new TestItem("1", "one", "v"), new TestItem("2", "two", "v"));
+
+        ReorderedListResult first = new ReorderedListResult("next", 2, List.of(new TestItem("1", "one", "v")));
+
+        ReorderedListResult combined = (ReorderedListResult) shape.combine(first, items);
+
+        assertTrue(shape.canCombine());
+        assertEquals(2, combined.value().size());
+        assertNull(combined.nextLink());
+        assertEquals(Integer.valueOf(2), combined.count());
+    }
+
+    @Test
+    void testCombineCopiesPrimitiveComponentsFromFirstPage() throws Exception {
+        PagingShape shape = PagingShape.of(CountedListResult.class);
+        CountedListResult first = new CountedListResult(List.of(new TestItem("1", "one", "v")), 3L, "next");
+        List<Object> items = List.of(new TestItem("1", "one", "v"), new TestItem("2", "two", "v"), new TestItem("3", "three", "v"));
+
+        CountedListResult combined = (CountedListResult) shape.combine(first, items);
+
+        assertTrue(shape.canCombine());
+        assertEquals(3, combined.value().size());
+        assertEquals(3L, combined.count());
+        assertNull(combined.nextLink());
+    }
+}
@@ -0,0 +1,102 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureException;
+import com.azure.simpleSDK.http.exceptions.UncheckedAzureException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefetchingPagedIteratorTest {
+
+    @Test
+    void testWorkerRunsOnDefaultExecutorWithoutPrefetchExecutor() {
+        ExecutorService runtimeExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "runtime-worker"));
+        Set<String> loaderThreads = ConcurrentHashMap.newKeySet();
+        PagedIterator.PageLoader<String> loader = nextLink -> {
+            loaderThreads.add(Thread.currentThread().getName());
+            return new PagedIterator.LoadedPage<>(nextLink == null ? "page1" : nextLink, 5);
+        };
+        PagingOptions options = new PagingOptions.Builder().prefetchDepth(2).build();
+
+        List<String> pages = new ArrayList<>();
+        try (PrefetchingPagedIterator<String> iterator = new PrefetchingPagedIterator<>(loader, loader,
+                page -> "page1".equals(page) ? "page2" : null, options, runtimeExecutor)) {
+            iterator.forEachRemaining(pages::add);
+        } finally {
+            runtimeExecutor.shutdownNow();
+        }
+
+        assertEquals(List.of("page1", "page2"), pages);
+        assertEquals(Set.of("runtime-worker"), loaderThreads);
+    }
+
+    @Test
+    void testRuntimeFailureOfWorkerReachesConsumer() {
+        ExecutorService runtimeExecutor = Executors.newSingleThreadExecutor();
+        IllegalStateException mappingFailure = new IllegalStateException("cannot map page2");
+        PagedIterator.PageLoader<String> firstPage = ignored -> new PagedIterator.LoadedPage<>("page1", 5);
+        PagedIterator.PageLoader<String> nextPage = nextLink -> {
+            throw mappingFailure;
+        };
+        PagingOptions options = new PagingOptions.Builder().prefetchDepth(2).build();
+
+        try (PrefetchingPagedIterator<String> iterator = new PrefetchingPagedIterator<>(firstPage, nextPage,
+                page -> "page2", options, runtimeExecutor)) {
+            assertEquals("page1", iterator.next());
+            assertSame(mappingFailure, assertThrows(IllegalStateException.class, iterator::hasNext));
+        } finally {
+            runtimeExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testUncheckedAzureFailureIsRethrownAsIs() {
+        ExecutorService runtimeExecutor = Executors.newSingleThreadExecutor();
+        UncheckedAzureException streamFailure = new UncheckedAzureException(
+            new AzureException("stream broke"));
+        PagedIterator.PageLoader<String> loader = ignored -> {
+            throw streamFailure;
+        };
+        PagingOptions options = new PagingOptions.Builder().prefetchDepth(1).build();
+
+        try (PrefetchingPagedIterator<String> iterator = new PrefetchingPagedIterator<>(loader, loader,
+                page -> null, options, runtimeExecutor)) {
+            assertSame(streamFailure, assertThrows(UncheckedAzureException.class, iterator::hasNext));
+        } finally {
+            runtimeExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testIdleWorkerGivesBackItsThreadAndResumes() throws Exception {
+        ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+        PagedIterator.PageLoader<String> loader = nextLink -> new PagedIterator.LoadedPage<>(nextLink == null ? "page1" : nextLink, 5);
+        PagingOptions options = new PagingOptions.Builder()
+            .prefetchDepth(1)
+            .prefetchExecutor(prefetchExecutor)
+            .prefetchIdleTimeout(Duration.ofMillis(50))
+            .build();
+
+        List<String> pages = new ArrayList<>();
+        try (PrefetchingPagedIterator<String> iterator = new PrefetchingPagedIterator<>(loader, loader,
+                page -> page.equals("page4") ? null : "page" + (Integer.parseInt(page.substring(4)) + 1), options, null)) {
+            pages.add(iterator.next());
+            // With the buffer left full the worker must return its thread to the (single-thread) executor
+            prefetchExecutor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+            iterator.forEachRemaining(pages::add);
+        } finally {
+            prefetchExecutor.shutdownNow();
+        }
+
+        assertEquals(List.of("page1", "page2", "page3", "page4"), pages);
+    }
+}
@@ -0,0 +1,245 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.exceptions.AzureResourceNotFoundException;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestBatchTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final RetryPolicy FAST_RETRIES = new RetryPolicy.Builder()
+        .maxAttempts(2)
+        .baseDelay(Duration.ofMillis(10))
+        .maxDelay(Duration.ofMillis(20))
+        .build();
+
+    private TestHttpServer server;
+    private String baseUrl;
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger singleRequests = new AtomicInteger();
+    private volatile int batchStatus = 200;
+    private volatile boolean batchAccepted;
+    private volatile String acceptedResult;
+    private final List<String> consistencyLevels = new CopyOnWriteArrayList<>();
+    private final List<String> batchedUrls = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        server = new TestHttpServer();
+        server.handle("/batch", this::handleBatch);
+        server.handle("/batchResult", exchange -> TestHttpServer.respond(exchange, 200, acceptedResult));
+        server.handle("/nextPage", exchange -> TestHttpServer.respond(exchange, 200, "{\"value\":[{\"id\":\"2\"}]}"));
+        server.handle("/subscriptions/", exchange -> {
+            singleRequests.incrementAndGet();
+            String consistencyLevel = exchange.getRequestHeaders().getFirst("x-ms-consistency-level");
+            if (consistencyLevel != null) {
+                consistencyLevels.add(consistencyLevel);
+            }
+            TestHttpServer.respond(exchange, 200, "{\"id\":\"single-" + name(exchange.getRequestURI()) + "\"}");
+        });
+        server.start();
+        baseUrl = server.baseUrl() + "/subscriptions/s/resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups/";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        JsonNode requests = MAPPER.readTree(exchange.getRequestBody()).path("requests");
+        batchSizes.add(requests.size());
+        if (batchStatus != 200) {
+            TestHttpServer.respond(exchange, batchStatus, "{}");
+            return;
+        }
+
+        ObjectNode result = MAPPER.createObjectNode();
+        ArrayNode responses = result.putArray("responses");
+        for (JsonNode request : requests) {
+            batchedUrls.add(request.path("url").asText());
+            String name = name(URI.create(request.path("url").asText()));
+            ObjectNode response = responses.addObject();
+            response.put("name", request.path("name").asText());
+            if (name.startsWith("missing")) {
+                response.put("httpStatusCode", 404);
+                response.putObject("content").putObject("error").put("code", "ResourceNotFound").put("message", name + " not found");
+            } else if (name.startsWith("list")) {
+                response.put("httpStatusCode", 200);
+                ObjectNode content = response.putObject("content");
+                content.putArray("value").addObject().put("id", "1");
+                content.put("nextLink", server.baseUrl() + "/nextPage");
+            } else if (name.startsWith("busy")) {
+                response.put("httpStatusCode", 429);
+                response.putObject("headers").put("Retry-After", "1");
+            } else {
+                response.put("httpStatusCode", 200);
+                response.putObject("headers").put("ETag", "\"1\"");
+                response.putObject("content").put("id", "batched-" + name);
+            }
+        }
+        if (batchAccepted) {
+            // Still running: the client polls the Location until the result is there
+            acceptedResult = MAPPER.writeValueAsString(result);
+            exchange.getResponseHeaders().add("Location", server.baseUrl() + "/batchResult");
+            exchange.getResponseHeaders().add("Retry-After", "0");
+            TestHttpServer.respond(exchange, 202);
+            return;
+        }
+        TestHttpServer.respond(exchange, 200, MAPPER.writeValueAsString(result));
+    }
+
+    private static String name(URI uri) {
+        String path = uri.getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    @Test
+    void testBatchSplitsResponsesAndFallsBackForRetryableFailures() throws Exception {
+        AzureHttpClient client = new AzureHttpClient(null, FAST_RETRIES);
+        RequestBatch batch = client.newBatch();
+        CompletableFuture<AzureResponse<TestItem>> first = batch.add(client.get(baseUrl + "a"), TestItem.class);
+        CompletableFuture<AzureResponse<TestItem>> second = batch.add(client.get(baseUrl + "b"), TestItem.class);
+        CompletableFuture<AzureResponse<TestItem>> busy = batch.add(client.get(baseUrl + "busy"), TestItem.class);
+        CompletableFuture<AzureResponse<TestItem>> missing = batch.add(client.get(baseUrl + "missing"), TestItem.class);
+
+        batch.send();
+
+        assertEquals("batched-a", first.get().getBody().id());
+        assertEquals("\"1\"", first.get().getHeaders().get("ETag"));
+        assertEquals("batched-b", second.get().getBody().id());
+        assertEquals("single-busy", busy.get().getBody().id());
+        ExecutionException notFound = assertThrows(ExecutionException.class, missing::get);
+        assertInstanceOf(AzureResourceNotFoundException.class, notFound.getCause());
+        assertEquals(List.of(4), batchSizes);
+        assertEquals(1, singleRequests.get());
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    void testLargeBatchesAreSplitAndFailedBatchesSentIndividually() throws Exception {
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder()
+            .requestBatching(new BatchOptions.Builder().maxBatchSize(2).window(Duration.ofMinutes(1)).build())
+            .build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime, FAST_RETRIES, false, null);
+            RequestBatch batch = client.newBatch();
+            List<CompletableFuture<AzureResponse<TestItem>>> results = new ArrayList<>();
+            for (String name : List.of("a", "b", "c", "d", "e")) {
+                results.add(batch.add(client.get(baseUrl + name), TestItem.class));
+            }
+            batchStatus = 400;
+
+            batch.send();
+
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals("single-" + "abcde".charAt(i), results.get(i).get().getBody().id());
+            }
+            assertEquals(List.of(2, 2), batchSizes);
+            assertEquals(5, singleRequests.get());
+        }
+    }
+
+    @Test
+    void testConcurrentAsyncGetsAreBatchedAutomatically() throws Exception {
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder()
+            .requestBatching(new BatchOptions.Builder().window(Duration.ofMillis(200)).build())
+            .build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime, FAST_RETRIES, false, null);
+            List<CompletableFuture<AzureResponse<TestItem>>> results = new ArrayList<>();
+            for (String name : List.of("a", "b", "c")) {
+                results.add(client.executeAsync(client.get(baseUrl + name), TestItem.class));
+            }
+
+            assertEquals("batched-a", results.get(0).join().getBody().id());
+            assertEquals("batched-c", results.get(2).join().getBody().id());
+            assertEquals(List.of(3), batchSizes);
+            assertEquals(0, singleRequests.get());
+
+            CancellationToken deadline = CancellationToken.withTimeout(Duration.ofSeconds(10));
+            assertEquals("single-d", client.execute(client.get(baseUrl + "d").cancellation(deadline), TestItem.class).getBody().id());
+        }
+    }
+
+    @Test
+    void testAcceptedBatchIsPolledUntilComplete() throws Exception {
+        batchAccepted = true;
+        AzureHttpClient client = new AzureHttpClient(null, FAST_RETRIES);
+        RequestBatch batch = client.newBatch();
+        CompletableFuture<AzureResponse<TestItem>> first = batch.add(client.get(baseUrl + "a"), TestItem.class);
+        CompletableFuture<AzureResponse<TestItem>> second = batch.add(client.get(baseUrl + "b"), TestItem.class);
+
+        batch.send();
+
+        assertEquals("batched-a", first.get().getBody().id());
+        assertEquals("batched-b", second.get().getBody().id());
+        assertEquals(0, singleRequests.get());
+    }
+
+    @Test
+    void testBatchedListResultFetchesFollowingPages() throws Exception {
+        AzureHttpClient client = new AzureHttpClient(null, FAST_RETRIES);
+        RequestBatch batch = client.newBatch();
+        CompletableFuture<AzureResponse<TestListResult>> list = batch.add(client.get(baseUrl + "list"), TestListResult.class);
+        CompletableFuture<AzureResponse<TestItem>> item = batch.add(client.get(baseUrl + "a"), TestItem.class);
+
+        batch.send();
+
+        assertEquals(List.of("1", "2"), list.get().getBody().value().stream().map(TestItem::id).toList());
+        assertEquals("batched-a", item.get().getBody().id());
+        assertEquals(List.of(2), batchSizes);
+    }
+
+    @Test
+    void testVersionedRequestsAreBatched() throws Exception {
+        AzureHttpClient client = new AzureHttpClient(null, FAST_RETRIES);
+        RequestBatch batch = client.newBatch();
+        CompletableFuture<AzureResponse<TestItem>> first = batch.add(client.get(baseUrl + "a").version("2024-05-01"), TestItem.class);
+        CompletableFuture<AzureResponse<TestItem>> second = batch.add(client.get(baseUrl + "b").version("2024-05-01"), TestItem.class);
+
+        batch.send();
+
+        assertEquals("batched-a", first.get().getBody().id());
+        assertEquals("batched-b", second.get().getBody().id());
+        assertEquals(List.of(2), batchSizes);
+        assertEquals(0, singleRequests.get());
+        assertTrue(batchedUrls.stream().allMatch(url -> url.endsWith("?api-version=2024-05-01")), batchedUrls.toString());
+    }
+
+    @Test
+    void testRequestsWithOwnHeadersAreSentOnTheirOwn() throws Exception {
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder()
+            .requestBatching(new BatchOptions.Builder().window(Duration.ofMillis(100)).build())
+            .build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime, FAST_RETRIES, false, null);
+            CompletableFuture<AzureResponse<TestItem>> plain = client.executeAsync(client.get(baseUrl + "a"), TestItem.class);
+            CompletableFuture<AzureResponse<TestItem>> eventual = client.executeAsync(
+                client.get(baseUrl + "b").header("x-ms-consistency-level", "eventual"), TestItem.class);
+            CompletableFuture<AzureResponse<TestItem>> other = client.executeAsync(client.get(baseUrl + "c"), TestItem.class);
+
+            assertEquals("batched-a", plain.join().getBody().id());
+            assertEquals("single-b", eventual.join().getBody().id());
+            assertEquals("batched-c", other.join().getBody().id());
+            assertEquals(List.of(2), batchSizes);
+            assertEquals(List.of("eventual"), consistencyLevels);
+        }
+    }
+}
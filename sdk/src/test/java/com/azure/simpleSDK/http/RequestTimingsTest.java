@@ -0,0 +1,134 @@
+package com.azure.simpleSDK.http;
+
+import com.azure.simpleSDK.http.auth.AzureCredentials;
+import com.azure.simpleSDK.http.exceptions.AzureResourceNotFoundException;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingsTest {
+
+    private static final RetryPolicy FAST_RETRIES = new RetryPolicy.Builder()
+        .maxAttempts(2)
+        .baseDelay(Duration.ofMillis(20))
+        .maxDelay(Duration.ofMillis(40))
+        .build();
+
+    private TestHttpServer server;
+    private String baseUrl;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        server = new TestHttpServer();
+        baseUrl = server.baseUrl();
+        server.handle("/list", exchange -> {
+            int request = requests.incrementAndGet();
+            if (request == 1) {
+                respond(exchange, 503, "{}", request);
+            } else if (exchange.getRequestURI().getQuery() == null) {
+                respond(exchange, 200, "{\"value\":[{\"id\":\"1\"}],\"nextLink\":\"" + baseUrl + "/list?page=2\"}", request);
+            } else {
+                respond(exchange, 200, "{\"value\":[{\"id\":\"2\"}]}", request);
+            }
+        });
+        server.handle("/missing", exchange -> respond(exchange, 404,
+            "{\"error\":{\"code\":\"ResourceNotFound\",\"message\":\"missing\"}}", requests.incrementAndGet()));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json, int request) throws IOException {
+        exchange.getResponseHeaders().add("x-ms-request-id", "request-" + request);
+        exchange.getResponseHeaders().add("x-ms-routing-request-id", "WESTEUROPE:" + request);
+        TestHttpServer.respond(exchange, status, json);
+    }
+
+    private static final class SlowCredentials implements AzureCredentials {
+        @Override
+        public String getAccessToken() {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "token";
+        }
+
+        @Override
+        public boolean isExpired() {
+            return false;
+        }
+
+        @Override
+        public void refresh() {
+        }
+
+        @Override
+        public Instant getTokenExpiry() {
+            return Instant.MAX;
+        }
+    }
+
+    @Test
+    void testTimingsBreakDownRetriesAndPages() throws Exception {
+        AzureHttpClient client = new AzureHttpClient(new SlowCredentials(), FAST_RETRIES);
+
+        AzureResponse<TestListResult> response = client.execute(client.get(baseUrl + "/list"), TestListResult.class);
+
+        RequestTimings timings = response.getTimings();
+        assertEquals(List.of(503, 200, 200), timings.getAttempts().stream().map(RequestTimings.Attempt::statusCode).toList());
+        assertEquals(List.of(1, 1, 2), timings.getAttempts().stream().map(RequestTimings.Attempt::page).toList());
+        assertEquals(List.of(1, 2, 1), timings.getAttempts().stream().map(RequestTimings.Attempt::attempt).toList());
+        assertEquals("request-1", timings.getAttempts().get(0).requestId());
+        assertEquals("request-3", timings.getRequestId());
+        assertEquals("WESTEUROPE:3", timings.getRoutingRequestId());
+        assertNotNull(timings.getClientRequestId());
+        assertTrue(timings.get(RequestTimings.Phase.AUTHENTICATION).toMillis() >= 40, timings.toString());
+        assertTrue(timings.get(RequestTimings.Phase.RETRY_DELAY).toNanos() > 0, timings.toString());
+        assertTrue(timings.get(RequestTimings.Phase.NETWORK).toNanos() > 0, timings.toString());
+        assertTrue(timings.get(RequestTimings.Phase.DESERIALIZATION).toNanos() > 0, timings.toString());
+        Duration phases = timings.getPhases().values().stream().reduce(Duration.ZERO, Duration::plus);
+        assertTrue(phases.compareTo(timings.getTotal()) <= 0, timings.toString());
+        assertEquals(timings.getTotal(), timings.getTotal());
+    }
+
+    @Test
+    void testServiceExceptionCarriesTimingsAndRequestIds() {
+        AzureHttpClient client = new AzureHttpClient(null, FAST_RETRIES);
+
+        AzureResourceNotFoundException failure = assertThrows(AzureResourceNotFoundException.class,
+            () -> client.execute(client.get(baseUrl + "/missing"), TestItem.class));
+
+        assertEquals("request-1", failure.getRequestId());
+        assertEquals("WESTEUROPE:1", failure.getRoutingRequestId());
+        assertEquals(1, failure.getTimings().getAttempts().size());
+        assertEquals(404, failure.getTimings().getAttempts().get(0).statusCode());
+    }
+
+    @Test
+    void testAsyncResponseHasTimings() {
+        AzureHttpClient client = new AzureHttpClient(null, FAST_RETRIES);
+
+        RequestTimings timings = client.executeAsync(client.get(baseUrl + "/list"), TestListResult.class).join().getTimings();
+
+        assertEquals(3, timings.getAttempts().size());
+        assertEquals(2, timings.getAttempts().get(2).page());
+        assertEquals("request-3", timings.getRequestId());
+        assertTrue(timings.get(RequestTimings.Phase.RETRY_DELAY).toNanos() > 0, timings.toString());
+    }
+}
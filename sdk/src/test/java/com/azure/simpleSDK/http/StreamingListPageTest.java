@@ -0,0 +1,30 @@
+package com.azure.simpleSDK.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingListPageTest {
+
+    @Test
+    void testNullElementsDoNotEndThePage() throws Exception {
+        String json = "{\"value\":[{\"id\":\"1\"},null,{\"id\":\"2\"},null],\"nextLink\":\"next\"}";
+        List<String> ids = new ArrayList<>();
+        try (StreamingListPage<TestItem> page = new StreamingListPage<>(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), new ObjectMapper().readerFor(TestItem.class), "test")) {
+            TestItem item;
+            while ((item = page.nextItem()) != null) {
+                ids.add(item.id());
+            }
+            assertEquals("next", page.nextLink());
+        }
+
+        assertEquals(List.of("1", "2"), ids);
+    }
+}
@@ -0,0 +1,117 @@
+package com.azure.simpleSDK.http.auth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileTokenCacheTest {
+
+    private static final String SCOPE = "https://management.azure.com/.default";
+
+    private Path directory;
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("token-cache");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private RefreshingTokenCredentials.IssuedToken fetch() {
+        int fetch = fetches.incrementAndGet();
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new RefreshingTokenCredentials.IssuedToken("secret-token-" + fetch, Duration.ofHours(1));
+    }
+
+    @Test
+    void testLaterProcessReusesEncryptedToken() throws Exception {
+        RefreshingTokenCredentials.IssuedToken first =
+            new FileTokenCache(directory).getOrFetch("tenant", "client", SCOPE, "s3cret", null, this::fetch);
+        RefreshingTokenCredentials.IssuedToken second =
+            new FileTokenCache(directory).getOrFetch("tenant", "client", SCOPE, "s3cret", null, this::fetch);
+
+        assertEquals("secret-token-1", first.accessToken());
+        assertEquals("secret-token-1", second.accessToken());
+        assertTrue(second.lifetime().compareTo(Duration.ofMinutes(59)) > 0);
+        assertEquals(1, fetches.get());
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                assertFalse(new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1).contains("secret-token"), file.toString());
+            }
+        }
+    }
+
+    @Test
+    void testMissesForOtherSecretScopeOrNoNewerToken() throws Exception {
+        FileTokenCache cache = new FileTokenCache(directory);
+        cache.getOrFetch("tenant", "client", SCOPE, "s3cret", null, this::fetch);
+
+        assertEquals("secret-token-2", cache.getOrFetch("tenant", "client", SCOPE, "rotated", null, this::fetch).accessToken());
+        assertEquals("secret-token-3", cache.getOrFetch("tenant", "client", "https://graph.microsoft.com/.default", "s3cret", null,
+            this::fetch).accessToken());
+        // A background refresh must not get back the token it is replacing
+        Instant currentExpiry = Instant.now().plus(Duration.ofHours(1));
+        assertEquals("secret-token-4", cache.getOrFetch("tenant", "client", "https://graph.microsoft.com/.default", "s3cret",
+            currentExpiry, this::fetch).accessToken());
+        assertEquals(4, fetches.get());
+    }
+
+    @Test
+    void testUnusableDirectoryFetchesOnce() throws Exception {
+        Path notADirectory = Files.createFile(directory.resolve("file"));
+
+        RefreshingTokenCredentials.IssuedToken issued =
+            new FileTokenCache(notADirectory).getOrFetch("tenant", "client", SCOPE, "s3cret", null, this::fetch);
+
+        assertEquals("secret-token-1", issued.accessToken());
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void testConcurrentStartsFetchOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<RefreshingTokenCredentials.IssuedToken>> starts = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                starts.add(executor.submit(() ->
+                    new FileTokenCache(directory).getOrFetch("tenant", "client", SCOPE, "s3cret", null, this::fetch)));
+            }
+            for (Future<RefreshingTokenCredentials.IssuedToken> start : starts) {
+                assertEquals("secret-token-1", start.get(5, TimeUnit.SECONDS).accessToken());
+            }
+            assertEquals(1, fetches.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
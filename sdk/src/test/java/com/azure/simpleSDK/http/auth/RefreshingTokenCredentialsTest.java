@@ -0,0 +1,141 @@
+package com.azure.simpleSDK.http.auth;
+
+import com.azure.simpleSDK.http.exceptions.AzureAuthenticationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshingTokenCredentialsTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // Background refreshes run here, so waiting for an empty task completes them
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor();
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        refreshExecutor.shutdownNow();
+    }
+
+    private void advance(Duration duration) {
+        nanoClock.addAndGet(duration.toNanos());
+    }
+
+    private void awaitBackgroundRefresh() throws Exception {
+        refreshExecutor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+
+    private final class CountingCredentials extends RefreshingTokenCredentials {
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicBoolean failing = new AtomicBoolean();
+        volatile CountDownLatch release = new CountDownLatch(0);
+        private final Duration lifetime;
+
+        CountingCredentials(Duration lifetime) {
+            super(refreshExecutor, nanoClock::get);
+            this.lifetime = lifetime;
+        }
+
+        @Override
+        protected IssuedToken requestToken() throws AzureAuthenticationException {
+            int request = requests.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failing.get()) {
+                throw new AzureAuthenticationException("token endpoint unavailable");
+            }
+            return new IssuedToken("token-" + request, lifetime);
+        }
+    }
+
+    @Test
+    void testConcurrentFirstReadsShareOneRequest() throws Exception {
+        CountingCredentials credentials = new CountingCredentials(Duration.ofHours(1));
+        credentials.release = new CountDownLatch(1);
+        List<Future<String>> readers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            readers.add(executor.submit(credentials::getAccessToken));
+        }
+        Thread.sleep(100);
+        credentials.release.countDown();
+
+        for (Future<String> reader : readers) {
+            assertEquals("token-1", reader.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, credentials.requests.get());
+        assertFalse(credentials.isExpired());
+        assertNotNull(credentials.getTokenExpiry());
+    }
+
+    @Test
+    void testRefreshesInBackgroundBeforeExpiry() throws Exception {
+        CountingCredentials credentials = new CountingCredentials(Duration.ofHours(1));
+        assertEquals("token-1", credentials.getAccessToken());
+
+        // Past the refresh point (at most 80% of the lifetime) but still usable (until 55 minutes)
+        advance(Duration.ofMinutes(50));
+        credentials.release = new CountDownLatch(1);
+        assertEquals("token-1", credentials.getAccessToken());
+        assertEquals("token-1", credentials.getAccessToken());
+        credentials.release.countDown();
+        awaitBackgroundRefresh();
+
+        assertEquals("token-2", credentials.getAccessToken());
+        assertEquals(2, credentials.requests.get());
+    }
+
+    @Test
+    void testFailedBackgroundRefreshKeepsTokenAndBacksOff() throws Exception {
+        CountingCredentials credentials = new CountingCredentials(Duration.ofHours(1));
+        assertEquals("token-1", credentials.getAccessToken());
+
+        advance(Duration.ofMinutes(50));
+        credentials.failing.set(true);
+        assertEquals("token-1", credentials.getAccessToken());
+        awaitBackgroundRefresh();
+        assertEquals(2, credentials.requests.get());
+
+        // The next attempt waits 30 seconds
+        advance(Duration.ofSeconds(29));
+        assertEquals("token-1", credentials.getAccessToken());
+        awaitBackgroundRefresh();
+        assertEquals(2, credentials.requests.get());
+        assertFalse(credentials.isExpired());
+
+        credentials.failing.set(false);
+        advance(Duration.ofSeconds(2));
+        assertEquals("token-1", credentials.getAccessToken());
+        awaitBackgroundRefresh();
+        assertEquals("token-3", credentials.getAccessToken());
+        assertEquals(3, credentials.requests.get());
+    }
+
+    @Test
+    void testFailedRefreshWithoutUsableTokenThrows() {
+        CountingCredentials credentials = new CountingCredentials(Duration.ofHours(1));
+        credentials.failing.set(true);
+
+        AzureAuthenticationException failure = assertThrows(AzureAuthenticationException.class, credentials::getAccessToken);
+
+        assertEquals("token endpoint unavailable", failure.getMessage());
+        assertTrue(credentials.isExpired());
+        assertNull(credentials.getTokenExpiry());
+    }
+}
@@ -0,0 +1,56 @@
+package com.azure.simpleSDK.http.cache;
+
+import com.azure.simpleSDK.http.AzureResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private static AzureResponse<String> response(String body) {
+        return new AzureResponse<>(200, Map.of(), body, body);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedEntry() {
+        ResponseCache cache = new ResponseCache.Builder().maxEntries(2).build();
+        cache.put("p", "/a", "\"1\"", String.class, response("a"));
+        cache.put("p", "/b", "\"2\"", String.class, response("b"));
+
+        assertNotNull(cache.get("p", "/a"));
+        cache.put("p", "/c", "\"3\"", String.class, response("c"));
+
+        assertNull(cache.get("p", "/b"));
+        assertNotNull(cache.get("p", "/a"));
+        assertNotNull(cache.get("p", "/c"));
+        assertEquals(1, cache.getStats().evictions());
+    }
+
+    @Test
+    void testEvictsByCachedBodySize() {
+        ResponseCache cache = new ResponseCache.Builder().maxBytes(10).build();
+        cache.put("p", "/a", "\"1\"", String.class, response("123456"));
+        cache.put("p", "/b", "\"2\"", String.class, response("123456"));
+        cache.put("p", "/huge", "\"3\"", String.class, response("12345678901"));
+
+        ResponseCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.entries());
+        assertEquals(6, stats.bytes());
+        assertNull(cache.get("p", "/huge"));
+    }
+
+    @Test
+    void testEntriesAreScopedByPrincipal() {
+        ResponseCache cache = new ResponseCache.Builder().build();
+        cache.put("alice", "/a", "\"1\"", String.class, response("a"));
+
+        assertNull(cache.get("bob", "/a"));
+        assertNotNull(cache.get("alice", "/a"));
+
+        ResponseCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+}
@@ -0,0 +1,94 @@
+package com.azure.simpleSDK.http.diagnostics;
+
+import com.azure.simpleSDK.http.AzureHttpClient;
+import com.azure.simpleSDK.http.AzureSdkRuntime;
+import com.azure.simpleSDK.http.TestHttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NPlusOneDetectorTest {
+
+    private static final String ARM = "https://management.azure.com/subscriptions/s/";
+    private static final String NSG_ITEM =
+        "/subscriptions/{subscriptionId}/resourcegroups/{resourceGroupName}/providers/microsoft.network/networksecuritygroups/{name}";
+
+    public record Nsg(String name) {
+    }
+
+    public record NsgList(List<Nsg> value, String nextLink) {
+    }
+
+    @Test
+    void testReportsBurstOfItemGetsAfterListCall() {
+        List<NPlusOneDetector.Finding> reported = new CopyOnWriteArrayList<>();
+        NPlusOneDetector detector = new NPlusOneDetector.Builder().threshold(3).listener(reported::add).build();
+
+        detector.record("GET", URI.create(ARM + "providers/Microsoft.Network/networkSecurityGroups?api-version=2024-05-01"));
+        detector.record("GET", URI.create(ARM + "resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups/a"));
+        detector.record("GET", URI.create(ARM + "resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups/a"));
+        detector.record("PUT", URI.create(ARM + "resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups/b"));
+        assertTrue(reported.isEmpty());
+
+        detector.record("GET", URI.create(ARM + "resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups/b"));
+        detector.record("GET", URI.create(ARM + "resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups/c"));
+        detector.record("GET", URI.create(ARM + "resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups/d"));
+
+        assertEquals(1, reported.size());
+        NPlusOneDetector.Finding finding = reported.get(0);
+        assertEquals(NSG_ITEM, finding.operation());
+        assertEquals(4, finding.calls());
+        assertTrue(finding.afterListCall());
+        assertEquals("/subscriptions/{subscriptionId}/providers/microsoft.network/networksecuritygroups", finding.listOperation());
+        assertEquals(5, detector.getFindings().get(0).calls());
+    }
+
+    @Test
+    void testSuggestsParentCollectionWithoutListCall() {
+        NPlusOneDetector detector = new NPlusOneDetector.Builder().threshold(2).window(Duration.ofMinutes(1)).listener(finding -> { }).build();
+
+        detector.record("GET", URI.create(ARM + "providers/Microsoft.Authorization/roleDefinitions/"
+            + "acdd72a7-3385-48ef-bd42-f606fba81ae7?api-version=2022-04-01"));
+        detector.record("GET", URI.create(ARM + "providers/Microsoft.Authorization/roleDefinitions/"
+            + "b24988ac-6180-42a0-ab88-20f7382dd24c?api-version=2022-04-01"));
+
+        NPlusOneDetector.Finding finding = detector.getFindings().get(0);
+        assertEquals("/subscriptions/{subscriptionId}/providers/microsoft.authorization/roledefinitions/{name}", finding.operation());
+        assertFalse(finding.afterListCall());
+        assertEquals("/subscriptions/{subscriptionId}/providers/microsoft.authorization/roledefinitions", finding.listOperation());
+    }
+
+    @Test
+    void testClientFeedsDetector() throws Exception {
+        TestHttpServer server = new TestHttpServer().handle("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String json = path.endsWith("networkSecurityGroups")
+                ? "{\"value\":[{\"name\":\"a\"},{\"name\":\"b\"},{\"name\":\"c\"}]}"
+                : "{\"name\":\"" + path.substring(path.lastIndexOf('/') + 1) + "\"}";
+            TestHttpServer.respond(exchange, 200, json);
+        }).start();
+        List<NPlusOneDetector.Finding> reported = new CopyOnWriteArrayList<>();
+        NPlusOneDetector detector = new NPlusOneDetector.Builder().threshold(3).listener(reported::add).build();
+        String nsgs = server.baseUrl() + "/subscriptions/s/resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups";
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().nPlusOneDetector(detector).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+
+            for (Nsg nsg : client.execute(client.get(nsgs), NsgList.class).getBody().value()) {
+                client.execute(client.get(nsgs + "/" + nsg.name()), Nsg.class);
+            }
+
+            assertEquals(1, reported.size());
+            assertEquals(NSG_ITEM, reported.get(0).operation());
+            assertEquals(3, reported.get(0).calls());
+            assertTrue(reported.get(0).afterListCall());
+            assertEquals(NSG_ITEM.substring(0, NSG_ITEM.lastIndexOf('/')), reported.get(0).listOperation());
+        } finally {
+            server.close();
+        }
+    }
+}
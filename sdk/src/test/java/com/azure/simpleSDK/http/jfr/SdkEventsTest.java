@@ -0,0 +1,94 @@
+package com.azure.simpleSDK.http.jfr;
+
+import com.azure.simpleSDK.http.AzureHttpClient;
+import com.azure.simpleSDK.http.TestHttpServer;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SdkEventsTest {
+
+    private static final String OPERATION =
+        "/subscriptions/{subscriptionId}/resourcegroups/{resourceGroupName}/providers/microsoft.compute/virtualmachines";
+
+    public record Vm(String name) {
+    }
+
+    public record VmList(List<Vm> value, String nextLink) {
+    }
+
+    @Test
+    void testClientEmitsAttemptRetryPageAndDeserializationEvents() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        TestHttpServer server = new TestHttpServer();
+        String base = server.baseUrl() + "/subscriptions/s/resourceGroups/rg/providers/Microsoft.Compute/virtualMachines";
+        server.handle("/", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                TestHttpServer.respond(exchange, 503);
+                return;
+            }
+            String json = exchange.getRequestURI().getQuery() == null
+                ? "{\"value\":[{\"name\":\"a\"}],\"nextLink\":\"" + base + "?page=2\"}"
+                : "{\"value\":[{\"name\":\"b\"}]}";
+            exchange.getResponseHeaders().add("x-ms-request-id", "request-" + requests.get());
+            TestHttpServer.respond(exchange, 200, json);
+        });
+        server.start();
+        Path dump = Files.createTempFile("sdk-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("HttpAttempt", "RetryDelay", "Page", "Deserialization")) {
+                recording.enable("com.azure.simpleSDK." + name).withoutThreshold();
+            }
+            recording.start();
+            RetryPolicy retries = new RetryPolicy.Builder().maxAttempts(2).baseDelay(Duration.ofMillis(10)).build();
+            AzureHttpClient client = new AzureHttpClient(null, retries);
+
+            VmList vms = client.execute(client.get(base), VmList.class).getBody();
+
+            assertEquals(2, vms.value().size());
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            List<RecordedEvent> attempts = ofType(events, "com.azure.simpleSDK.HttpAttempt");
+            assertEquals(List.of(503, 200, 200), attempts.stream().map(event -> event.getInt("statusCode")).toList());
+            assertEquals(OPERATION, attempts.get(0).getString("operation"));
+            assertEquals("GET", attempts.get(0).getString("method"));
+            assertEquals("request-3", attempts.get(2).getString("requestId"));
+            assertTrue(attempts.get(2).getLong("responseBytes") > 0);
+
+            List<RecordedEvent> delays = ofType(events, "com.azure.simpleSDK.RetryDelay");
+            assertEquals(1, delays.size());
+            assertEquals(1, delays.get(0).getInt("attempt"));
+
+            List<RecordedEvent> pages = ofType(events, "com.azure.simpleSDK.Page");
+            assertEquals(1, pages.size());
+            assertEquals(2, pages.get(0).getInt("page"));
+            assertEquals(OPERATION, pages.get(0).getString("operation"));
+
+            List<RecordedEvent> deserializations = ofType(events, "com.azure.simpleSDK.Deserialization");
+            assertEquals(2, deserializations.size());
+            assertEquals(VmList.class.getName(), deserializations.get(0).getClass("type").getName());
+        } finally {
+            Files.deleteIfExists(dump);
+            server.close();
+        }
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+            .toList();
+    }
+}
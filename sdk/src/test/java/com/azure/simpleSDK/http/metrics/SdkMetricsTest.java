@@ -0,0 +1,124 @@
+package com.azure.simpleSDK.http.metrics;
+
+import com.azure.simpleSDK.http.AzureHttpClient;
+import com.azure.simpleSDK.http.AzureSdkRuntime;
+import com.azure.simpleSDK.http.TestHttpServer;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SdkMetricsTest {
+
+    private static final String NSG_OPERATION =
+        "/subscriptions/{subscriptionId}/resourcegroups/{resourceGroupName}/providers/microsoft.network/networksecuritygroups/{name}";
+
+    public record Nsg(String name) {
+    }
+
+    public record NsgList(List<Nsg> value, String nextLink) {
+    }
+
+    @Test
+    void testBucketsAreLogLinear() {
+        assertEquals(0, LatencyHistogram.bucketIndex(1023));
+        assertEquals(1, LatencyHistogram.bucketIndex(1024));
+        assertEquals(2, LatencyHistogram.bucketIndex(1024 + 128));
+        assertEquals(9, LatencyHistogram.bucketIndex(2048));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        for (int index = 1; index < LatencyHistogram.BUCKETS - 1; index++) {
+            assertEquals(index, LatencyHistogram.bucketIndex(LatencyHistogram.upperBound(index - 1)));
+            assertEquals(index, LatencyHistogram.bucketIndex(LatencyHistogram.upperBound(index) - 1));
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(Duration.ofMillis(millis).toNanos());
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.getCount());
+        assertEquals(Duration.ofMillis(5050).toNanos(), snapshot.getSumNanos());
+        long p90 = snapshot.percentile(0.9);
+        assertTrue(p90 > Duration.ofMillis(90).toNanos() && p90 <= Duration.ofMillis(90).toNanos() * 9 / 8, "p90 " + p90);
+    }
+
+    @Test
+    void testPrometheusText() {
+        SdkMetrics metrics = new SdkMetrics();
+        URI nsg = URI.create("https://management.azure.com/subscriptions/s/resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups/a");
+        metrics.recordAttempt("GET", nsg, 200, Duration.ofMillis(3).toNanos(), 100);
+        metrics.recordAttempt("GET", nsg.resolve("b"), 429, Duration.ofMillis(5).toNanos(), 20);
+        metrics.recordAttempt("GET", nsg, 0, Duration.ofSeconds(1).toNanos(), -1);
+        metrics.recordRetry("429");
+        metrics.recordPage();
+
+        String text = metrics.toPrometheusText();
+        String labels = "method=\"GET\",operation=\"" + NSG_OPERATION + "\"";
+
+        assertTrue(text.contains("# TYPE azure_sdk_request_duration_seconds histogram\n"), text);
+        assertTrue(text.contains("azure_sdk_request_duration_seconds_bucket{" + labels + ",le=\"0.004194304\"} 1\n"), text);
+        assertTrue(text.contains("azure_sdk_request_duration_seconds_bucket{" + labels + ",le=\"0.008388608\"} 2\n"), text);
+        assertTrue(text.contains("azure_sdk_request_duration_seconds_bucket{" + labels + ",le=\"+Inf\"} 3\n"), text);
+        assertTrue(text.contains("azure_sdk_request_duration_seconds_sum{" + labels + "} 1.008\n"), text);
+        assertTrue(text.contains("azure_sdk_request_duration_seconds_count{" + labels + "} 3\n"), text);
+        assertTrue(text.contains("azure_sdk_requests_total{" + labels + ",code=\"200\"} 1\n"), text);
+        assertTrue(text.contains("azure_sdk_requests_total{" + labels + ",code=\"429\"} 1\n"), text);
+        assertTrue(text.contains("azure_sdk_requests_total{" + labels + ",code=\"error\"} 1\n"), text);
+        assertTrue(text.contains("azure_sdk_response_bytes_total{" + labels + "} 120\n"), text);
+        assertTrue(text.contains("azure_sdk_retries_total{reason=\"429\"} 1\n"), text);
+        assertTrue(text.contains("azure_sdk_pages_fetched_total 1\n"), text);
+        assertEquals(3, metrics.getLatency("GET", NSG_OPERATION).getCount());
+    }
+
+    @Test
+    void testClientRecordsAttemptsRetriesAndPagesAndEndpointServesThem() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        TestHttpServer server = new TestHttpServer();
+        String base = server.baseUrl() + "/subscriptions/s/resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups";
+        server.handle("/", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                TestHttpServer.respond(exchange, 503);
+                return;
+            }
+            String json = exchange.getRequestURI().getQuery() == null
+                ? "{\"value\":[{\"name\":\"a\"}],\"nextLink\":\"" + base + "?page=2\"}"
+                : "{\"value\":[{\"name\":\"b\"}]}";
+            TestHttpServer.respond(exchange, 200, json);
+        });
+        server.start();
+        SdkMetrics metrics = new SdkMetrics();
+        RetryPolicy retries = new RetryPolicy.Builder().maxAttempts(2).baseDelay(Duration.ofMillis(10)).build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().metrics(metrics).build();
+             PrometheusEndpoint endpoint = PrometheusEndpoint.start(metrics, new InetSocketAddress("127.0.0.1", 0))) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime, retries, false, null);
+
+            NsgList nsgs = client.execute(client.get(base), NsgList.class).getBody();
+
+            assertEquals(2, nsgs.value().size());
+            assertEquals(1, metrics.getRetries("503"));
+            assertEquals(2, metrics.getPagesFetched());
+            String operation = "/subscriptions/{subscriptionId}/resourcegroups/{resourceGroupName}/providers/microsoft.network/networksecuritygroups";
+            assertEquals(3, metrics.getLatency("GET", operation).getCount());
+
+            HttpResponse<String> scrape = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + endpoint.getAddress().getPort() + "/metrics")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, scrape.statusCode());
+            assertEquals("text/plain; version=0.0.4; charset=utf-8", scrape.headers().firstValue("Content-Type").orElse(null));
+            assertTrue(scrape.body().contains(
+                "azure_sdk_requests_total{method=\"GET\",operation=\"" + operation + "\",code=\"503\"} 1\n"), scrape.body());
+        } finally {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.azure.simpleSDK.http.retry;
+
+import com.azure.simpleSDK.http.AzureHttpClient;
+import com.azure.simpleSDK.http.AzureSdkRuntime;
+import com.azure.simpleSDK.http.TestHttpServer;
+import com.azure.simpleSDK.http.throttling.AdaptiveConcurrencyLimiter;
+import com.azure.simpleSDK.http.throttling.ArmRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgingPolicyTest {
+
+    private static final URI VMS = URI.create("https://management.azure.com/subscriptions/s/providers/Microsoft.Compute/virtualMachines");
+
+    public record Resource(String name) {
+    }
+
+    @Test
+    void testDelayFollowsPercentileOnceEnoughSamples() {
+        HedgingPolicy policy = new HedgingPolicy.Builder().percentile(0.9).minSamples(10).minDelay(Duration.ZERO).build();
+        for (int i = 1; i <= 9; i++) {
+            policy.recordLatency(VMS, TimeUnit.MILLISECONDS.toNanos(i * 10));
+        }
+        assertNull(policy.hedgeDelay(VMS));
+
+        policy.recordLatency(VMS, TimeUnit.MILLISECONDS.toNanos(1000));
+
+        assertEquals(Duration.ofMillis(90), policy.hedgeDelay(VMS));
+        assertNull(policy.hedgeDelay(URI.create("https://management.azure.com/subscriptions/s/providers/Microsoft.Network/virtualNetworks")));
+    }
+
+    @Test
+    void testMinDelayIsAFloor() {
+        HedgingPolicy policy = new HedgingPolicy.Builder().minSamples(1).minDelay(Duration.ofMillis(50)).build();
+        policy.recordLatency(VMS, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(Duration.ofMillis(50), policy.hedgeDelay(VMS));
+    }
+
+    @Test
+    void testBudgetLimitsHedgesToShareOfRequests() {
+        HedgingPolicy policy = new HedgingPolicy.Builder().budgetRatio(0.05).maxBudget(1).build();
+        int hedged = 0;
+        for (int i = 0; i < 200; i++) {
+            policy.hedgeDelay(VMS);
+            if (policy.tryHedge()) {
+                hedged++;
+            }
+        }
+
+        assertEquals(10, hedged);
+        assertEquals(new HedgingPolicy.Stats(200, 10, 0), policy.getStats());
+    }
+
+    @Test
+    void testSlowRequestIsAnsweredByHedge() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        TestHttpServer server = new TestHttpServer().handle("/", exchange -> {
+            int request = requests.incrementAndGet();
+            if (request == 4) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            TestHttpServer.respond(exchange, 200, "{\"name\":\"vm" + request + "\"}");
+        }).start();
+        HedgingPolicy policy = new HedgingPolicy.Builder().minSamples(3).minDelay(Duration.ofMillis(20)).budgetRatio(1).maxBudget(1).build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().hedgingPolicy(policy).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+            String url = server.baseUrl() + "/subscriptions/s/providers/Microsoft.Compute/virtualMachines/vm";
+            for (int i = 0; i < 3; i++) {
+                client.execute(client.get(url), Resource.class);
+            }
+
+            Resource hedged = client.execute(client.get(url), Resource.class).getBody();
+
+            assertEquals("vm5", hedged.name());
+            assertEquals(1, policy.getStats().hedges());
+            assertEquals(1, policy.getStats().hedgeWins());
+        } finally {
+            release.countDown();
+            server.close();
+        }
+    }
+
+    @Test
+    void testHedgeIsSkippedWhenConcurrencyWindowIsFull() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        TestHttpServer server = new TestHttpServer().handle("/", exchange -> {
+            int request = requests.incrementAndGet();
+            if (request == 4) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            TestHttpServer.respond(exchange, 200, "{\"name\":\"vm" + request + "\"}");
+        }).start();
+        HedgingPolicy policy = new HedgingPolicy.Builder().minSamples(3).minDelay(Duration.ofMillis(20)).budgetRatio(1).maxBudget(1).build();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter.Builder().initialLimit(1).minLimit(1).maxLimit(1).build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().hedgingPolicy(policy).concurrencyLimiter(limiter).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+            String url = server.baseUrl() + "/subscriptions/s/providers/Microsoft.Compute/virtualMachines/vm";
+            for (int i = 0; i < 3; i++) {
+                client.execute(client.get(url), Resource.class);
+            }
+
+            Resource slow = client.execute(client.get(url), Resource.class).getBody();
+
+            assertEquals("vm4", slow.name());
+            assertEquals(4, requests.get());
+            assertEquals(0, policy.getStats().hedges());
+            assertEquals(0, limiter.getLevels().get(0).inFlight());
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    void testHedgeRefusedByRateLimiterDoesNotSpendBudget() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        TestHttpServer server = new TestHttpServer().handle("/", exchange -> {
+            int request = requests.incrementAndGet();
+            if (request == 4) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            TestHttpServer.respond(exchange, 200, "{\"name\":\"vm" + request + "\"}");
+        }).start();
+        HedgingPolicy policy = new HedgingPolicy.Builder().minSamples(3).minDelay(Duration.ofMillis(20)).budgetRatio(1).maxBudget(1).build();
+        ArmRateLimiter rateLimiter = new ArmRateLimiter.Builder().reads(4, 0.001).build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().hedgingPolicy(policy).rateLimiter(rateLimiter).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime);
+            String url = server.baseUrl() + "/subscriptions/s/providers/Microsoft.Compute/virtualMachines/vm";
+            for (int i = 0; i < 3; i++) {
+                client.execute(client.get(url), Resource.class);
+            }
+
+            Resource slow = client.execute(client.get(url), Resource.class).getBody();
+
+            assertEquals("vm4", slow.name());
+            assertEquals(4, requests.get());
+            assertEquals(0, policy.getStats().hedges());
+            assertTrue(policy.tryHedge());
+        } finally {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.azure.simpleSDK.http.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+
+    @Test
+    void testRetriesStopWhenTokensRunOut() {
+        RetryBudget budget = new RetryBudget.Builder().maxTokens(3).build();
+
+        assertTrue(budget.tryRetry());
+        assertTrue(budget.tryRetry());
+        assertTrue(budget.tryRetry());
+        assertFalse(budget.tryRetry());
+
+        RetryBudget.Stats stats = budget.getStats();
+        assertEquals(3, stats.retries());
+        assertEquals(1, stats.rejected());
+        assertEquals(0.0, stats.tokens(), 0.0);
+    }
+
+    @Test
+    void testSuccessesEarnRetriesBack() {
+        RetryBudget budget = new RetryBudget.Builder().maxTokens(1).tokensPerSuccess(0.1).build();
+        assertTrue(budget.tryRetry());
+
+        for (int i = 0; i < 9; i++) {
+            budget.onSuccess();
+        }
+        assertFalse(budget.tryRetry());
+
+        budget.onSuccess();
+        assertTrue(budget.tryRetry());
+    }
+
+    @Test
+    void testDecorrelatedJitterStaysWithinBounds() {
+        RetryPolicy policy = new RetryPolicy.Builder()
+            .baseDelay(Duration.ofMillis(100))
+            .maxDelay(Duration.ofSeconds(2))
+            .backoffStrategy(new DecorrelatedJitterBackoffStrategy())
+            .build();
+        BackoffStrategy strategy = policy.getBackoffStrategy();
+
+        Duration previous = Duration.ZERO;
+        for (int attempt = 1; attempt <= 50; attempt++) {
+            Duration delay = strategy.calculateDelay(attempt, previous, policy, null);
+            assertTrue(delay.toMillis() >= 100, "below base delay: " + delay);
+            assertTrue(delay.toMillis() <= Math.min(2000, Math.max(100, previous.toMillis()) * 3), "above bound: " + delay);
+            previous = delay;
+        }
+    }
+
+    @Test
+    void testRetryAfterHeaderWinsOverBackoff() {
+        RetryPolicy policy = new RetryPolicy.Builder().backoffStrategy(new DecorrelatedJitterBackoffStrategy()).build();
+
+        assertEquals(Duration.ofSeconds(7),
+            policy.getBackoffStrategy().calculateDelay(1, Duration.ZERO, policy, Map.of("retry-after", "7")));
+    }
+}
@@ -0,0 +1,86 @@
+package com.azure.simpleSDK.http.throttling;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final URI NIC = URI.create(
+        "https://management.azure.com/subscriptions/s/resourceGroups/rg/providers/Microsoft.Network/networkInterfaces/nic?api-version=2024-05-01");
+
+    private static AdaptiveConcurrencyLimiter.ProviderLevel level(AdaptiveConcurrencyLimiter limiter) {
+        return limiter.getLevels().get(0);
+    }
+
+    @Test
+    void testRequestsQueueWhileWindowIsFull() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter.Builder().initialLimit(2).maxLimit(2).build();
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire(NIC);
+        limiter.acquire(NIC);
+
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> queued = limiter.acquireAsync(NIC);
+        assertFalse(queued.isDone());
+        assertEquals(1, level(limiter).queued());
+
+        first.onResponse(200);
+        assertTrue(queued.isDone());
+        assertEquals(2, level(limiter).inFlight());
+    }
+
+    @Test
+    void testThrottlingShrinksWindowOncePerWave() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter.Builder().initialLimit(20).backoffRatio(0.5).build();
+        List<AdaptiveConcurrencyLimiter.Permit> wave = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            wave.add(limiter.acquire(NIC));
+        }
+
+        wave.forEach(permit -> permit.onResponse(429));
+        assertEquals(10.0, level(limiter).limit(), 0.001);
+
+        limiter.acquire(NIC).onResponse(503);
+        assertEquals(5.0, level(limiter).limit(), 0.001);
+    }
+
+    @Test
+    void testHealthyResponsesGrowWindowAdditively() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter.Builder().initialLimit(4).build();
+        for (int round = 0; round < 4; round++) {
+            List<AdaptiveConcurrencyLimiter.Permit> window = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                window.add(limiter.acquire(NIC));
+            }
+            window.forEach(permit -> permit.onResponse(200));
+        }
+
+        double limit = level(limiter).limit();
+        assertTrue(limit > 5 && limit < 8, "expected additive growth, got " + limit);
+    }
+
+    @Test
+    void testWindowDoesNotGrowWhenCallerIsTheBottleneck() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter.Builder().initialLimit(10).build();
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire(NIC).onResponse(200);
+        }
+
+        assertEquals(10.0, level(limiter).limit(), 0.001);
+    }
+
+    @Test
+    void testReleasingTwiceDoesNotFreeExtraSlots() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter.Builder().initialLimit(1).maxLimit(1).build();
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(NIC);
+        permit.onIgnored();
+        permit.onIgnored();
+
+        limiter.acquire(NIC);
+        assertFalse(limiter.acquireAsync(NIC).isDone());
+    }
+}
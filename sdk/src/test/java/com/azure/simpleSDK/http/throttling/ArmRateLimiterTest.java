@@ -0,0 +1,74 @@
+package com.azure.simpleSDK.http.throttling;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArmRateLimiterTest {
+
+    private static final URI VM = URI.create(
+        "https://management.azure.com/subscriptions/ABC-123/resourceGroups/rg/providers/Microsoft.Compute/virtualMachines/vm?api-version=2024-03-01");
+    private static final URI TENANT = URI.create("https://management.azure.com/providers/Microsoft.Resources/operations?api-version=2021-04-01");
+
+    @Test
+    void testReserveWaitsOnceBurstIsSpent() {
+        ArmRateLimiter limiter = new ArmRateLimiter.Builder().reads(2, 1).build();
+
+        assertEquals(Duration.ZERO, limiter.reserve("p", VM, "GET"));
+        assertEquals(Duration.ZERO, limiter.reserve("p", VM, "GET"));
+        Duration wait = limiter.reserve("p", VM, "GET");
+
+        assertTrue(wait.toMillis() > 500, "third read should wait for a refill, waited " + wait);
+        assertEquals(Duration.ZERO, limiter.reserve("p", VM, "PUT"), "writes use their own bucket");
+    }
+
+    @Test
+    void testTryReserveNeverGoesIntoDebt() {
+        ArmRateLimiter limiter = new ArmRateLimiter.Builder().reads(1, 1).build();
+
+        assertTrue(limiter.tryReserve("p", VM, "GET"));
+        assertFalse(limiter.tryReserve("p", VM, "GET"));
+
+        assertTrue(limiter.reserve("p", VM, "GET").toMillis() < 1000, "a refused try must not be charged");
+    }
+
+    @Test
+    void testRemainingHeaderLowersBucket() {
+        ArmRateLimiter limiter = new ArmRateLimiter.Builder().build();
+        limiter.reserve("p", VM, "GET");
+        limiter.onResponse("p", VM, "GET", 200, Map.of(
+            "x-ms-ratelimit-remaining-subscription-reads", "3",
+            "x-ms-ratelimit-remaining-subscription-writes", "1"));
+
+        List<ArmRateLimiter.BucketLevel> levels = limiter.getBucketLevels();
+        assertEquals(1, levels.size());
+        ArmRateLimiter.BucketLevel reads = levels.get(0);
+        assertEquals("subscription:abc-123", reads.scope());
+        assertEquals(ArmRateLimiter.Kind.READS, reads.kind());
+        assertEquals(Long.valueOf(3), reads.serverRemaining());
+        assertTrue(reads.tokens() < 4);
+    }
+
+    @Test
+    void testThrottledResponseDrainsBucket() {
+        ArmRateLimiter limiter = new ArmRateLimiter.Builder().deletes(100, 1).build();
+        limiter.onResponse("p", VM, "DELETE", 429, Map.of());
+
+        assertTrue(limiter.reserve("p", VM, "DELETE").toMillis() > 500);
+    }
+
+    @Test
+    void testRequestsOutsideSubscriptionUseTenantBucketPerPrincipal() {
+        ArmRateLimiter limiter = new ArmRateLimiter.Builder().reads(1, 1).build();
+
+        assertEquals(Duration.ZERO, limiter.reserve("alice", TENANT, "GET"));
+        assertEquals(Duration.ZERO, limiter.reserve("bob", TENANT, "GET"));
+        assertTrue(limiter.reserve("alice", TENANT, "GET").toMillis() > 500);
+        assertTrue(limiter.getBucketLevels().stream().allMatch(level -> level.scope().equals("tenant")));
+    }
+}
@@ -0,0 +1,106 @@
+package com.azure.simpleSDK.http.throttling;
+
+import com.azure.simpleSDK.http.AzureHttpClient;
+import com.azure.simpleSDK.http.AzureSdkRuntime;
+import com.azure.simpleSDK.http.TestHttpServer;
+import com.azure.simpleSDK.http.exceptions.AzureCircuitOpenException;
+import com.azure.simpleSDK.http.retry.RetryPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final URI COMPUTE = URI.create(
+        "https://management.azure.com/subscriptions/s/providers/Microsoft.Compute/virtualMachines?api-version=2024-03-01");
+    private static final URI NETWORK = URI.create(
+        "https://management.azure.com/subscriptions/s/providers/Microsoft.Network/virtualNetworks?api-version=2024-05-01");
+
+    public record Resource(String name) {
+    }
+
+    @Test
+    void testOpensAfterConsecutiveFailuresPerEndpoint() throws Exception {
+        List<String> transitions = new ArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker.Builder()
+            .failureThreshold(3)
+            .listener((endpoint, from, to) -> transitions.add(endpoint + " " + from + "->" + to))
+            .build();
+
+        breaker.acquire(COMPUTE).onResponse(500);
+        breaker.acquire(COMPUTE).onResponse(200);
+        breaker.acquire(COMPUTE).onResponse(503);
+        breaker.acquire(COMPUTE).onError(new HttpTimeoutException("slow"));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(COMPUTE));
+        breaker.acquire(COMPUTE).onResponse(502);
+
+        AzureCircuitOpenException open = assertThrows(AzureCircuitOpenException.class, () -> breaker.acquire(COMPUTE));
+        assertEquals("management.azure.com/microsoft.compute", open.getEndpoint());
+        assertTrue(open.getRetryAfter().toSeconds() > 20);
+        assertEquals(List.of("management.azure.com/microsoft.compute CLOSED->OPEN"), transitions);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(NETWORK));
+        breaker.acquire(NETWORK).onResponse(200);
+    }
+
+    @Test
+    void testHalfOpenProbeClosesOrReopensCircuit() throws Exception {
+        List<CircuitBreaker.State> states = new ArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker.Builder()
+            .failureThreshold(1)
+            .openDuration(Duration.ZERO)
+            .listener((endpoint, from, to) -> states.add(to))
+            .build();
+
+        breaker.acquire(COMPUTE).onResponse(500);
+        CircuitBreaker.Ticket probe = breaker.acquire(COMPUTE);
+        AzureCircuitOpenException busy = assertThrows(AzureCircuitOpenException.class, () -> breaker.acquire(COMPUTE));
+        assertEquals(Duration.ZERO, busy.getRetryAfter());
+
+        probe.onError(new IOException("reset"));
+        breaker.acquire(COMPUTE).onResponse(200);
+
+        assertEquals(List.of(
+            CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.OPEN,
+            CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED), states);
+    }
+
+    @Test
+    void testLateResultsFromBeforeTransitionAreIgnored() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker.Builder().failureThreshold(1).openDuration(Duration.ofMinutes(1)).build();
+        CircuitBreaker.Ticket slow = breaker.acquire(COMPUTE);
+        breaker.acquire(COMPUTE).onResponse(500);
+
+        slow.onResponse(200);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(COMPUTE));
+    }
+
+    @Test
+    void testOpenCircuitStopsRetries() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        TestHttpServer server = new TestHttpServer().handle("/", exchange -> {
+            requests.incrementAndGet();
+            TestHttpServer.respond(exchange, 503);
+        }).start();
+        CircuitBreaker breaker = new CircuitBreaker.Builder().failureThreshold(2).build();
+        RetryPolicy retries = new RetryPolicy.Builder().maxAttempts(5).baseDelay(Duration.ofMillis(10)).maxDelay(Duration.ofMillis(20)).build();
+        try (AzureSdkRuntime runtime = new AzureSdkRuntime.Builder().circuitBreaker(breaker).build()) {
+            AzureHttpClient client = new AzureHttpClient(null, runtime, retries, false, null);
+            String url = server.baseUrl() + "/subscriptions/s/providers/Microsoft.Compute/virtualMachines/vm";
+
+            assertThrows(AzureCircuitOpenException.class, () -> client.execute(client.get(url), Resource.class));
+            assertThrows(AzureCircuitOpenException.class, () -> client.execute(client.get(url), Resource.class));
+            assertEquals(2, requests.get());
+        } finally {
+            server.close();
+        }
+    }
+}
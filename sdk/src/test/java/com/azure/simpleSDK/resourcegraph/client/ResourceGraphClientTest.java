@@ -0,0 +1,134 @@
+package com.azure.simpleSDK.resourcegraph.client;
+
+import com.azure.simpleSDK.http.AzureHttpClient;
+import com.azure.simpleSDK.http.TestHttpServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceGraphClientTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public record Resource(String id, String name) {
+    }
+
+    private TestHttpServer server;
+    private ResourceGraphClient resourceGraph;
+    private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        server = new TestHttpServer().handle("/providers/Microsoft.ResourceGraph/resources", this::handleQuery).start();
+        AzureHttpClient client = new AzureHttpClient(null, true);
+        resourceGraph = new ResourceGraphClient(client, server.baseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Answers two pages per query: {@code $top} rows, then a single last row. Rows are named after the
+     * first subscription in scope and the page.
+     */
+    private void handleQuery(HttpExchange exchange) throws IOException {
+        JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+        requests.add(request);
+        String scope = request.path("subscriptions").path(0).asText("tenant");
+        boolean firstPage = request.path("options").path("$skipToken").isMissingNode();
+        int rows = firstPage ? request.path("options").path("$top").asInt() : 1;
+
+        ObjectNode page = MAPPER.createObjectNode();
+        page.put("totalRecords", request.path("options").path("$top").asInt() + 1);
+        page.put("count", rows);
+        page.put("resultTruncated", "false");
+        if (firstPage) {
+            page.put("$skipToken", "page2");
+        }
+        ArrayNode data = page.putArray("data");
+        for (int i = 0; i < rows; i++) {
+            data.addObject()
+                .put("id", "/subscriptions/" + scope + "/resourceGroups/rg/providers/Microsoft.Network/networkSecurityGroups/nsg" + i)
+                .put("name", scope + (firstPage ? "-p1-" : "-p2-") + i)
+                .put("type", "microsoft.network/networksecuritygroups")
+                .put("subscriptionId", scope);
+        }
+        page.putArray("facets");
+
+        TestHttpServer.respond(exchange, 200, MAPPER.writeValueAsBytes(page));
+    }
+
+    @Test
+    void testRowsAreStreamedLazilyAcrossSkipTokenPages() {
+        ResourceGraphQuery query = new ResourceGraphQuery.Builder("Resources | where type =~ 'microsoft.network/networksecuritygroups'")
+            .pageSize(2)
+            .build();
+
+        Iterator<Resource> rows = resourceGraph.query(query, Resource.class).iterator();
+        assertEquals("tenant-p1-0", rows.next().name());
+        assertEquals(1, requests.size());
+        List<String> names = new ArrayList<>();
+        rows.forEachRemaining(row -> names.add(row.name()));
+
+        assertEquals(List.of("tenant-p1-1", "tenant-p2-0"), names);
+        assertEquals(2, requests.size());
+        JsonNode first = requests.get(0);
+        assertFalse(first.has("subscriptions"));
+        assertEquals(2, first.path("options").path("$top").asInt());
+        assertEquals("objectArray", first.path("options").path("resultFormat").asText());
+        assertEquals("page2", requests.get(1).path("options").path("$skipToken").asText());
+    }
+
+    @Test
+    void testClosingStreamStopsPaging() {
+        ResourceGraphQuery query = new ResourceGraphQuery.Builder("Resources | project id, name").pageSize(2).build();
+
+        Stream<Resource> stream = resourceGraph.query(query, Resource.class);
+        Iterator<Resource> rows = stream.iterator();
+        rows.next();
+        rows.next();
+        stream.close();
+
+        assertFalse(rows.hasNext());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void testLargeSubscriptionScopesAreQueriedInChunks() {
+        List<String> subscriptions = IntStream.range(0, 2500).mapToObj(i -> "sub" + i).collect(Collectors.toList());
+        ResourceGraphQuery query = new ResourceGraphQuery.Builder("Resources | project id, name")
+            .subscriptions(subscriptions)
+            .pageSize(1)
+            .build();
+
+        try (Stream<JsonNode> rows = resourceGraph.query(query)) {
+            assertEquals(List.of("sub0-p1-0", "sub0-p2-0", "sub1000-p1-0", "sub1000-p2-0", "sub2000-p1-0", "sub2000-p2-0"),
+                rows.map(row -> row.path("name").asText()).collect(Collectors.toList()));
+        }
+
+        assertEquals(6, requests.size());
+        assertEquals(List.of(1000, 1000, 500), requests.stream()
+            .filter(request -> request.path("options").path("$skipToken").isMissingNode())
+            .map(request -> request.path("subscriptions").size())
+            .sorted((a, b) -> b - a)
+            .collect(Collectors.toList()));
+    }
+}